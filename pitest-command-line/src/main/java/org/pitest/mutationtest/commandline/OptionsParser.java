@@ -14,15 +14,19 @@
  */
 package org.pitest.mutationtest.commandline;
 
+import static org.pitest.mutationtest.config.ConfigOption.ADAPTIVE_TIMEOUTS;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.CHECKPOINT_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_DATA_SHARING;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
+import static org.pitest.mutationtest.config.ConfigOption.FAIL_FAST;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
@@ -31,20 +35,31 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_GROUP_SIZE;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_TEST_THREADS;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_TIME_BUDGET;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATE_STATIC_INITIALIZERS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
+import static org.pitest.mutationtest.config.ConfigOption.ORDER_TESTS_BY_KILL_HISTORY;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.RESUME;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLE_INTERVAL_WIDTH;
+import static org.pitest.mutationtest.config.ConfigOption.SKIP_SUBSUMED_MUTANTS;
+import static org.pitest.mutationtest.config.ConfigOption.SPARE_SLAVES;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
 import static org.pitest.mutationtest.config.ConfigOption.THREADS;
+import static org.pitest.mutationtest.config.ConfigOption.TIME_BUDGET;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
+import static org.pitest.mutationtest.config.ConfigOption.TRANSPORT;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
 
@@ -66,6 +81,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.process.Transport;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
 import org.pitest.util.Unchecked;
@@ -83,14 +99,24 @@ public class OptionsParser {
   private final OptionSpec<Integer>                  threadsSpec;
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
+  private final OptionSpec<File>                     checkpointFileSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> resumeSpec;
   private final OptionSpec<File>                     historyInputSpec;
   private final OptionSpec<String>                   mutators;
   private final OptionSpec<String>                   jvmArgs;
   private final ArgumentAcceptingOptionSpec<Boolean> mutateStatics;
   private final OptionSpec<Float>                    timeoutFactorSpec;
   private final OptionSpec<Long>                     timeoutConstSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> adaptiveTimeoutsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantTimeBudgetSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantSchemataSpec;
   private final OptionSpec<String>                   excludedMethodsSpec;
   private final OptionSpec<Integer>                  maxMutationsPerClassSpec;
+  private final OptionSpec<Integer>                  mutantGroupSizeSpec;
+  private final OptionSpec<Integer>                  mutantTestThreadsSpec;
+  private final OptionSpec<Integer>                  spareSlavesSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> classDataSharingSpec;
+  private final OptionSpec<Transport>                transportSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> verboseSpec;
   private final OptionSpec<String>                   excludedClassesSpec;
   private final OptionSpec<String>                   outputFormatSpec;
@@ -104,6 +130,11 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> coverageThreshHoldSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> failFastSpec;
+  private final OptionSpec<Integer>                  timeBudgetSpec;
+  private final OptionSpec<Integer>                  sampleIntervalWidthSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> skipSubsumedMutantsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> orderTestsByKillHistorySpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
   private final OptionSpec<String>                   javaExecutable;
@@ -157,6 +188,34 @@ public class OptionsParser {
         .defaultsTo(MAX_MUTATIONS_PER_CLASS.getDefault(Integer.class))
         .describedAs("max number of mutations to allow for each class");
 
+    this.mutantGroupSizeSpec = parserAccepts(MUTANT_GROUP_SIZE)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(MUTANT_GROUP_SIZE.getDefault(Integer.class))
+        .describedAs("max number of mutants to run tests against at once");
+
+    this.mutantTestThreadsSpec = parserAccepts(MUTANT_TEST_THREADS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(MUTANT_TEST_THREADS.getDefault(Integer.class))
+        .describedAs(
+            "number of threads to run the tests for a mutant across, for tests that share no state");
+
+    this.spareSlavesSpec = parserAccepts(SPARE_SLAVES).withRequiredArg()
+        .ofType(Integer.class)
+        .defaultsTo(SPARE_SLAVES.getDefault(Integer.class))
+        .describedAs("number of slaves to boot ahead of need");
+
+    this.classDataSharingSpec = parserAccepts(CLASS_DATA_SHARING)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to share the classes loaded by slaves through class data sharing archives");
+
+    this.transportSpec = parserAccepts(TRANSPORT).withRequiredArg()
+        .ofType(Transport.class)
+        .defaultsTo(TRANSPORT.getDefault(Transport.class))
+        .describedAs("how slaves send their results back, SOCKET or SHARED_MEMORY");
+
     this.sourceDirSpec = parserAccepts(SOURCE_DIR).withRequiredArg()
         .ofType(File.class).withValuesSeparatedBy(',')
         .describedAs("comma separated list of source directories").required();
@@ -197,6 +256,27 @@ public class OptionsParser {
         .describedAs("constant to apply to calculate maximum test duration")
         .defaultsTo(TIMEOUT_CONST.getDefault(Long.class));
 
+    this.adaptiveTimeoutsSpec = parserAccepts(ADAPTIVE_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to adjust timeouts based on test run times observed during mutation analysis");
+
+    this.mutantTimeBudgetSpec = parserAccepts(MUTANT_TIME_BUDGET)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to apply a single timeout to all tests run against a mutant");
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to switch between mutants within a single meta mutant class");
+
     this.excludedMethodsSpec = parserAccepts(EXCLUDED_METHOD)
         .withRequiredArg()
         .ofType(String.class)
@@ -272,6 +352,17 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.checkpointFileSpec = parserAccepts(CHECKPOINT_FILE)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("File to record the progress of the run in");
+
+    this.resumeSpec = parserAccepts(RESUME)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to resume from the checkpoint left by a killed run");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -282,6 +373,39 @@ public class OptionsParser {
         .describedAs("Line coverage below which to throw an error")
         .defaultsTo(COVERAGE_THRESHOLD.getDefault(Integer.class));
 
+    this.failFastSpec = parserAccepts(FAIL_FAST)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to stop once it is known if the thresholds will be met");
+
+    this.timeBudgetSpec = parserAccepts(TIME_BUDGET).withRequiredArg()
+        .ofType(Integer.class)
+        .defaultsTo(TIME_BUDGET.getDefault(Integer.class))
+        .describedAs("minutes after which to leave remaining mutations unanalysed");
+
+    this.sampleIntervalWidthSpec = parserAccepts(SAMPLE_INTERVAL_WIDTH)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(SAMPLE_INTERVAL_WIDTH.getDefault(Integer.class))
+        .describedAs(
+            "width in percentage points of the mutation score confidence interval at which to stop sampling mutations");
+
+    this.skipSubsumedMutantsSpec = parserAccepts(SKIP_SUBSUMED_MUTANTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to skip mutations of a conditional subsumed by another mutation of it");
+
+    this.orderTestsByKillHistorySpec = parserAccepts(
+        ORDER_TESTS_BY_KILL_HISTORY)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to run first the tests that killed the most mutations in the run recorded in history");
+
     this.mutationEngine = parserAccepts(MUTATION_ENGINE).withRequiredArg()
         .ofType(String.class).describedAs("mutation engine to use")
         .defaultsTo(MUTATION_ENGINE.getDefault(String.class));
@@ -342,12 +466,24 @@ public class OptionsParser {
     data.setNumberOfThreads(this.threadsSpec.value(userArgs));
     data.setTimeoutFactor(this.timeoutFactorSpec.value(userArgs));
     data.setTimeoutConstant(this.timeoutConstSpec.value(userArgs));
+    data.setAdaptiveTimeouts(userArgs.has(this.adaptiveTimeoutsSpec)
+        && userArgs.valueOf(this.adaptiveTimeoutsSpec));
+    data.setMutantTimeBudget(userArgs.has(this.mutantTimeBudgetSpec)
+        && userArgs.valueOf(this.mutantTimeBudgetSpec));
+    data.setMutantSchemata(userArgs.has(this.mutantSchemataSpec)
+        && userArgs.valueOf(this.mutantSchemataSpec));
     data.setLoggingClasses(this.avoidCallsSpec.values(userArgs));
     data.setExcludedMethods(FCollection.map(
         this.excludedMethodsSpec.values(userArgs), Glob.toGlobPredicate()));
     data.setExcludedClasses(FCollection.map(
         this.excludedClassesSpec.values(userArgs), Glob.toGlobPredicate()));
     data.setMaxMutationsPerClass(this.maxMutationsPerClassSpec.value(userArgs));
+    data.setMutantGroupSize(this.mutantGroupSizeSpec.value(userArgs));
+    data.setMutantTestThreads(this.mutantTestThreadsSpec.value(userArgs));
+    data.setSpareSlaves(this.spareSlavesSpec.value(userArgs));
+    data.setClassDataSharing(userArgs.has(this.classDataSharingSpec)
+        && userArgs.valueOf(this.classDataSharingSpec));
+    data.setTransport(this.transportSpec.value(userArgs));
     data.setVerbose(userArgs.has(this.verboseSpec)
         && userArgs.valueOf(this.verboseSpec));
 
@@ -358,8 +494,20 @@ public class OptionsParser {
 
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setCheckpointFile(this.checkpointFileSpec.value(userArgs));
+    data.setResume(userArgs.has(this.resumeSpec)
+        && userArgs.valueOf(this.resumeSpec));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
+    data.setFailFast(userArgs.has(this.failFastSpec)
+        && userArgs.valueOf(this.failFastSpec));
+    data.setTimeBudget(this.timeBudgetSpec.value(userArgs));
+    data.setSampleIntervalWidth(this.sampleIntervalWidthSpec.value(userArgs));
+    data.setSkipSubsumedMutants(userArgs.has(this.skipSubsumedMutantsSpec)
+        && userArgs.valueOf(this.skipSubsumedMutantsSpec));
+    data.setOrderTestsByKillHistory(userArgs
+        .has(this.orderTestsByKillHistorySpec)
+        && userArgs.valueOf(this.orderTestsByKillHistorySpec));
     data.setMutationEngine(this.mutationEngine.value(userArgs));
 
     data.setExportLineCoverage(userArgs.has(this.exportLineCoverageSpec)
@@ -41,6 +41,7 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.engine.gregor.GregorMutationEngine;
 import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.process.Transport;
 
 public class OptionsParserTest {
 
@@ -185,6 +186,105 @@ public class OptionsParserTest {
     assertEquals(42, actual.getTimeoutConstant());
   }
 
+  @Test
+  public void shouldParseAdaptiveTimeoutsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--adaptiveTimeouts");
+    assertTrue(actual.isAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldNotUseAdaptiveTimeoutsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldParseMutantTimeBudgetFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantTimeBudget");
+    assertTrue(actual.isMutantTimeBudget());
+  }
+
+  @Test
+  public void shouldNotUseMutantTimeBudgetWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isMutantTimeBudget());
+  }
+
+  @Test
+  public void shouldParseMutantSchemataFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata");
+    assertTrue(actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldNotUseMutantSchemataWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseMutantGroupSize() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantGroupSize",
+        "4");
+    assertEquals(4, actual.getMutantGroupSize());
+  }
+
+  @Test
+  public void shouldRunTestsAgainstOneMutantAtATimeByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getMutantGroupSize());
+  }
+
+  @Test
+  public void shouldParseMutantTestThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantTestThreads",
+        "3");
+    assertEquals(3, actual.getMutantTestThreads());
+  }
+
+  @Test
+  public void shouldRunTestsForAMutantOneAtATimeByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getMutantTestThreads());
+  }
+
+  @Test
+  public void shouldParseNumberOfSpareSlaves() {
+    final ReportOptions actual = parseAddingRequiredArgs("--spareSlaves", "2");
+    assertEquals(2, actual.getSpareSlaves());
+  }
+
+  @Test
+  public void shouldBootNoSpareSlavesByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getSpareSlaves());
+  }
+
+  @Test
+  public void shouldParseClassDataSharingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--classDataSharing");
+    assertTrue(actual.isClassDataSharing());
+  }
+
+  @Test
+  public void shouldNotShareClassDataWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isClassDataSharing());
+  }
+
+  @Test
+  public void shouldParseTransport() {
+    final ReportOptions actual = parseAddingRequiredArgs("--transport",
+        "SHARED_MEMORY");
+    assertEquals(Transport.SHARED_MEMORY, actual.getTransport());
+  }
+
+  @Test
+  public void shouldSendResultsThroughSocketByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(Transport.SOCKET, actual.getTransport());
+  }
+
   @Test
   public void shouldParseCommaSeparatedListOfTargetTestClassGlobs() {
     final ReportOptions actual = parseAddingRequiredArgs("--targetTest",
@@ -353,6 +453,26 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldParseCheckpointFile() {
+    final ReportOptions actual = parseAddingRequiredArgs("--checkpointFile",
+        "foo");
+    assertEquals(new File("foo"), actual.getCheckpointFile());
+  }
+
+  @Test
+  public void shouldParseResumeFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--resume");
+    assertTrue(actual.isResume());
+  }
+
+  @Test
+  public void shouldNotResumeWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isResume());
+    assertNull(actual.getCheckpointFile());
+  }
+
   @Test
   public void shouldParseMutationThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--mutationThreshold",
@@ -367,6 +487,67 @@ public class OptionsParserTest {
     assertEquals(42, actual.getCoverageThreshold());
   }
 
+  @Test
+  public void shouldParseFailFastFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--failFast");
+    assertTrue(actual.isFailFast());
+  }
+
+  @Test
+  public void shouldNotFailFastWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isFailFast());
+  }
+
+  @Test
+  public void shouldParseTimeBudget() {
+    final ReportOptions actual = parseAddingRequiredArgs("--timeBudget", "30");
+    assertEquals(30, actual.getTimeBudget());
+  }
+
+  @Test
+  public void shouldHaveNoTimeBudgetByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getTimeBudget());
+  }
+
+  @Test
+  public void shouldParseSampleIntervalWidth() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--sampleIntervalWidth", "5");
+    assertEquals(5, actual.getSampleIntervalWidth());
+  }
+
+  @Test
+  public void shouldNotSampleByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getSampleIntervalWidth());
+  }
+
+  @Test
+  public void shouldParseSkipSubsumedMutantsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--skipSubsumedMutants");
+    assertTrue(actual.isSkipSubsumedMutants());
+  }
+
+  @Test
+  public void shouldNotSkipSubsumedMutantsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isSkipSubsumedMutants());
+  }
+
+  @Test
+  public void shouldParseOrderTestsByKillHistoryFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--orderTestsByKillHistory");
+    assertTrue(actual.isOrderTestsByKillHistory());
+  }
+
+  @Test
+  public void shouldNotOrderTestsByKillHistoryWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isOrderTestsByKillHistory());
+  }
+
   @Test
   public void shouldDefaultToGregorEngineWhenNoOptionSupplied() {
     final ReportOptions actual = parseAddingRequiredArgs();
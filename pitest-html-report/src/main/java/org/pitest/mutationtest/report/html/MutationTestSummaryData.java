@@ -24,6 +24,7 @@ import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
 import org.pitest.functional.F2;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 
 public class MutationTestSummaryData {
@@ -115,7 +116,13 @@ public class MutationTestSummaryData {
   }
 
   private long getNumberOfMutations() {
-    return this.mutations.size();
+    int count = 0;
+    for (final MutationResult each : this.mutations) {
+      if (each.getStatus() != DetectionStatus.SUBSUMED) {
+        count++;
+      }
+    }
+    return count;
   }
 
   private long getNumberOfMutationsDetected() {
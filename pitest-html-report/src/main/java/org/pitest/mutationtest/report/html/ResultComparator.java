@@ -7,6 +7,7 @@ import static org.pitest.mutationtest.DetectionStatus.NOT_STARTED;
 import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.RUN_ERROR;
 import static org.pitest.mutationtest.DetectionStatus.STARTED;
+import static org.pitest.mutationtest.DetectionStatus.SUBSUMED;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
@@ -32,6 +33,7 @@ class ResultComparator implements Comparator<MutationResult>, Serializable {
     RANK.put(STARTED, 1);
     RANK.put(RUN_ERROR, 0);
     RANK.put(NO_COVERAGE, 0);
+    RANK.put(SUBSUMED, 5);
   }
 
 
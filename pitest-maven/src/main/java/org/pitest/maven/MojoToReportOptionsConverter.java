@@ -31,6 +31,7 @@ import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.process.Transport;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
 
@@ -113,6 +114,23 @@ public class MojoToReportOptionsConverter {
 
     data.setMutators(determineMutators());
     data.setTimeoutConstant(this.mojo.getTimeoutConstant());
+    data.setAdaptiveTimeouts(this.mojo.isAdaptiveTimeouts());
+    data.setMutantTimeBudget(this.mojo.isMutantTimeBudget());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setMutantGroupSize(this.mojo.getMutantGroupSize());
+    data.setMutantTestThreads(this.mojo.getMutantTestThreads());
+    data.setSpareSlaves(this.mojo.getSpareSlaves());
+    data.setClassDataSharing(this.mojo.isClassDataSharing());
+    if (this.mojo.getTransport() != null) {
+      data.setTransport(Transport.valueOf(this.mojo.getTransport()));
+    }
+    data.setMutationThreshold(this.mojo.getMutationThreshold());
+    data.setCoverageThreshold(this.mojo.getCoverageThreshold());
+    data.setFailFast(this.mojo.isFailFast());
+    data.setTimeBudget(this.mojo.getTimeBudget());
+    data.setSampleIntervalWidth(this.mojo.getSampleIntervalWidth());
+    data.setSkipSubsumedMutants(this.mojo.isSkipSubsumedMutants());
+    data.setOrderTestsByKillHistory(this.mojo.isOrderTestsByKillHistory());
     data.setTimeoutFactor(this.mojo.getTimeoutFactor());
     if (hasValue(this.mojo.getAvoidCallsTo())) {
       data.setLoggingClasses(this.mojo.getAvoidCallsTo());
@@ -134,6 +152,8 @@ public class MojoToReportOptionsConverter {
 
     data.setHistoryInputLocation(this.mojo.getHistoryInputFile());
     data.setHistoryOutputLocation(this.mojo.getHistoryOutputFile());
+    data.setCheckpointFile(this.mojo.getCheckpointFile());
+    data.setResume(this.mojo.isResume());
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
@@ -103,6 +103,21 @@ public class PitMojo extends AbstractMojo {
    */
   private File                        historyInputFile;
 
+  /**
+   * File to record the progress of the run in, so that it can be resumed if
+   * killed
+   *
+   * @parameter expression="${checkpointFile}"
+   */
+  private File                        checkpointFile;
+
+  /**
+   * Resume from the checkpoint left by a run that was killed
+   *
+   * @parameter default-value="false" expression="${resume}"
+   */
+  private boolean                     resume;
+
   /**
    * Maximum distance to look from test to class. Relevant when mutating static
    * initializers
@@ -153,6 +168,64 @@ public class PitMojo extends AbstractMojo {
    */
   private long                        timeoutConstant;
 
+  /**
+   * Adjust timeouts based on test run times observed during mutation analysis
+   *
+   * @parameter default-value="false" expression="${adaptiveTimeouts}"
+   */
+  private boolean                     adaptiveTimeouts;
+
+  /**
+   * Apply a single timeout to all tests run against a mutant
+   *
+   * @parameter default-value="false" expression="${mutantTimeBudget}"
+   */
+  private boolean                     mutantTimeBudget;
+
+  /**
+   * Switch between mutants within a single meta mutant class
+   *
+   * @parameter default-value="false" expression="${mutantSchemata}"
+   */
+  private boolean                     mutantSchemata;
+
+  /**
+   * Maximum number of mutants to run tests against at once
+   *
+   * @parameter default-value="1" expression="${mutantGroupSize}"
+   */
+  private int                         mutantGroupSize;
+
+  /**
+   * Number of threads to run the tests for a mutant across. Only safe for
+   * tests that share no state.
+   *
+   * @parameter default-value="1" expression="${mutantTestThreads}"
+   */
+  private int                         mutantTestThreads;
+
+  /**
+   * Number of slave JVMs to boot ahead of need
+   *
+   * @parameter default-value="0" expression="${spareSlaves}"
+   */
+  private int                         spareSlaves;
+
+  /**
+   * Share the classes loaded by slave JVMs through class data sharing
+   * archives
+   *
+   * @parameter default-value="false" expression="${classDataSharing}"
+   */
+  private boolean                     classDataSharing;
+
+  /**
+   * How slave JVMs send their results back, SOCKET or SHARED_MEMORY
+   *
+   * @parameter default-value="SOCKET" expression="${transport}"
+   */
+  private String                      transport;
+
   /**
    * Maximum number of mutations to allow per class
    *
@@ -237,6 +310,46 @@ public class PitMojo extends AbstractMojo {
    */
   private int                         coverageThreshold;
 
+  /**
+   * Stop as soon as it is known whether the thresholds will be met
+   *
+   * @parameter default-value="false" expression="${failFast}"
+   */
+  private boolean                     failFast;
+
+  /**
+   * Minutes after which to stop, leaving the remaining mutations to be
+   * analysed by the next run. Zero for no limit.
+   *
+   * @parameter default-value="0" expression="${timeBudget}"
+   */
+  private int                         timeBudget;
+
+  /**
+   * Width, in percentage points, of the confidence interval for the mutation
+   * score at which to stop analysing a random sample of the mutations. Zero to
+   * analyse every mutation.
+   *
+   * @parameter default-value="0" expression="${sampleIntervalWidth}"
+   */
+  private int                         sampleIntervalWidth;
+
+  /**
+   * Do not analyse mutations of a conditional that are subsumed by another
+   * mutation of it. Subsumed mutations are reported but not scored.
+   *
+   * @parameter default-value="false" expression="${skipSubsumedMutants}"
+   */
+  private boolean                     skipSubsumedMutants;
+
+  /**
+   * Run first the tests that killed the most mutations of the same class and
+   * mutator in the run recorded in history
+   *
+   * @parameter default-value="false" expression="${orderTestsByKillHistory}"
+   */
+  private boolean                     orderTestsByKillHistory;
+
   /**
    * Path to java executable to use when running tests. Will default to
    * executable in JAVA_HOME if none set.
@@ -467,6 +580,66 @@ public class PitMojo extends AbstractMojo {
     return this.timeoutConstant;
   }
 
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public boolean isMutantTimeBudget() {
+    return this.mutantTimeBudget;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public int getMutantGroupSize() {
+    return this.mutantGroupSize;
+  }
+
+  public int getMutantTestThreads() {
+    return this.mutantTestThreads;
+  }
+
+  public int getSpareSlaves() {
+    return this.spareSlaves;
+  }
+
+  public int getMutationThreshold() {
+    return this.mutationThreshold;
+  }
+
+  public int getCoverageThreshold() {
+    return this.coverageThreshold;
+  }
+
+  public boolean isFailFast() {
+    return this.failFast;
+  }
+
+  public int getTimeBudget() {
+    return this.timeBudget;
+  }
+
+  public int getSampleIntervalWidth() {
+    return this.sampleIntervalWidth;
+  }
+
+  public boolean isSkipSubsumedMutants() {
+    return this.skipSubsumedMutants;
+  }
+
+  public boolean isOrderTestsByKillHistory() {
+    return this.orderTestsByKillHistory;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public String getTransport() {
+    return this.transport;
+  }
+
   public int getMaxMutationsPerClass() {
     return this.maxMutationsPerClass;
   }
@@ -527,6 +700,14 @@ public class PitMojo extends AbstractMojo {
     return this.historyInputFile;
   }
 
+  public File getCheckpointFile() {
+    return this.checkpointFile;
+  }
+
+  public boolean isResume() {
+    return this.resume;
+  }
+
   public boolean isExportLineCoverage() {
     return this.exportLineCoverage;
   }
@@ -36,6 +36,7 @@ import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.process.Transport;
 import org.pitest.util.Unchecked;
 
 public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
@@ -129,6 +130,82 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(42, actual.getTimeoutConstant());
   }
 
+  public void testParsesAdaptiveTimeoutsFlag() {
+    final ReportOptions actual = parseConfig("<adaptiveTimeouts>true</adaptiveTimeouts>");
+    assertTrue(actual.isAdaptiveTimeouts());
+  }
+
+  public void testParsesMutantTimeBudgetFlag() {
+    final ReportOptions actual = parseConfig("<mutantTimeBudget>true</mutantTimeBudget>");
+    assertTrue(actual.isMutantTimeBudget());
+  }
+
+  public void testParsesThresholds() {
+    final ReportOptions actual = parseConfig("<mutationThreshold>42</mutationThreshold><coverageThreshold>21</coverageThreshold>");
+    assertEquals(42, actual.getMutationThreshold());
+    assertEquals(21, actual.getCoverageThreshold());
+  }
+
+  public void testParsesFailFastFlag() {
+    final ReportOptions actual = parseConfig("<failFast>true</failFast>");
+    assertTrue(actual.isFailFast());
+  }
+
+  public void testParsesTimeBudget() {
+    final ReportOptions actual = parseConfig("<timeBudget>30</timeBudget>");
+    assertEquals(30, actual.getTimeBudget());
+  }
+
+  public void testParsesSampleIntervalWidth() {
+    final ReportOptions actual = parseConfig("<sampleIntervalWidth>5</sampleIntervalWidth>");
+    assertEquals(5, actual.getSampleIntervalWidth());
+  }
+
+  public void testParsesSkipSubsumedMutantsFlag() {
+    final ReportOptions actual = parseConfig("<skipSubsumedMutants>true</skipSubsumedMutants>");
+    assertTrue(actual.isSkipSubsumedMutants());
+  }
+
+  public void testParsesOrderTestsByKillHistoryFlag() {
+    final ReportOptions actual = parseConfig("<orderTestsByKillHistory>true</orderTestsByKillHistory>");
+    assertTrue(actual.isOrderTestsByKillHistory());
+  }
+
+  public void testDoesNotOrderTestsByKillHistoryByDefault() {
+    final ReportOptions actual = parseConfig("");
+    assertFalse(actual.isOrderTestsByKillHistory());
+  }
+
+  public void testParsesMutantSchemataFlag() {
+    final ReportOptions actual = parseConfig("<mutantSchemata>true</mutantSchemata>");
+    assertTrue(actual.isMutantSchemata());
+  }
+
+  public void testParsesMutantGroupSize() {
+    final ReportOptions actual = parseConfig("<mutantGroupSize>4</mutantGroupSize>");
+    assertEquals(4, actual.getMutantGroupSize());
+  }
+
+  public void testParsesMutantTestThreads() {
+    final ReportOptions actual = parseConfig("<mutantTestThreads>3</mutantTestThreads>");
+    assertEquals(3, actual.getMutantTestThreads());
+  }
+
+  public void testParsesNumberOfSpareSlaves() {
+    final ReportOptions actual = parseConfig("<spareSlaves>2</spareSlaves>");
+    assertEquals(2, actual.getSpareSlaves());
+  }
+
+  public void testParsesClassDataSharingFlag() {
+    final ReportOptions actual = parseConfig("<classDataSharing>true</classDataSharing>");
+    assertTrue(actual.isClassDataSharing());
+  }
+
+  public void testParsesTransport() {
+    final ReportOptions actual = parseConfig("<transport>SHARED_MEMORY</transport>");
+    assertEquals(Transport.SHARED_MEMORY, actual.getTransport());
+  }
+
   public void testParsesListOfTargetTestClassGlobs() {
     final String xml = "<targetTests>" + //
         "                      <param>foo*</param>" + //
@@ -281,6 +358,16 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
 
+  public void testParsesCheckpointFile() {
+    final ReportOptions actual = parseConfig("<checkpointFile>foo</checkpointFile>");
+    assertEquals(new File("foo"), actual.getCheckpointFile());
+  }
+
+  public void testParsesResumeFlag() {
+    final ReportOptions actual = parseConfig("<resume>true</resume>");
+    assertTrue(actual.isResume());
+  }
+
   public void testParsesLineCoverageExportFlagWhenSet() {
     final ReportOptions actual = parseConfig("<exportLineCoverage>true</exportLineCoverage>");
     assertTrue(actual.shouldExportLineCoverage());
@@ -29,6 +29,7 @@ class ClassInfoBuilder {
   final Set<Integer> codeLines   = new HashSet<Integer>();
   final Set<String>  annotations = new HashSet<String>(0);
   final Map<ClassName, Object> classAnnotationValues = new HashMap<ClassName, Object>(0);
+  final Map<String, Long>      methodHashes = new HashMap<String, Long>();
 
   public void registerCodeLine(final int line) {
     this.codeLines.add(line);
@@ -42,4 +43,8 @@ class ClassInfoBuilder {
     classAnnotationValues.put(annotation, value);
   }
 
+  public void registerMethodHash(final String method, final long hash) {
+    this.methodHashes.put(method, hash);
+  }
+
 }
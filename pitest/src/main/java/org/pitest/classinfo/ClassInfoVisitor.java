@@ -91,7 +91,8 @@ public final class ClassInfoVisitor extends MethodFilteringAdapter {
       final String name, final String desc, final String signature,
       final String[] exceptions, final MethodVisitor methodVisitor) {
 
-    return new InfoMethodVisitor(this.classInfo, methodVisitor);
+    return new InfoMethodVisitor(this.classInfo, new MethodHashingVisitor(
+        this.classInfo, access, name, desc, signature, exceptions));
 
   }
 
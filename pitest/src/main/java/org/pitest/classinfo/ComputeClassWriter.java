@@ -31,11 +31,8 @@
  */
 package org.pitest.classinfo;
 
-import java.util.Map;
-
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
-import org.objectweb.asm.Opcodes;
+import org.pitest.classinfo.TypeHierarchy.Node;
 
 /**
  * A ClassWriter that computes the common super class of two classes without
@@ -43,45 +40,46 @@ import org.objectweb.asm.Opcodes;
  * 
  * @author Eric Bruneton
  * 
- *         Modified to match behaviour of default ClassWriter and cache already
- *         calculated values
+ *         Modified to match behaviour of default ClassWriter and to resolve
+ *         types and cache calculated values through a {@link TypeHierarchy}
+ *         shared by writers reading from the same source
  */
 public class ComputeClassWriter extends ClassWriter {
 
   private final ClassByteArraySource bytes;
-  private final Map<String, String>  cache;
+  private final TypeHierarchy        hierarchy;
 
   public ComputeClassWriter(final ClassByteArraySource bytes,
-      final Map<String, String> cache, final int flags) {
+      final TypeHierarchy hierarchy, final int flags) {
     super(flags);
     this.bytes = bytes;
-    this.cache = cache;
+    this.hierarchy = hierarchy;
   }
 
   @Override
   protected String getCommonSuperClass(final String type1, final String type2) {
     final String key = type1 + "!_!" + type2;
-    final String previous = this.cache.get(key);
+    final String previous = this.hierarchy.getCommonSuperClass(key);
     if (previous != null) {
       return previous;
     }
 
-    final ClassReader info1 = typeInfo(type1);
-    final ClassReader info2 = typeInfo(type2);
+    final Node info1 = typeInfo(type1);
+    final Node info2 = typeInfo(type2);
 
     final String result = getCommonSuperClass(type1, info1, type2, info2);
-    this.cache.put(key, result);
+    this.hierarchy.putCommonSuperClass(key, result);
     return result;
 
   }
 
   private String getCommonSuperClass(final String type1,
-      final ClassReader info1, final String type2, final ClassReader info2) {
-    if (isInterface(info1)) {
+      final Node info1, final String type2, final Node info2) {
+    if (info1.isInterface()) {
       if (typeImplements(type2, info2, type1)) {
         return type1;
       } else {
-        if (isInterface(info2)) {
+        if (info2.isInterface()) {
           if (typeImplements(type1, info1, type2)) {
             return type2;
           } else {
@@ -117,24 +115,20 @@ public class ComputeClassWriter extends ClassWriter {
 
   }
 
-  private boolean isInterface(final ClassReader info1) {
-    return (info1.getAccess() & Opcodes.ACC_INTERFACE) != 0;
-  }
-
   /**
    * Returns the internal names of the ancestor classes of the given type.
    * 
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the type hierarchy entry for 'type'.
    * @return a StringBuilder containing the ancestor classes of 'type',
    *         separated by ';'. The returned string has the following format:
    *         ";type1;type2 ... ;typeN", where type1 is 'type', and typeN is a
    *         direct subclass of Object. If 'type' is Object, the returned string
    *         is empty.
    */
-  private StringBuilder typeAncestors(String type, ClassReader info) {
+  private StringBuilder typeAncestors(String type, Node info) {
     final StringBuilder b = new StringBuilder();
     while (!"java/lang/Object".equals(type)) {
       b.append(';').append(type);
@@ -150,12 +144,12 @@ public class ComputeClassWriter extends ClassWriter {
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the type hierarchy entry for 'type'.
    * @param itf
    *          the internal name of a interface.
    * @return true if 'type' implements directly or indirectly 'itf'
    */
-  private boolean typeImplements(String type, ClassReader info, final String itf) {
+  private boolean typeImplements(String type, Node info, final String itf) {
     final String cleanItf = itf.replace(".", "/");
     while (!"java/lang/Object".equals(type)) {
       final String[] itfs = info.getInterfaces();
@@ -176,13 +170,13 @@ public class ComputeClassWriter extends ClassWriter {
   }
 
   /**
-   * Returns a ClassReader corresponding to the given class or interface.
+   * Returns the type hierarchy entry for the given class or interface.
    * 
    * @param type
    *          the internal name of a class or interface.
-   * @return the ClassReader corresponding to 'type'.
+   * @return the type hierarchy entry for 'type'.
    */
-  private ClassReader typeInfo(final String type) {
-    return new ClassReader(this.bytes.getBytes(type).value());
+  private Node typeInfo(final String type) {
+    return this.hierarchy.typeInfo(this.bytes, type);
   }
 }
\ No newline at end of file
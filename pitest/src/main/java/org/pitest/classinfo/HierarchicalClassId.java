@@ -1,22 +1,44 @@
 package org.pitest.classinfo;
 
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Map;
+
+import org.pitest.functional.Option;
 
 public final class HierarchicalClassId {
 
   private final ClassIdentifier classId;
   private final String          hierarchicalHash;
 
+  /**
+   * Hashes of each method's bytecode keyed by name and descriptor. Not
+   * considered by equals as they are derived from the same bytes as the class
+   * hash.
+   */
+  private final Map<String, Long> methodHashes;
+
   public HierarchicalClassId(final ClassIdentifier classId,
       final String hierarchicalHash) {
+    this(classId, hierarchicalHash, Collections.<String, Long> emptyMap());
+  }
+
+  public HierarchicalClassId(final ClassIdentifier classId,
+      final String hierarchicalHash, final Map<String, Long> methodHashes) {
     this.classId = classId;
     this.hierarchicalHash = hierarchicalHash;
+    this.methodHashes = methodHashes;
   }
 
   public HierarchicalClassId(final ClassIdentifier id, final BigInteger deepHash) {
     this(id, deepHash.toString(16));
   }
 
+  public HierarchicalClassId(final ClassIdentifier id,
+      final BigInteger deepHash, final Map<String, Long> methodHashes) {
+    this(id, deepHash.toString(16), methodHashes);
+  }
+
   public HierarchicalClassId(final long hash, final ClassName name,
       final String hierarchicalHash) {
     this(new ClassIdentifier(hash, name), hierarchicalHash);
@@ -34,6 +56,31 @@ public final class HierarchicalClassId {
     return this.classId;
   }
 
+  /**
+   * Returns the hash of the named method
+   *
+   * @param methodNameAndDesc
+   *          method name followed by its descriptor e.g. foo(I)V
+   * @return the hash or none if the method is unknown
+   */
+  public Option<Long> getMethodHash(final String methodNameAndDesc) {
+    if (this.methodHashes == null) {
+      return Option.none();
+    }
+    return Option.some(this.methodHashes.get(methodNameAndDesc));
+  }
+
+  /**
+   * Returns the portion of the hierarchical hash contributed by the parent and
+   * outer classes
+   *
+   * @return hash of the classes this class depends on
+   */
+  public BigInteger getAncestryHash() {
+    return new BigInteger(this.hierarchicalHash, 16).subtract(BigInteger
+        .valueOf(this.classId.getHash()));
+  }
+
   @Override
   public String toString() {
     return "HierarchicalClassId [classId=" + this.classId
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Writes a single method into a standalone class and hashes the result.
+ *
+ * Line numbers and local variable names are discarded so that edits elsewhere
+ * in the source file which only shift a method's position do not change its
+ * hash.
+ */
+class MethodHashingVisitor extends MethodVisitor {
+
+  private final ClassInfoBuilder classInfo;
+  private final ClassWriter      writer;
+  private final String           method;
+
+  MethodHashingVisitor(final ClassInfoBuilder classInfo, final int access,
+      final String name, final String desc, final String signature,
+      final String[] exceptions) {
+    super(Opcodes.ASM5);
+    this.classInfo = classInfo;
+    this.method = name + desc;
+    this.writer = new ClassWriter(0);
+    this.writer.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC, "MethodHolder", null,
+        "java/lang/Object", null);
+    this.mv = this.writer.visitMethod(access, name, desc, signature,
+        exceptions);
+  }
+
+  @Override
+  public void visitLineNumber(final int line, final Label start) {
+    // deliberately ignored
+  }
+
+  @Override
+  public void visitLocalVariable(final String name, final String desc,
+      final String signature, final Label start, final Label end,
+      final int index) {
+    // deliberately ignored
+  }
+
+  @Override
+  public void visitEnd() {
+    super.visitEnd();
+    this.writer.visitEnd();
+    this.classInfo.registerMethodHash(this.method,
+        new AddlerHash().hash(this.writer.toByteArray()));
+  }
+
+}
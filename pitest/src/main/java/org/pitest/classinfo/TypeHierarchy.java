@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Thread safe model of the super class and interfaces of each type seen while
+ * computing stack map frames.
+ *
+ * Each type is read from bytes at most once, so {@link ComputeClassWriter}s
+ * that share a model resolve common super classes from memory once a type has
+ * been encountered by any of them. Types are known by name alone, so a model
+ * must only be shared by writers reading from the same
+ * {@link ClassByteArraySource}.
+ */
+public final class TypeHierarchy {
+
+  private final ConcurrentMap<String, Node>   types              = new ConcurrentHashMap<String, Node>();
+  private final ConcurrentMap<String, String> commonSuperClasses = new ConcurrentHashMap<String, String>();
+
+  Node typeInfo(final ClassByteArraySource source, final String type) {
+    final Node known = this.types.get(type);
+    if (known != null) {
+      return known;
+    }
+    final Node node = new Node(new ClassReader(source.getBytes(type).value()));
+    final Node raced = this.types.putIfAbsent(type, node);
+    return raced != null ? raced : node;
+  }
+
+  String getCommonSuperClass(final String key) {
+    return this.commonSuperClasses.get(key);
+  }
+
+  void putCommonSuperClass(final String key, final String result) {
+    this.commonSuperClasses.put(key, result);
+  }
+
+  static final class Node {
+    private final int      access;
+    private final String   superName;
+    private final String[] interfaces;
+
+    Node(final ClassReader reader) {
+      this.access = reader.getAccess();
+      this.superName = reader.getSuperName();
+      this.interfaces = reader.getInterfaces();
+    }
+
+    boolean isInterface() {
+      return (this.access & Opcodes.ACC_INTERFACE) != 0;
+    }
+
+    String getSuperName() {
+      return this.superName;
+    }
+
+    String[] getInterfaces() {
+      return this.interfaces;
+    }
+  }
+
+}
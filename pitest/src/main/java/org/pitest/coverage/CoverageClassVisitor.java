@@ -18,7 +18,9 @@
 package org.pitest.coverage;
 
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.pitest.classinfo.BridgeMethodFilter;
 import org.pitest.classinfo.MethodFilteringAdapter;
 import org.pitest.coverage.analysis.CoverageAnalyser;
@@ -26,18 +28,43 @@ import org.pitest.coverage.analysis.CoverageAnalyser;
 import sun.pitest.CodeCoverageStore;
 
 /**
- * Instruments a class with probes on each line
+ * Instruments a class with probes on each line.
+ *
+ * Classes are given a synthetic static field through which instrumented
+ * methods reach the probe array held by the {@link CodeCoverageStore}.
+ * Interfaces may only declare constants, so their methods (including Java 8
+ * default and static methods) look the array up from the store instead.
  */
 public class CoverageClassVisitor extends MethodFilteringAdapter  {
   private final int           classId;
 
   private int probeCount  = 0;
 
+  private String  className;
+  private boolean isInterface;
+
   public CoverageClassVisitor(final int classId, final ClassWriter writer) {
     super(writer, BridgeMethodFilter.INSTANCE);
     this.classId = classId;
   }
 
+  @Override
+  public void visit(final int version, final int access, final String name,
+      final String signature, final String superName,
+      final String[] interfaces) {
+    super.visit(version, access, name, signature, superName, interfaces);
+    this.className = name;
+    this.isInterface = (access & Opcodes.ACC_INTERFACE) != 0;
+  }
+
+  public String getClassName() {
+    return this.className;
+  }
+
+  public boolean hasProbeField() {
+    return !this.isInterface;
+  }
+
   public void registerProbes(final int number) {
     this.probeCount = probeCount + number;
   }
@@ -54,6 +81,14 @@ public class CoverageClassVisitor extends MethodFilteringAdapter  {
 
   @Override
   public void visitEnd() {
+    if (hasProbeField()) {
+      final FieldVisitor fv = this.cv.visitField(Opcodes.ACC_PRIVATE
+          | Opcodes.ACC_STATIC | Opcodes.ACC_TRANSIENT | Opcodes.ACC_SYNTHETIC,
+          CodeCoverageStore.PROBE_FIELD_NAME, "[Z", null, null);
+      if (fv != null) {
+        fv.visitEnd();
+      }
+    }
     CodeCoverageStore.registerClassProbes(this.classId,this.probeCount);
   }
 
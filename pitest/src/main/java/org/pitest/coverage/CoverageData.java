@@ -35,6 +35,7 @@ import org.pitest.functional.F2;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
@@ -49,6 +50,7 @@ public class CoverageData implements CoverageDatabase {
   private final Map<BlockLocation, Set<TestInfo>>             blockCoverage = new LinkedHashMap<BlockLocation, Set<TestInfo>>();
   private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<BlockLocation, Set<Integer>>();
   private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<ClassName, Map<ClassLine, Set<TestInfo>>>();
+  private final Map<ClassName, Map<Location, BigInteger>>     methodCoverageIds = new LinkedHashMap<ClassName, Map<Location, BigInteger>>();
 
   private final CodeSource                                    code;
 
@@ -71,6 +73,26 @@ public class CoverageData implements CoverageDatabase {
     }
   }
 
+  public Collection<TestInfo> getTestsForBlockLocation(
+      final BlockLocation location) {
+    final Collection<TestInfo> result = this.blockCoverage.get(location);
+    if (result == null) {
+      return Collections.emptyList();
+    } else {
+      return result;
+    }
+  }
+
+  /**
+   * Records the lines of a block, as reported by the coverage slave while
+   * instrumenting. Lines of blocks not registered here are found by analysing
+   * the class with the {@link LineMap}.
+   */
+  public void registerBlockLines(final BlockLocation block,
+      final Set<Integer> lines) {
+    this.blocksToLines.put(block, lines);
+  }
+
   public boolean allTestsGreen() {
     return !this.hasFailedTest;
   }
@@ -119,6 +141,36 @@ public class CoverageData implements CoverageDatabase {
     return generateCoverageNumber(coverage);
   }
 
+  public Map<Location, BigInteger> getCoverageIdsForMethods(
+      final ClassName clazz) {
+    Map<Location, BigInteger> ids = this.methodCoverageIds.get(clazz);
+    if (ids == null) {
+      ids = calculateCoverageIdsForMethods(clazz);
+      this.methodCoverageIds.put(clazz, ids);
+    }
+    return ids;
+  }
+
+  private Map<Location, BigInteger> calculateCoverageIdsForMethods(
+      final ClassName clazz) {
+    final Map<Location, Set<ClassName>> testClasses = new LinkedHashMap<Location, Set<ClassName>>();
+    for (final Entry<BlockLocation, Set<TestInfo>> each : FCollection.filter(
+        this.blockCoverage.entrySet(), isFor(clazz))) {
+      Set<ClassName> tests = testClasses.get(each.getKey().getLocation());
+      if (tests == null) {
+        tests = new HashSet<ClassName>();
+        testClasses.put(each.getKey().getLocation(), tests);
+      }
+      FCollection.mapTo(each.getValue(), TestInfo.toDefiningClassName(), tests);
+    }
+
+    final Map<Location, BigInteger> ids = new LinkedHashMap<Location, BigInteger>();
+    for (final Entry<Location, Set<ClassName>> each : testClasses.entrySet()) {
+      ids.put(each.getKey(), sumDeepHashes(each.getValue()));
+    }
+    return ids;
+  }
+
   public List<BlockCoverage> createCoverage() {
     return FCollection.map(this.blockCoverage.entrySet(), toBlockCoverage());
   }
@@ -144,10 +196,13 @@ public class CoverageData implements CoverageDatabase {
 
   private BigInteger generateCoverageNumber(
       final Map<ClassLine, Set<TestInfo>> coverage) {
-    BigInteger coverageNumber = BigInteger.ZERO;
     final Set<ClassName> testClasses = new HashSet<ClassName>();
     FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
+    return sumDeepHashes(testClasses);
+  }
 
+  private BigInteger sumDeepHashes(final Collection<ClassName> testClasses) {
+    BigInteger coverageNumber = BigInteger.ZERO;
     for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
       coverageNumber = coverageNumber.add(each.getDeepHash());
     }
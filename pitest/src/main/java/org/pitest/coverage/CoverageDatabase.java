@@ -2,9 +2,11 @@ package org.pitest.coverage;
 
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.Map;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
 
 public interface CoverageDatabase {
 
@@ -16,8 +18,20 @@ public interface CoverageDatabase {
 
   Collection<TestInfo> getTestsForClassLine(ClassLine classLine);
 
+  Collection<TestInfo> getTestsForBlockLocation(BlockLocation location);
+
   BigInteger getCoverageIdForClass(ClassName clazz);
 
+  /**
+   * Calculates a coverage id for each covered method in the class from the
+   * tests that execute that method
+   *
+   * @param clazz
+   *          class to calculate ids for
+   * @return map of method locations to coverage ids
+   */
+  Map<Location, BigInteger> getCoverageIdsForMethods(ClassName clazz);
+
   Collection<ClassInfo> getClassesForFile(String sourceFile, String packageName);
 
   CoverageSummary createSummary();
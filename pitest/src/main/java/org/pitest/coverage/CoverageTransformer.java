@@ -4,12 +4,13 @@ import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.security.ProtectionDomain;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.WeakHashMap;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.predicate.Predicate;
 
@@ -17,8 +18,9 @@ import sun.pitest.CodeCoverageStore;
 
 public class CoverageTransformer implements ClassFileTransformer {
 
-  private final Predicate<String>   filter;
-  private final Map<String, String> computeCache = new ConcurrentHashMap<String, String>();
+  private final Predicate<String>               filter;
+  // types are resolved through the loader defining the class being transformed
+  private final Map<ClassLoader, TypeHierarchy> hierarchies = new WeakHashMap<ClassLoader, TypeHierarchy>();
 
   public CoverageTransformer(final Predicate<String> filter) {
     this.filter = filter;
@@ -46,7 +48,7 @@ public class CoverageTransformer implements ClassFileTransformer {
       final String className, final byte[] classfileBuffer) {
     final ClassReader reader = new ClassReader(classfileBuffer);
     final ClassWriter writer = new ComputeClassWriter(
-        new ClassloaderByteArraySource(loader), this.computeCache,
+        new ClassloaderByteArraySource(loader), hierarchyFor(loader),
         FrameOptions.pickFlags(classfileBuffer));
 
     final int id = CodeCoverageStore.registerClass(className);
@@ -55,6 +57,15 @@ public class CoverageTransformer implements ClassFileTransformer {
     return writer.toByteArray();
   }
 
+  private synchronized TypeHierarchy hierarchyFor(final ClassLoader loader) {
+    TypeHierarchy hierarchy = this.hierarchies.get(loader);
+    if (hierarchy == null) {
+      hierarchy = new TypeHierarchy();
+      this.hierarchies.put(loader, hierarchy);
+    }
+    return hierarchy;
+  }
+
   private boolean shouldInclude(final String className) {
     return this.filter.apply(className);
   }
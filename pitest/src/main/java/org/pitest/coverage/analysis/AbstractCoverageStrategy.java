@@ -9,12 +9,16 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.commons.AdviceAdapter;
 import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
 
+import sun.pitest.CodeCoverageStore;
+
 abstract class AbstractCoverageStrategy extends AdviceAdapter {
 
 
   protected final MethodVisitor methodVisitor;
   protected final int           classId;
   protected final int           probeOffset;
+  protected final String        className;
+  protected final boolean       hasProbeField;
   protected final List<Block> blocks;
   
   private final InstructionCounter counter;
@@ -33,12 +37,15 @@ abstract class AbstractCoverageStrategy extends AdviceAdapter {
 
   
   AbstractCoverageStrategy(List<Block> blocks, InstructionCounter counter,
-      final int classId, final MethodVisitor writer, final int access,
-      final String name, final String desc, final int probeOffset) {
+      final int classId, final String className, final boolean hasProbeField,
+      final MethodVisitor writer, final int access, final String name,
+      final String desc, final int probeOffset) {
     super(Opcodes.ASM5, writer, access, name, desc);
 
     this.methodVisitor = writer;
     this.classId = classId;
+    this.className = className;
+    this.hasProbeField = hasProbeField;
     this.counter = counter;
     this.blocks = blocks;
     this.probeOffset = probeOffset;
@@ -82,6 +89,35 @@ abstract class AbstractCoverageStrategy extends AdviceAdapter {
     }
   }
 
+  /**
+   * Pushes the probe array of the class. Classes initialise their synthetic
+   * probe field from the store on first use, interfaces have no such field so
+   * look the array up each time.
+   */
+  protected void pushClassProbes() {
+    if (!this.hasProbeField) {
+      pushConstant(this.classId);
+      this.mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+          CodeCoverageStore.CLASS_NAME,
+          CodeCoverageStore.PROBE_ARRAY_METHOD_NAME, "(I)[Z", false);
+      return;
+    }
+
+    final Label initialised = new Label();
+    this.mv.visitFieldInsn(GETSTATIC, this.className,
+        CodeCoverageStore.PROBE_FIELD_NAME, "[Z");
+    this.mv.visitInsn(DUP);
+    this.mv.visitJumpInsn(IFNONNULL, initialised);
+    this.mv.visitInsn(POP);
+    pushConstant(this.classId);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+        CodeCoverageStore.PROBE_ARRAY_METHOD_NAME, "(I)[Z", false);
+    this.mv.visitInsn(DUP);
+    this.mv.visitFieldInsn(PUTSTATIC, this.className,
+        CodeCoverageStore.PROBE_FIELD_NAME, "[Z");
+    this.mv.visitLabel(initialised);
+  }
+
   protected void pushConstant(final int value) {
     switch (value) {
     case 0:
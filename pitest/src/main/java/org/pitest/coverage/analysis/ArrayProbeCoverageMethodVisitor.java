@@ -20,67 +20,53 @@ package org.pitest.coverage.analysis;
 import java.util.List;
 
 import org.objectweb.asm.MethodVisitor;
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
 
-import sun.pitest.CodeCoverageStore;
-
 /**
  * Instruments a method adding probes at each line. The strategy requires the
  * compiler to be configured to add line number debug information.
  * 
- * Probes are implemented by adding an array to each method. Lines hits are
- * registered by a write to this local array. Each method exit point is then
- * augmented with a call that passes this array to the coverage store class that
- * handles communication of this data back to the parent process on the
- * completion of each test.
- * 
- * All methods are wrapped in a try finally block to ensure that coverage data
- * is sent in the event of a runtime exception.
+ * Probes are implemented as writes to the probe array of the class, which is
+ * held by the coverage store and fetched once on method entry. The store clears
+ * the array in place between tests, so no copying is required. Each method exit
+ * point marks the class as hit.
  * 
- * Creating a new array on each method entry is not cheap - other coverage
- * systems add a static field used across all methods. We must clear down all
- * coverage history for each test however. Resetting static fields in all loaded
- * classes would be messy to implement - it may or may not be faster than the
- * current approach.
+ * All methods are wrapped in a try finally block to ensure that the class is
+ * marked in the event of a runtime exception.
  */
 public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
 
-  private int probeHitArrayLocal;
+  private int classProbesLocal;
 
   public ArrayProbeCoverageMethodVisitor(List<Block> blocks,
-      InstructionCounter counter, final int classId,
-      final MethodVisitor writer, final int access, final String name,
-      final String desc, final int probeOffset) {
-    super(blocks, counter, classId, writer, access, name, desc, probeOffset);
+      InstructionCounter counter, final int classId, final String className,
+      final boolean hasProbeField, final MethodVisitor writer,
+      final int access, final String name, final String desc,
+      final int probeOffset) {
+    super(blocks, counter, classId, className, hasProbeField, writer, access,
+        name, desc, probeOffset);
   }
 
   @Override
   void prepare() {
-    this.probeHitArrayLocal = newLocal(Type.getType("[Z"));
-
-    pushConstant(this.blocks.size());
-    this.mv.visitIntInsn(NEWARRAY, T_BOOLEAN);
-    this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
+    this.classProbesLocal = newLocal(Type.getType("[Z"));
+    pushClassProbes();
+    this.mv.visitVarInsn(ASTORE, this.classProbesLocal);
   }
 
   @Override
   void generateProbeReportCode() {
-
-    pushConstant(this.classId);
-    pushConstant(this.probeOffset);
-    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
-
-    this.methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC,
-        CodeCoverageStore.CLASS_NAME, CodeCoverageStore.PROBE_METHOD_NAME,
-        "(II[Z)V", false);
+    this.mv.visitVarInsn(ALOAD, this.classProbesLocal);
+    pushConstant(0);
+    pushConstant(1);
+    this.mv.visitInsn(BASTORE);
   }
 
   @Override
   void insertProbe() {
-    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
-    pushConstant(this.probeCount);
+    this.mv.visitVarInsn(ALOAD, this.classProbesLocal);
+    pushConstant(this.probeOffset + this.probeCount + 1);
     pushConstant(1);
     this.mv.visitInsn(BASTORE);
   }
@@ -50,6 +50,10 @@ public final class Block {
         + ", lastInstruction=" + this.lastInstruction + "]";
   }
 
+  public boolean contains(final int ins) {
+    return (ins >= this.firstInstruction) && (ins <= this.lastInstruction);
+  }
+
   public boolean firstInstructionIs(final int ins) {
     return this.firstInstruction == ins;
   }
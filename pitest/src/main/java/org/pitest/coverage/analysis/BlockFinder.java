@@ -0,0 +1,90 @@
+package org.pitest.coverage.analysis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+
+/**
+ * Finds the block, as numbered for coverage by the {@link ControlFlowAnalyser},
+ * that contains an instruction identified by the mutation engine.
+ *
+ * Blocks are calculated for one class at a time, as mutations are generally
+ * requested class by class.
+ */
+public class BlockFinder {
+
+  private final CodeSource              source;
+
+  private ClassName                     currentClass;
+  private Map<Location, List<Block>>    currentBlocks;
+
+  public BlockFinder(final CodeSource source) {
+    this.source = source;
+  }
+
+  /**
+   * @param location
+   *          method containing the instruction
+   * @param instruction
+   *          index of the instruction as recorded in a
+   *          {@link org.pitest.mutationtest.engine.MutationIdentifier}. These
+   *          count every node ASM visits, starting from one.
+   * @return the containing block, or none if it cannot be determined
+   */
+  public Option<BlockLocation> findBlock(final Location location,
+      final int instruction) {
+    final List<Block> blocks = blocksFor(location.getClassName()).get(
+        location);
+    if (blocks == null) {
+      return Option.none();
+    }
+
+    final int nodeIndex = instruction - 1;
+    for (int i = 0; i != blocks.size(); i++) {
+      if (blocks.get(i).contains(nodeIndex)) {
+        return Option.some(BlockLocation.blockLocation(location, i));
+      }
+    }
+    return Option.none();
+  }
+
+  private Map<Location, List<Block>> blocksFor(final ClassName clazz) {
+    if (!clazz.equals(this.currentClass)) {
+      this.currentBlocks = analyse(clazz);
+      this.currentClass = clazz;
+    }
+    return this.currentBlocks;
+  }
+
+  private Map<Location, List<Block>> analyse(final ClassName clazz) {
+    final Option<byte[]> maybeBytes = this.source.fetchClassBytes(clazz);
+    if (maybeBytes.hasNone()) {
+      return Collections.emptyMap();
+    }
+
+    final ControlFlowAnalyser cfa = new ControlFlowAnalyser();
+    final Map<Location, List<Block>> map = new HashMap<Location, List<Block>>();
+    final ClassNode classNode = new ClassNode();
+    new ClassReader(maybeBytes.value()).accept(classNode,
+        ClassReader.EXPAND_FRAMES);
+    for (final Object m : classNode.methods) {
+      final MethodNode mn = (MethodNode) m;
+      final Location l = Location.location(clazz,
+          MethodName.fromString(mn.name), mn.desc);
+      map.put(l, cfa.analyze(mn));
+    }
+    return map;
+  }
+
+}
@@ -1,6 +1,8 @@
 package org.pitest.coverage.analysis;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -43,7 +45,8 @@ public class CoverageAnalyser extends MethodNode {
     this.parent.registerProbes(blocks.size());
     final int blockCount = blocks.size();
     CodeCoverageStore.registerMethod(this.classId, this.name, this.desc,
-        this.probeOffset, (this.probeOffset + blocks.size()) - 1);
+        this.probeOffset, (this.probeOffset + blocks.size()) - 1,
+        linesOf(blocks));
 
     // according to the jvm spec
     // "There must never be an uninitialized class instance in a local variable in code protected by an exception handler"
@@ -62,19 +65,27 @@ public class CoverageAnalyser extends MethodNode {
     } else if ((blockCount <= MAX_SUPPORTED_LOCAL_PROBES) && (blockCount >= 1)) {
       accept(new InstructionTrackingMethodVisitor(
           new LocalVariableCoverageMethodVisitor(blocks, counter, this.classId,
+              this.parent.getClassName(), this.parent.hasProbeField(),
               this.mv, this.access, this.name, this.desc, this.probeOffset),
           counter));
     } else {
-      // for now fall back to the naive implementation - could instead use array
-      // passing version
       accept(new InstructionTrackingMethodVisitor(
           new ArrayProbeCoverageMethodVisitor(blocks, counter, this.classId,
+              this.parent.getClassName(), this.parent.hasProbeField(),
               this.mv, this.access, this.name, this.desc, this.probeOffset),
           counter));
     }
 
   }
 
+  private static List<Set<Integer>> linesOf(final List<Block> blocks) {
+    final List<Set<Integer>> lines = new ArrayList<Set<Integer>>(blocks.size());
+    for (final Block each : blocks) {
+      lines.add(each.getLines());
+    }
+    return lines;
+  }
+
   private List<Block> findRequriedProbeLocations() {
     final ControlFlowAnalyser cfa = new ControlFlowAnalyser();
     return cfa.analyze(this);
@@ -2,35 +2,40 @@ package org.pitest.coverage.analysis;
 
 import java.util.List;
 
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
 
-import sun.pitest.CodeCoverageStore;
-
 /**
  * Uses local variables as block probes within methods.
  *
- * Inserts a finally block the method, posting the probes hits to the code
- * coverage store via specialised methods for each number of probes.
+ * Inserts a finally block the method, copying the probe hits into the probe
+ * array of the class on exit. The array is fetched once on method entry.
  *
- * The range of methods this approach can be applied to is limited by the
- * maximum airty of the overloaded methods on the coverage store.
+ * The range of methods this approach is applied to is limited to avoid adding
+ * large numbers of locals and a long copying sequence to each exit point.
  */
 class LocalVariableCoverageMethodVisitor extends AbstractCoverageStrategy {
 
   private int[] locals;
+  private int   classProbesLocal;
 
   LocalVariableCoverageMethodVisitor(final List<Block> blocks,
       final InstructionCounter counter, final int classId,
+      final String className, final boolean hasProbeField,
       final MethodVisitor writer, final int access, final String name,
       final String desc, final int probeOffset) {
-    super(blocks, counter, classId, writer, access, name, desc, probeOffset);
+    super(blocks, counter, classId, className, hasProbeField, writer, access,
+        name, desc, probeOffset);
   }
 
   @Override
   void prepare() {
+    this.classProbesLocal = newLocal(Type.getType("[Z"));
+    pushClassProbes();
+    this.mv.visitVarInsn(ASTORE, this.classProbesLocal);
+
     this.locals = new int[this.blocks.size()];
     for (int i = 0; i != this.blocks.size(); i++) {
       this.locals[i] = newLocal(Type.getType("Z"));
@@ -47,19 +52,21 @@ class LocalVariableCoverageMethodVisitor extends AbstractCoverageStrategy {
 
   @Override
   protected void generateProbeReportCode() {
+    this.mv.visitVarInsn(ALOAD, this.classProbesLocal);
+    pushConstant(0);
+    pushConstant(1);
+    this.mv.visitInsn(BASTORE);
 
-    pushConstant(this.classId);
-    pushConstant(this.probeOffset);
-
-    for (final int i : this.locals) {
-      this.mv.visitVarInsn(ILOAD, i);
+    for (int i = 0; i != this.locals.length; i++) {
+      final Label notHit = new Label();
+      this.mv.visitVarInsn(ILOAD, this.locals[i]);
+      this.mv.visitJumpInsn(IFEQ, notHit);
+      this.mv.visitVarInsn(ALOAD, this.classProbesLocal);
+      pushConstant(this.probeOffset + i + 1);
+      pushConstant(1);
+      this.mv.visitInsn(BASTORE);
+      this.mv.visitLabel(notHit);
     }
-
-    this.methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC,
-        CodeCoverageStore.CLASS_NAME, CodeCoverageStore.PROBE_METHOD_NAME,
-        "(II"
-            + String.format(String.format("%%0%dd", this.blocks.size()), 0)
-                .replace("0", "Z") + ")V", false);
   }
 
 }
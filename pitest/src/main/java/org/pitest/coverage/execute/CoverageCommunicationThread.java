@@ -2,17 +2,25 @@ package org.pitest.coverage.execute;
 
 import java.net.ServerSocket;
 import java.util.List;
+import java.util.Set;
 
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.SideEffect2;
 import org.pitest.util.CommunicationThread;
+import org.pitest.util.MappedRingBuffer;
 
 public class CoverageCommunicationThread extends CommunicationThread {
 
   public CoverageCommunicationThread(final ServerSocket socket,
       final CoverageOptions arguments, final List<String> tus,
-      final SideEffect1<CoverageResult> handler) {
-    super(socket, new SendData(arguments, tus), new Receive(handler));
+      final SideEffect1<CoverageResult> handler,
+      final SideEffect2<BlockLocation, Set<Integer>> blockLinesHandler,
+      final Option<MappedRingBuffer> ring) {
+    super(socket, new SendData(arguments, tus), new Receive(handler,
+        blockLinesHandler), ring);
 
   }
 
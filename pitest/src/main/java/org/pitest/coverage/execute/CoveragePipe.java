@@ -2,6 +2,8 @@ package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
@@ -53,13 +55,20 @@ public class CoveragePipe implements CoverageReceiver {
   }
 
   public synchronized void registerProbes(int classId, String methodName, String methodDesc,
-      int firstProbe, int lastProbe) {
+      int firstProbe, int lastProbe, List<Set<Integer>> blockLines) {
     this.dos.writeByte(Id.PROBES);
     this.dos.writeInt(classId);
     this.dos.writeString(methodName);
     this.dos.writeString(methodDesc);
     this.dos.writeInt(firstProbe);
     this.dos.writeInt(lastProbe);
+    // one line set per probe, so the parent need not re-analyse the bytecode
+    for (final Set<Integer> lines : blockLines) {
+      this.dos.writeInt(lines.size());
+      for (final int line : lines) {
+        this.dos.writeInt(line);
+      }
+    }
   }
 
 
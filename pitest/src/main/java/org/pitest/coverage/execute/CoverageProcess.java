@@ -3,9 +3,12 @@ package org.pitest.coverage.execute;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.List;
+import java.util.Set;
 
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.SideEffect2;
 import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
@@ -17,12 +20,13 @@ public class CoverageProcess {
 
   public CoverageProcess(final ProcessArgs processArgs,
       final CoverageOptions arguments, final ServerSocket socket,
-      final List<String> testClases, final SideEffect1<CoverageResult> handler)
+      final List<String> testClases, final SideEffect1<CoverageResult> handler,
+      final SideEffect2<BlockLocation, Set<Integer>> blockLinesHandler)
       throws IOException {
     this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
         CoverageSlave.class);
     this.crt = new CoverageCommunicationThread(socket, arguments, testClases,
-        handler);
+        handler, blockLinesHandler, this.process.getResultRing());
   }
 
   public void start() throws IOException, InterruptedException {
@@ -34,6 +38,7 @@ public class CoverageProcess {
     try {
       return this.crt.waitToFinish();
     } finally {
+      this.process.recordStartup(this.crt.getConnectionTime());
       this.process.destroy();
     }
 
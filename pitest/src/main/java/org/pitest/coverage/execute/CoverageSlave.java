@@ -33,6 +33,7 @@ import org.pitest.dependency.DependencyExtractor;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.help.PitHelpError;
+import org.pitest.process.Transport;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
@@ -63,7 +64,7 @@ public class CoverageSlave {
       Log.setVerbose(paramsFromParent.isVerbose());
 
       invokeQueue = new CoveragePipe(new BufferedOutputStream(
-          s.getOutputStream()));
+          Transport.resultStream(s, args)));
 
       CodeCoverageStore.init(invokeQueue);
 
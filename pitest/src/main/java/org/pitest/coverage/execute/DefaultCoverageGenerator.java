@@ -20,11 +20,13 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
@@ -33,9 +35,11 @@ import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.SideEffect2;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
+import org.pitest.mutationtest.incremental.Checkpoint;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.testapi.Configuration;
@@ -57,11 +61,27 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final Checkpoint       checkpoint;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, Checkpoint.disabled());
+  }
+
+  /**
+   * @param checkpoint
+   *          records the coverage gathered, and replays coverage recorded by
+   *          an earlier run rather than gathering it again
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final Checkpoint checkpoint) {
+    this.checkpoint = checkpoint;
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -83,7 +103,10 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           code));
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
-      gatherCoverageData(tests, coverage);
+      if (!this.checkpoint.restoreCoverage(coverage)) {
+        gatherCoverageData(tests, coverage);
+        this.checkpoint.coverageComplete();
+      }
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
       final long time = (System.currentTimeMillis() - t0) / 1000;
@@ -123,9 +146,10 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
     final CoverageProcess process = new CoverageProcess(ProcessArgs
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+        .andLaunchOptions(this.launchOptions)
+        .andTransport(this.launchOptions.getTransport()).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
+        socket, filteredTests, handler, blockLinesProcessor(coverage));
 
     process.start();
 
@@ -186,6 +210,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       public void apply(final CoverageResult cr) {
         coverage.calculateClassCoverage(cr);
+        DefaultCoverageGenerator.this.checkpoint.recordCoverage(cr);
         if (DefaultCoverageGenerator.this.showProgress) {
           System.out.printf("%s", this.spinner[this.i % this.spinner.length]);
         }
@@ -195,6 +220,16 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     };
   }
 
+  private SideEffect2<BlockLocation, Set<Integer>> blockLinesProcessor(
+      final CoverageData coverage) {
+    return new SideEffect2<BlockLocation, Set<Integer>>() {
+      public void apply(final BlockLocation block, final Set<Integer> lines) {
+        coverage.registerBlockLines(block, lines);
+        DefaultCoverageGenerator.this.checkpoint.recordBlockLines(block, lines);
+      }
+    };
+  }
+
   public Configuration getConfiguration() {
     return this.coverageOptions.getPitConfig();
   }
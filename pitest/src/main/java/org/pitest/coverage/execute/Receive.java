@@ -1,7 +1,10 @@
 package org.pitest.coverage.execute;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,6 +13,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.SideEffect2;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
@@ -24,10 +28,13 @@ final class Receive implements ReceiveStrategy {
   private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<Integer, ClassName>();
   private final Map<Long, BlockLocation>    probeToBlock = new ConcurrentHashMap<Long, BlockLocation>();
   
-  private final SideEffect1<CoverageResult> handler;
+  private final SideEffect1<CoverageResult>                 handler;
+  private final SideEffect2<BlockLocation, Set<Integer>>    blockLinesHandler;
 
-  Receive(final SideEffect1<CoverageResult> handler) {
+  Receive(final SideEffect1<CoverageResult> handler,
+      final SideEffect2<BlockLocation, Set<Integer>> blockLinesHandler) {
     this.handler = handler;
+    this.blockLinesHandler = blockLinesHandler;
   }
 
   public void apply(final byte control, final SafeDataInputStream is) {
@@ -55,10 +62,26 @@ final class Receive implements ReceiveStrategy {
     final int first = is.readInt();
     final int last = is.readInt();
     Location loc = Location.location(classIdToName.get(classId), MethodName.fromString(methodName), methodSig);
+    // read the whole message before acting on it
+    final List<Set<Integer>> lines = new ArrayList<Set<Integer>>();
+    for (int i = first; i != last + 1; i++) {
+      lines.add(readLines(is));
+    }
     for (int i = first; i != last + 1; i++) {
       // nb, convert from classwide id to method scoped index within BlockLocation
-      probeToBlock.put(CodeCoverageStore.encode(classId, i), new BlockLocation(loc,i - first));
+      final BlockLocation block = new BlockLocation(loc,i - first);
+      probeToBlock.put(CodeCoverageStore.encode(classId, i), block);
+      this.blockLinesHandler.apply(block, lines.get(i - first));
+    }
+  }
+
+  private static Set<Integer> readLines(final SafeDataInputStream is) {
+    final int numberOfLines = is.readInt();
+    final Set<Integer> lines = new LinkedHashSet<Integer>(numberOfLines);
+    for (int i = 0; i != numberOfLines; i++) {
+      lines.add(is.readInt());
     }
+    return lines;
   }
 
   private void handleTestEnd(final SafeDataInputStream is) {
@@ -3,10 +3,14 @@ package org.pitest.junit;
 import java.util.Collections;
 import java.util.List;
 
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.FilteringTestUnitFinder;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitFinder;
+import org.pitest.testapi.execute.FindTestUnits;
 
-public class CompoundTestUnitFinder implements TestUnitFinder {
+public class CompoundTestUnitFinder implements FilteringTestUnitFinder {
 
   private final List<TestUnitFinder> tufs;
 
@@ -24,4 +28,16 @@ public class CompoundTestUnitFinder implements TestUnitFinder {
     return Collections.emptyList();
   }
 
+  public List<TestUnit> findTestUnits(final Class<?> clazz,
+      final Predicate<Description> include) {
+    for (final TestUnitFinder each : this.tufs) {
+      final List<TestUnit> tus = FindTestUnits.findTestUnits(each, clazz,
+          include);
+      if (!tus.isEmpty()) {
+        return tus;
+      }
+    }
+    return Collections.emptyList();
+  }
+
 }
@@ -32,19 +32,27 @@ import org.junit.runners.Parameterized;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.functional.predicate.True;
 import org.pitest.junit.adapter.AdaptedJUnitTestUnit;
 import org.pitest.reflection.IsAnnotatedWith;
 import org.pitest.reflection.Reflection;
+import org.pitest.testapi.FilteringTestUnitFinder;
 import org.pitest.testapi.TestUnit;
-import org.pitest.testapi.TestUnitFinder;
 import org.pitest.util.IsolationUtils;
 
-public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
+public class JUnitCustomRunnerTestUnitFinder implements
+    FilteringTestUnitFinder {
 
   @SuppressWarnings("rawtypes")
   private static final Option<Class> CLASS_RULE = findClassRuleClass();
 
   public List<TestUnit> findTestUnits(final Class<?> clazz) {
+    return findTestUnits(clazz, True.<org.pitest.testapi.Description> all());
+  }
+
+  public List<TestUnit> findTestUnits(final Class<?> clazz,
+      final Predicate<org.pitest.testapi.Description> include) {
 
     final Runner runner = AdaptedJUnitTestUnit.createRunner(clazz);
 
@@ -54,10 +62,14 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
 
     if (Filterable.class.isAssignableFrom(runner.getClass())
         && !shouldTreatAsOneUnit(clazz, runner)) {
-      return splitIntoFilteredUnits(runner.getDescription());
+      return splitIntoFilteredUnits(runner.getDescription(), include);
     } else {
-      return Collections.<TestUnit> singletonList(new AdaptedJUnitTestUnit(
-          clazz, Option.<Filter> none()));
+      final TestUnit unit = new AdaptedJUnitTestUnit(clazz,
+          Option.<Filter> none());
+      if (!include.apply(unit.getDescription())) {
+        return Collections.emptyList();
+      }
+      return Collections.singletonList(unit);
     }
   }
 
@@ -118,9 +130,10 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
         && !runner.getDescription().getClassName().equals(className);
   }
 
-  private List<TestUnit> splitIntoFilteredUnits(final Description description) {
-    return FCollection.filter(description.getChildren(), isTest()).map(
-        descriptionToTestUnit());
+  private List<TestUnit> splitIntoFilteredUnits(final Description description,
+      final Predicate<org.pitest.testapi.Description> include) {
+    return FCollection.filter(description.getChildren(), isIncludedTest(include))
+        .map(descriptionToTestUnit());
 
   }
 
@@ -134,11 +147,15 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
     };
   }
 
-  private F<Description, Boolean> isTest() {
+  private F<Description, Boolean> isIncludedTest(
+      final Predicate<org.pitest.testapi.Description> include) {
     return new F<Description, Boolean>() {
 
+      // avoids creating units for tests that are not wanted
       public Boolean apply(final Description a) {
-        return a.isTest();
+        return a.isTest()
+            && include.apply(new org.pitest.testapi.Description(a.toString(),
+                a.getClassName()));
       }
 
     };
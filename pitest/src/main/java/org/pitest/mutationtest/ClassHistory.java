@@ -1,16 +1,31 @@
 package org.pitest.mutationtest;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.functional.Option;
 
 public class ClassHistory {
 
   private final HierarchicalClassId id;
   private final String              coverageId;
 
+  /**
+   * Coverage ids of each covered method keyed by method name and descriptor
+   */
+  private final Map<String, String> methodCoverageIds;
+
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, Collections.<String, String> emptyMap());
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Map<String, String> methodCoverageIds) {
     this.id = id;
     this.coverageId = coverageId;
+    this.methodCoverageIds = methodCoverageIds;
   }
 
   public HierarchicalClassId getId() {
@@ -21,6 +36,13 @@ public class ClassHistory {
     return this.coverageId;
   }
 
+  public Option<String> getCoverageIdForMethod(final String methodNameAndDesc) {
+    if (this.methodCoverageIds == null) {
+      return Option.none();
+    }
+    return Option.some(this.methodCoverageIds.get(methodNameAndDesc));
+  }
+
   public ClassName getName() {
     return this.id.getName();
   }
@@ -65,7 +65,13 @@ public enum DetectionStatus {
   /**
    * Mutation is not covered by any test.
    */
-  NO_COVERAGE(false);
+  NO_COVERAGE(false),
+
+  /**
+   * Mutation was not analysed as it is subsumed by another mutation of the
+   * same instruction. Not counted when scoring.
+   */
+  SUBSUMED(false);
 
   private final boolean detected;
 
@@ -11,7 +11,8 @@ public interface MutationEngineFactory extends ClientClasspathPlugin {
   MutationEngine createEngine(final boolean mutateStaticInitializers,
       final Predicate<String> excludedMethods,
       final Collection<String> loggingClasses,
-      final Collection<String> mutators, final boolean detectInlinedCode);
+      final Collection<String> mutators, final boolean detectInlinedCode,
+      final boolean skipSubsumedMutants);
 
   String name();
 
@@ -69,6 +69,17 @@ public class MutationStatusMap {
         hasStatus(DetectionStatus.STARTED)).map(toMutationDetails());
   }
 
+  /**
+   * Assigns the supplied status to all started but unfinished runs, keeping
+   * any record of the time spent on them.
+   */
+  public void markUnfinishedRuns(final DetectionStatus status) {
+    for (final MutationDetails each : getUnfinishedRuns()) {
+      this.mutationMap.put(each, new MutationStatusTestPair(0, status, null,
+          this.mutationMap.get(each).getTimeSpent()));
+    }
+  }
+
   public Set<MutationDetails> allMutations() {
     return this.mutationMap.keySet();
   }
@@ -22,6 +22,10 @@ public final class MutationStatusTestPair {
   private final DetectionStatus status;
   private final Option<String>  killingTest;
 
+  // informational only, so not considered by equals or hashcode
+  private final long            timeSpent;
+  private final int             testsSaved;
+
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status) {
     this(numberOfTestsRun, status, null);
@@ -29,9 +33,23 @@ public final class MutationStatusTestPair {
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status, final String killingTest) {
+    this(numberOfTestsRun, status, killingTest, 0);
+  }
+
+  public MutationStatusTestPair(final int numberOfTestsRun,
+      final DetectionStatus status, final String killingTest,
+      final long timeSpent) {
+    this(numberOfTestsRun, status, killingTest, timeSpent, 0);
+  }
+
+  public MutationStatusTestPair(final int numberOfTestsRun,
+      final DetectionStatus status, final String killingTest,
+      final long timeSpent, final int testsSaved) {
     this.status = status;
     this.killingTest = Option.some(killingTest);
     this.numberOfTestsRun = numberOfTestsRun;
+    this.timeSpent = timeSpent;
+    this.testsSaved = testsSaved;
   }
 
   public DetectionStatus getStatus() {
@@ -46,6 +64,27 @@ public final class MutationStatusTestPair {
     return this.numberOfTestsRun;
   }
 
+  /**
+   * Milliseconds spent analysing the mutant, where this is known. Currently
+   * only recorded for mutants whose analysis ended the slave process.
+   *
+   * @return time spent in milliseconds, or 0 if not known
+   */
+  public long getTimeSpent() {
+    return this.timeSpent;
+  }
+
+  /**
+   * Test executions saved by running tests against the mutant together with
+   * others rather than on its own. Negative where running the group cost more
+   * than it saved.
+   *
+   * @return tests saved
+   */
+  public int getTestsSaved() {
+    return this.testsSaved;
+  }
+
   @Override
   public String toString() {
     if (this.killingTest.hasNone()) {
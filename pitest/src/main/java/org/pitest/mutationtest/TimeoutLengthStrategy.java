@@ -19,4 +19,15 @@ public interface TimeoutLengthStrategy {
 
   long getAllowedTime(long normalDuration);
 
+  /**
+   * Called when a test runs to completion against a mutant within its allowed
+   * time, so strategies may learn from the run times actually observed.
+   *
+   * @param normalDuration
+   *          duration of the test when run against unmutated code
+   * @param observedDuration
+   *          duration of the test when run against the mutant
+   */
+  void recordTestTime(long normalDuration, long observedDuration);
+
 }
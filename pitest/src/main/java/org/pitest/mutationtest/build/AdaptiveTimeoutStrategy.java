@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+/**
+ * Timeout strategy that learns from the test run times observed against
+ * mutants.
+ *
+ * Until enough runs have been observed this behaves exactly as a
+ * {@link PercentAndConstantTimeoutStrategy}. Once it has, the normal duration
+ * recorded during coverage (which is inflated by instrumentation) is scaled
+ * down by the observed ratio of mutant to normal run times, and the constant is
+ * replaced by an allowance derived from the spread of the observations. The
+ * allowed time is never greater than the non adaptive strategy would give.
+ */
+public class AdaptiveTimeoutStrategy implements TimeoutLengthStrategy {
+
+  static final int        MIN_OBSERVATIONS       = 20;
+  static final int        STANDARD_DEVIATIONS    = 4;
+  static final int        MIN_CONSTANT_DIVISOR   = 4;
+
+  private final float     factor;
+  private final long      constant;
+
+  private int             observations;
+  private long            totalNormal;
+  private long            totalObserved;
+
+  // running mean and sum of squared deviations of the observed residuals
+  private double          residualMean;
+  private double          residualSquares;
+
+  public AdaptiveTimeoutStrategy(final float factor, final long constant) {
+    this.factor = factor;
+    this.constant = constant;
+  }
+
+  public synchronized long getAllowedTime(final long normalDuration) {
+    if (this.observations < MIN_OBSERVATIONS) {
+      return Math.round(normalDuration * this.factor) + this.constant;
+    }
+    return Math.round(expectedDuration(normalDuration) * this.factor)
+        + learntConstant();
+  }
+
+  public synchronized void recordTestTime(final long normalDuration,
+      final long observedDuration) {
+    this.observations++;
+    this.totalNormal = this.totalNormal + normalDuration;
+    this.totalObserved = this.totalObserved + observedDuration;
+
+    final double residual = observedDuration
+        - (normalDuration * observedRatio());
+    final double delta = residual - this.residualMean;
+    this.residualMean = this.residualMean + (delta / this.observations);
+    this.residualSquares = this.residualSquares
+        + (delta * (residual - this.residualMean));
+  }
+
+  private double expectedDuration(final long normalDuration) {
+    return normalDuration * observedRatio();
+  }
+
+  private double observedRatio() {
+    if (this.totalNormal == 0) {
+      return 1;
+    }
+    return Math.min(1d, this.totalObserved / (double) this.totalNormal);
+  }
+
+  private long learntConstant() {
+    final double deviation = Math.sqrt(this.residualSquares
+        / (this.observations - 1));
+    final long learnt = Math.round(this.residualMean
+        + (STANDARD_DEVIATIONS * deviation));
+    return Math.min(this.constant,
+        Math.max(this.constant / MIN_CONSTANT_DIVISOR, learnt));
+  }
+
+}
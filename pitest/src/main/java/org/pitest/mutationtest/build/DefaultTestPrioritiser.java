@@ -2,21 +2,32 @@ package org.pitest.mutationtest.build;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.analysis.BlockFinder;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.prelude.Prelude;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
 /**
- * Assigns tests based on line coverage and order them by execution speed
+ * Assigns tests based on block coverage and order them by execution speed
  * with a weighting towards tests whose names imply they are intended to
- * test the mutated class
+ * test the mutated class.
+ * 
+ * Only tests that executed the block containing a mutation are assigned, so
+ * a mutation on a line holding several blocks (ternaries, short circuiting
+ * conditions etc) does not receive tests for the other blocks. Line coverage
+ * is used when the block cannot be determined.
  * @author henry
  *
  */
@@ -28,9 +39,11 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
   private static final int            TIME_WEIGHTING_FOR_DIRECT_UNIT_TESTS = 1000;
   
   private final CoverageDatabase coverage;
+  private final BlockFinder      blocks;
   
-  public DefaultTestPrioritiser(CoverageDatabase coverage) {
+  public DefaultTestPrioritiser(CoverageDatabase coverage, BlockFinder blocks) {
     this.coverage = coverage;
+    this.blocks = blocks;
   }
 
   public List<TestInfo> assignTests(MutationDetails mutation) {
@@ -39,6 +52,10 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
   
   private Collection<TestInfo> pickTests(MutationDetails mutation) {
     if (!mutation.isInStaticInitializer()) {
+      final Option<Collection<TestInfo>> blockTests = pickTestsForBlocks(mutation);
+      if (blockTests.hasSome()) {
+        return blockTests.value();
+      }
       return this.coverage
           .getTestsForClassLine(mutation.getClassLine());
     } else {
@@ -47,6 +64,21 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
     }
   }
   
+  private Option<Collection<TestInfo>> pickTestsForBlocks(
+      MutationDetails mutation) {
+    // mutations inlined into finally blocks may span several blocks
+    final Set<TestInfo> tests = new LinkedHashSet<TestInfo>();
+    final Location location = mutation.getId().getLocation();
+    for (final int each : mutation.getId().getIndexes()) {
+      final Option<BlockLocation> block = this.blocks.findBlock(location, each);
+      if (block.hasNone()) {
+        return Option.none();
+      }
+      tests.addAll(this.coverage.getTestsForBlockLocation(block.value()));
+    }
+    return Option.<Collection<TestInfo>> some(tests);
+  }
+  
   private List<TestInfo> prioritizeTests(ClassName clazz,Collection<TestInfo> testsForMutant) {
     final List<TestInfo> sortedTis = FCollection.map(testsForMutant,
         Prelude.id(TestInfo.class));
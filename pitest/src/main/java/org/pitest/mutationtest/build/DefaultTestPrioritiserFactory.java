@@ -4,6 +4,7 @@ import java.util.Properties;
 
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.analysis.BlockFinder;
 
 public class DefaultTestPrioritiserFactory implements TestPrioritiserFactory {
 
@@ -13,7 +14,7 @@ public class DefaultTestPrioritiserFactory implements TestPrioritiserFactory {
 
   public TestPrioritiser makeTestPrioritiser(final Properties props,
       final CodeSource code, final CoverageDatabase coverage) {
-    return new DefaultTestPrioritiser(coverage);
+    return new DefaultTestPrioritiser(coverage, new BlockFinder(code));
   }
 
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.CodeHistory;
+
+/**
+ * Orders groups of mutations so that those expected to tell us the most for
+ * the least time are analysed first, for runs that may not complete.
+ *
+ * Groups holding a mutation with no recorded result, including those left
+ * unanalysed by an earlier run, come first, followed by groups for classes that
+ * have changed since the history was recorded. Within each of these the groups
+ * whose mutations are cheapest to analyse, judged by the running time of the
+ * tests assigned to them, come first.
+ */
+public class InformationGainPrioritiser implements MutationGroupPrioritiser {
+
+  private static final int  NO_RESULT = 0;
+  private static final int  CHANGED   = 1;
+  private static final int  UNCHANGED = 2;
+
+  private final CodeHistory history;
+
+  public InformationGainPrioritiser(final CodeHistory history) {
+    this.history = history;
+  }
+
+  public List<List<MutationDetails>> prioritise(
+      final List<List<MutationDetails>> groups) {
+    final List<RankedGroup> ranked = new ArrayList<RankedGroup>(groups.size());
+    for (final List<MutationDetails> each : groups) {
+      ranked.add(new RankedGroup(each, rank(each), costPerMutation(each)));
+    }
+    Collections.sort(ranked);
+    return FCollection.map(ranked, toGroup());
+  }
+
+  private int rank(final List<MutationDetails> group) {
+    int rank = UNCHANGED;
+    for (final MutationDetails each : group) {
+      if (hasNoResult(each)) {
+        return NO_RESULT;
+      }
+      if (this.history.hasClassChanged(each.getClassName())) {
+        rank = CHANGED;
+      }
+    }
+    return rank;
+  }
+
+  private boolean hasNoResult(final MutationDetails mutation) {
+    final Option<MutationStatusTestPair> previous = this.history
+        .getPreviousResult(mutation.getId());
+    return previous.hasNone()
+        || (previous.value().getStatus() == DetectionStatus.NOT_STARTED);
+  }
+
+  private static double costPerMutation(final List<MutationDetails> group) {
+    if (group.isEmpty()) {
+      return 0;
+    }
+    long cost = 0;
+    for (final MutationDetails each : group) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        cost = cost + test.getTime();
+      }
+    }
+    return (double) cost / group.size();
+  }
+
+  private static F<RankedGroup, List<MutationDetails>> toGroup() {
+    return new F<RankedGroup, List<MutationDetails>>() {
+      public List<MutationDetails> apply(final RankedGroup a) {
+        return a.group;
+      }
+    };
+  }
+
+  private static final class RankedGroup implements Comparable<RankedGroup> {
+    private final List<MutationDetails> group;
+    private final int                   rank;
+    private final double                cost;
+
+    RankedGroup(final List<MutationDetails> group, final int rank,
+        final double cost) {
+      this.group = group;
+      this.rank = rank;
+      this.cost = cost;
+    }
+
+    public int compareTo(final RankedGroup o) {
+      if (this.rank != o.rank) {
+        return this.rank - o.rank;
+      }
+      return Double.compare(this.cost, o.cost);
+    }
+  }
+
+}
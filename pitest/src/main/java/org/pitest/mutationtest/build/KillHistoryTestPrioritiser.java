@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.KillHistory;
+
+/**
+ * Reorders the tests assigned by another prioritiser so that those most
+ * likely to kill the mutation for each millisecond they take are run first,
+ * judged by which tests killed mutations of the same class and mutator in an
+ * earlier run.
+ *
+ * Tests that killed nothing keep the order given to them, after those that
+ * did.
+ */
+public class KillHistoryTestPrioritiser implements TestPrioritiser {
+
+  private final TestPrioritiser child;
+  private final KillHistory     history;
+
+  public KillHistoryTestPrioritiser(final TestPrioritiser child,
+      final KillHistory history) {
+    this.child = child;
+    this.history = history;
+  }
+
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = new ArrayList<TestInfo>(
+        this.child.assignTests(mutation));
+    final Map<TestInfo, Double> killsPerMillisecond = new HashMap<TestInfo, Double>();
+    for (final TestInfo each : tests) {
+      killsPerMillisecond.put(
+          each,
+          this.history.probabilityOfKilling(each.getName(),
+              mutation.getClassName(), mutation.getMutator())
+              / Math.max(each.getTime(), 1));
+    }
+    // the sort is stable so ties keep the order given by the child
+    Collections.sort(tests, mostKillsPerMillisecondFirst(killsPerMillisecond));
+    return tests;
+  }
+
+  private static Comparator<TestInfo> mostKillsPerMillisecondFirst(
+      final Map<TestInfo, Double> killsPerMillisecond) {
+    return new Comparator<TestInfo>() {
+      public int compare(final TestInfo a, final TestInfo b) {
+        return Double.compare(killsPerMillisecond.get(b),
+            killsPerMillisecond.get(a));
+      }
+    };
+  }
+
+}
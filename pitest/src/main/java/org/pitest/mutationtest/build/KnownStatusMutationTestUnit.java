@@ -29,5 +29,9 @@ public class KnownStatusMutationTestUnit implements
     return Integer.MAX_VALUE;
   }
 
+  public int numberOfMutations() {
+    return this.mutations.size();
+  }
+
 
 }
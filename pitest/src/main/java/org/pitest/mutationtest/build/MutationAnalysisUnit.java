@@ -10,5 +10,10 @@ import org.pitest.mutationtest.MutationMetaData;
 public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
+
+  /**
+   * @return number of mutations the unit will return results for
+   */
+  int numberOfMutations();
   
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+
+import java.util.List;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Orders the groups of mutations analysed together, for runs in which the
+ * order of analysis matters more than keeping the largest units busy.
+ */
+public interface MutationGroupPrioritiser {
+
+  /**
+   * @return the groups, or groups split from them, in the order to analyse
+   *         them
+   */
+  List<List<MutationDetails>> prioritise(List<List<MutationDetails>> groups);
+
+}
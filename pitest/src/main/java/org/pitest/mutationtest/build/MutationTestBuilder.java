@@ -26,6 +26,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
@@ -34,19 +35,34 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 public class MutationTestBuilder {
 
-  private final MutationSource   mutationSource;
-  private final MutationAnalyser analyser;
-  private final WorkerFactory    workerFactory;
-  private final MutationGrouper grouper;
+  private final MutationSource                     mutationSource;
+  private final MutationAnalyser                   analyser;
+  private final WorkerFactory                      workerFactory;
+  private final MutationGrouper                    grouper;
+  private final Option<MutationGroupPrioritiser>   valueOrder;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser,
       final MutationSource mutationSource, final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, Option
+        .<MutationGroupPrioritiser> none());
+  }
+
+  /**
+   * @param valueOrder
+   *          if present, orders units by the value of analysing them rather
+   *          than by size, for runs that may not complete
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser,
+      final MutationSource mutationSource, final MutationGrouper grouper,
+      final Option<MutationGroupPrioritiser> valueOrder) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.valueOrder = valueOrder;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
@@ -72,15 +88,27 @@ public class MutationTestBuilder {
     }
 
     if (!needAnalysis.isEmpty()) {
-      for (final Collection<MutationDetails> ms : grouper.groupMutations(codeClasses, needAnalysis)) {
+      for (final Collection<MutationDetails> ms : orderGroups(grouper
+          .groupMutations(codeClasses, needAnalysis))) {
         tus.add(makeUnanalysedUnit(ms));
       }
     }
-    
-    Collections.sort(tus, new AnalysisPriorityComparator());
+
+    if (this.valueOrder.hasNone()) {
+      Collections.sort(tus, new AnalysisPriorityComparator());
+    }
     return tus;
   }
 
+  private List<List<MutationDetails>> orderGroups(
+      final List<List<MutationDetails>> groups) {
+    if (this.valueOrder.hasNone()) {
+      return groups;
+    }
+    // units are run in the order given, known results first
+    return this.valueOrder.value().prioritise(groups);
+  }
+
   private Comparator<MutationDetails> comparator() {
     return new Comparator<MutationDetails>() {
 
@@ -15,7 +15,10 @@
 package org.pitest.mutationtest.build;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
@@ -36,6 +39,8 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private final Collection<ClassName>       testClasses;
 
+  private final Set<MutationDetails>        runAlone = new HashSet<MutationDetails>();
+
   public MutationTestUnit(final Collection<MutationDetails> availableMutations,
       final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
     this.availableMutations = availableMutations;
@@ -60,10 +65,20 @@ public class MutationTestUnit implements MutationAnalysisUnit {
       final MutationStatusMap mutations) throws IOException,
       InterruptedException {
 
-    final Collection<MutationDetails> remainingMutations = mutations
+    final Collection<MutationDetails> unrunMutations = mutations
         .getUnrunMutations();
-    final MutationTestProcess worker = this.workerFactory.createWorker(
-        remainingMutations, this.testClasses);
+    final Collection<MutationDetails> ungrouped = mustRunAlone(unrunMutations);
+    final Collection<MutationDetails> remainingMutations;
+    final MutationTestProcess worker;
+    if (ungrouped.isEmpty()) {
+      remainingMutations = unrunMutations;
+      worker = this.workerFactory.createWorker(remainingMutations,
+          this.testClasses);
+    } else {
+      remainingMutations = ungrouped;
+      worker = this.workerFactory.createUngroupedWorker(remainingMutations,
+          this.testClasses);
+    }
     worker.start();
 
     setFirstMutationToStatusOfStartedInCaseSlaveFailsAtBoot(mutations,
@@ -72,12 +87,26 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     final ExitCode exitCode = waitForSlaveToDie(worker);
     worker.results(mutations);
 
-    correctResultForProcessExitCode(mutations, exitCode);
+    if (this.workerFactory.isStopped()) {
+      // the slave was killed, so unfinished runs were never analysed
+      mutations.markUnfinishedRuns(DetectionStatus.NOT_STARTED);
+    } else {
+      correctResultForProcessExitCode(mutations, exitCode);
+    }
+
+  }
 
+  private Collection<MutationDetails> mustRunAlone(
+      final Collection<MutationDetails> mutations) {
+    final Collection<MutationDetails> ungrouped = new ArrayList<MutationDetails>(
+        mutations);
+    ungrouped.retainAll(this.runAlone);
+    return ungrouped;
   }
 
   private ExitCode waitForSlaveToDie(final MutationTestProcess worker) {
     final ExitCode exitCode = worker.waitToDie();
+    this.workerFactory.release(worker);
     LOG.fine("Exit code was - " + exitCode);
     return exitCode;
   }
@@ -92,7 +121,14 @@ public class MutationTestUnit implements MutationAnalysisUnit {
   private void correctResultForProcessExitCode(
       final MutationStatusMap mutations, final ExitCode exitCode) {
 
-    if (!exitCode.isOk()) {
+    if (exitCode.equals(ExitCode.GROUP_TIMEOUT)) {
+      // the mutant responsible is not known, so each is run again on its own
+      final Collection<MutationDetails> group = mutations.getUnfinishedRuns();
+      LOG.fine("Group of " + group.size()
+          + " mutants timed out. Running each alone");
+      this.runAlone.addAll(group);
+      mutations.markUnfinishedRuns(DetectionStatus.NOT_STARTED);
+    } else if (!exitCode.isOk()) {
       final Collection<MutationDetails> unfinishedRuns = mutations
           .getUnfinishedRuns();
       final DetectionStatus status = DetectionStatus
@@ -100,7 +136,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
       LOG.warning("Slave exited abnormally due to " + status);
       LOG.fine("Setting " + unfinishedRuns.size() + " unfinished runs to "
           + status + " state");
-      mutations.setStatusForMutations(unfinishedRuns, status);
+      mutations.markUnfinishedRuns(status);
 
     } else {
       LOG.fine("Slave exited ok");
@@ -110,7 +146,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
       throws IOException, InterruptedException {
-    while (mutations.hasUnrunMutations()) {
+    while (mutations.hasUnrunMutations() && !this.workerFactory.isStopped()) {
       runTestInSeperateProcessForMutationRange(mutations);
     }
 
@@ -124,4 +160,8 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return this.availableMutations.size();
   }
 
+  public int numberOfMutations() {
+    return this.availableMutations.size();
+  }
+
 }
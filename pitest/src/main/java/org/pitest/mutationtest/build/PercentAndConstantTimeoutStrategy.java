@@ -35,4 +35,9 @@ public class PercentAndConstantTimeoutStrategy implements TimeoutLengthStrategy
     return Math.round(normalDuration * this.percent) + this.constant;
   }
 
+  public void recordTestTime(final long normalDuration,
+      final long observedDuration) {
+    // fixed allowance, nothing to learn
+  }
+
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+
+/**
+ * Splits groups of mutations by the round in which they join the sample, and
+ * orders them so that each round is analysed before the next.
+ */
+public class SampleRoundPrioritiser implements MutationGroupPrioritiser {
+
+  private final StratifiedSamplingFilter sample;
+
+  public SampleRoundPrioritiser(final StratifiedSamplingFilter sample) {
+    this.sample = sample;
+  }
+
+  public List<List<MutationDetails>> prioritise(
+      final List<List<MutationDetails>> groups) {
+    final List<List<List<MutationDetails>>> rounds = new ArrayList<List<List<MutationDetails>>>();
+    for (int i = 0; i != StratifiedSamplingFilter.ROUNDS; i++) {
+      rounds.add(new ArrayList<List<MutationDetails>>());
+    }
+
+    for (final List<MutationDetails> each : groups) {
+      splitByRound(each, rounds);
+    }
+
+    final List<List<MutationDetails>> ordered = new ArrayList<List<MutationDetails>>();
+    for (final List<List<MutationDetails>> each : rounds) {
+      ordered.addAll(each);
+    }
+    return ordered;
+  }
+
+  private void splitByRound(final List<MutationDetails> group,
+      final List<List<List<MutationDetails>>> rounds) {
+    final List<List<MutationDetails>> split = new ArrayList<List<MutationDetails>>();
+    for (int i = 0; i != StratifiedSamplingFilter.ROUNDS; i++) {
+      split.add(new ArrayList<MutationDetails>());
+    }
+    for (final MutationDetails each : group) {
+      split.get(this.sample.roundOf(each.getId())).add(each);
+    }
+    for (int i = 0; i != StratifiedSamplingFilter.ROUNDS; i++) {
+      if (!split.get(i).isEmpty()) {
+        rounds.get(i).add(split.get(i));
+      }
+    }
+  }
+
+}
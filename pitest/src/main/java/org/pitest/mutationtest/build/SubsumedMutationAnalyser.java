@@ -0,0 +1,53 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Gives mutations subsumed by another mutation a status of subsumed so they
+ * are not analysed, leaving the rest to another analyser. A mutation is only
+ * skipped if its subsumer is among those being analysed, as otherwise nothing
+ * would stand in for it.
+ */
+public class SubsumedMutationAnalyser implements MutationAnalyser {
+
+  private final MutationAnalyser child;
+
+  public SubsumedMutationAnalyser(final MutationAnalyser child) {
+    this.child = child;
+  }
+
+  public Collection<MutationResult> analyse(
+      final Collection<MutationDetails> mutations) {
+    final List<MutationResult> results = new ArrayList<MutationResult>(
+        mutations.size());
+    final List<MutationDetails> remaining = new ArrayList<MutationDetails>();
+    final Set<MutationIdentifier> ids = new HashSet<MutationIdentifier>();
+    for (final MutationDetails each : mutations) {
+      ids.add(each.getId());
+    }
+    for (final MutationDetails each : mutations) {
+      if (each.getSubsumingMutation().hasSome()
+          && ids.contains(each.getSubsumingMutation().value())) {
+        results.add(new MutationResult(each, new MutationStatusTestPair(0,
+            DetectionStatus.SUBSUMED)));
+      } else {
+        remaining.add(each);
+      }
+    }
+
+    results.addAll(this.child.analyse(remaining));
+    return results;
+  }
+
+}
@@ -4,6 +4,8 @@ import static org.pitest.functional.prelude.Prelude.printWith;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.SideEffect1;
@@ -13,48 +15,128 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.mutationtest.execute.SlaveArguments;
+import org.pitest.mutationtest.execute.SlavePool;
 import org.pitest.process.ProcessArgs;
 import org.pitest.testapi.Configuration;
 import org.pitest.util.Log;
-import org.pitest.util.SocketFinder;
 
 public class WorkerFactory {
 
-  private final String                classPath;
-  private final File                  baseDir;
-  private final Configuration         pitConfig;
-  private final TimeoutLengthStrategy timeoutStrategy;
-  private final boolean               verbose;
-  private final MutationConfig        config;
+  private final String                   classPath;
+  private final File                     baseDir;
+  private final Configuration            pitConfig;
+  private final TimeoutLengthStrategy    timeoutStrategy;
+  private final boolean                  mutantTimeBudget;
+  private final boolean                  mutantSchemata;
+  private final int                      mutantGroupSize;
+  private final int                      mutantTestThreads;
+  private final boolean                  verbose;
+  private final MutationConfig           config;
+  private final int                      spareSlaves;
+  private final Set<MutationTestProcess> workers = new HashSet<MutationTestProcess>();
+  private SlavePool                      pool;
+  private volatile boolean               stopped;
 
   public WorkerFactory(final File baseDir, final Configuration pitConfig,
       final MutationConfig mutationConfig,
-      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
-      final String classPath) {
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean mutantTimeBudget, final boolean mutantSchemata,
+      final int mutantGroupSize, final int mutantTestThreads,
+      final int spareSlaves, final boolean verbose, final String classPath) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
+    this.mutantTimeBudget = mutantTimeBudget;
+    this.mutantSchemata = mutantSchemata;
+    this.mutantGroupSize = mutantGroupSize;
+    this.mutantTestThreads = mutantTestThreads;
     this.verbose = verbose;
     this.classPath = classPath;
     this.baseDir = baseDir;
     this.config = mutationConfig;
+    this.spareSlaves = spareSlaves;
   }
 
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    return createWorker(remainingMutations, testClasses, this.mutantGroupSize);
+  }
+
+  /**
+   * Creates a slave that runs each of the supplied mutations on its own
+   */
+  public MutationTestProcess createUngroupedWorker(
+      final Collection<MutationDetails> remainingMutations,
+      final Collection<ClassName> testClasses) {
+    return createWorker(remainingMutations, testClasses, 1);
+  }
+
+  private MutationTestProcess createWorker(
+      final Collection<MutationDetails> remainingMutations,
+      final Collection<ClassName> testClasses, final int groupSize) {
     final SlaveArguments fileArgs = new SlaveArguments(remainingMutations,
         testClasses, this.config.getEngine(), this.timeoutStrategy,
-        Log.isVerbose(), this.pitConfig);
+        this.mutantTimeBudget, this.mutantSchemata, groupSize,
+        this.mutantTestThreads, Log.isVerbose(), this.pitConfig);
 
-    final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
+    return register(pool().createWorker(fileArgs));
+  }
+
+  /**
+   * Kills all slaves and launches no more, so that units finish with their
+   * remaining mutations unanalysed
+   */
+  public synchronized void stop() {
+    this.stopped = true;
+    shutdown();
+    for (final MutationTestProcess each : this.workers) {
+      each.destroy();
+    }
+  }
+
+  public boolean isStopped() {
+    return this.stopped;
+  }
+
+  private synchronized MutationTestProcess register(
+      final MutationTestProcess worker) {
+    if (this.stopped) {
+      worker.destroy();
+    } else {
+      this.workers.add(worker);
+    }
+    return worker;
+  }
+
+  /**
+   * Forgets a slave that has exited
+   */
+  public synchronized void release(final MutationTestProcess worker) {
+    this.workers.remove(worker);
+  }
+
+  /**
+   * Kills any spare slaves booted ahead of need
+   */
+  public synchronized void shutdown() {
+    if (this.pool != null) {
+      this.pool.shutdown();
+    }
+  }
+
+  private synchronized SlavePool pool() {
+    if (this.pool == null) {
+      this.pool = new SlavePool(createProcessArgs(), this.spareSlaves);
+    }
+    return this.pool;
+  }
+
+  private ProcessArgs createProcessArgs() {
+    return ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
+        .andTransport(this.config.getLaunchOptions().getTransport())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(printWith("stderr "));
-
-    final SocketFinder sf = new SocketFinder();
-    final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
-    return worker;
   }
 
   private SideEffect1<String> captureStdOutIfVerbose() {
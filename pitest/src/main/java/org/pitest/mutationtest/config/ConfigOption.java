@@ -17,6 +17,7 @@ package org.pitest.mutationtest.config;
 import java.io.Serializable;
 
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.process.Transport;
 
 public enum ConfigOption {
 
@@ -73,6 +74,43 @@ public enum ConfigOption {
    */
   TIMEOUT_CONST("timeoutConst",
       PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT),
+  /**
+   * Do/don't adjust timeouts based on the test run times observed while
+   * analysing mutants
+   */
+  ADAPTIVE_TIMEOUTS("adaptiveTimeouts", false),
+  /**
+   * Do/don't apply a single timeout to all the tests run against a mutant,
+   * rather than timing out each test individually
+   */
+  MUTANT_TIME_BUDGET("mutantTimeBudget", false),
+  /**
+   * Do/don't switch between mutants of a class within a single meta mutant
+   * rather than redefining the class for each mutant
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+  /**
+   * Maximum number of mutants to enable together when running tests, a group
+   * being split to find which mutants were killed only when a test fails
+   */
+  MUTANT_GROUP_SIZE("mutantGroupSize", 1),
+  /**
+   * Number of threads each slave runs the tests for a mutant across. Only
+   * safe for test suites whose tests share no state.
+   */
+  MUTANT_TEST_THREADS("mutantTestThreads", 1),
+  /**
+   * Number of mutation test slaves to keep booted ahead of need
+   */
+  SPARE_SLAVES("spareSlaves", 0),
+  /**
+   * Share the classes loaded by slaves through class data sharing archives
+   */
+  CLASS_DATA_SHARING("classDataSharing", false),
+  /**
+   * How slaves send their results back, SOCKET or SHARED_MEMORY
+   */
+  TRANSPORT("transport", Transport.SOCKET),
   /**
    * Filter limiting tests to be considered
    */
@@ -143,6 +181,17 @@ public enum ConfigOption {
    */
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
+  /**
+   * Location to record the progress of a run in, so it can be resumed if
+   * killed
+   */
+  CHECKPOINT_FILE("checkpointFile"),
+
+  /**
+   * Do/don't resume from the checkpoint left by a run that was killed
+   */
+  RESUME("resume", false),
+
   /**
    * Mutation score below which to throw an error
    */
@@ -153,6 +202,37 @@ public enum ConfigOption {
    */
   COVERAGE_THRESHOLD("coverageThreshold", 0),
 
+  /**
+   * Stop analysis as soon as it is known whether the mutation and coverage
+   * thresholds will be met
+   */
+  FAIL_FAST("failFast", false),
+
+  /**
+   * Minutes a run may take before unanalysed mutations are left for the next
+   * run. Zero for no limit.
+   */
+  TIME_BUDGET("timeBudget", 0),
+
+  /**
+   * Width, in percentage points, of the confidence interval for the mutation
+   * score at which to stop analysing a random sample of the mutations. Zero to
+   * analyse every mutation.
+   */
+  SAMPLE_INTERVAL_WIDTH("sampleIntervalWidth", 0),
+
+  /**
+   * Do not analyse mutations of a conditional that are subsumed by another
+   * mutation of it
+   */
+  SKIP_SUBSUMED_MUTANTS("skipSubsumedMutants", false),
+
+  /**
+   * Do/don't run first the tests that killed the most mutations of the same
+   * class and mutator in the run recorded in history
+   */
+  ORDER_TESTS_BY_KILL_HISTORY("orderTestsByKillHistory", false),
+
   /**
    * Mutation engine to use
    */
@@ -46,6 +46,7 @@ import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.NullWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.process.Transport;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.util.Glob;
@@ -81,6 +82,8 @@ public class ReportOptions {
 
   private File                           historyInputLocation;
   private File                           historyOutputLocation;
+  private File                           checkpointFile;
+  private boolean                        resume                         = false;
 
   private Collection<File>               sourceDirs;
   private Collection<String>             classPathElements;
@@ -93,6 +96,14 @@ public class ReportOptions {
   private int                            numberOfThreads                = 0;
   private float                          timeoutFactor                  = PercentAndConstantTimeoutStrategy.DEFAULT_FACTOR;
   private long                           timeoutConstant                = PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT;
+  private boolean                        adaptiveTimeouts               = false;
+  private boolean                        mutantTimeBudget               = false;
+  private boolean                        mutantSchemata                 = false;
+  private int                            mutantGroupSize                = 1;
+  private int                            mutantTestThreads              = 1;
+  private int                            spareSlaves                    = 0;
+  private boolean                        classDataSharing               = false;
+  private Transport                      transport                      = Transport.SOCKET;
 
   private Collection<Predicate<String>>  targetTests;
 
@@ -113,6 +124,11 @@ public class ReportOptions {
   private boolean                        exportLineCoverage             = false;
   private int                            mutationThreshold;
   private int                            coverageThreshold;
+  private boolean                        failFast                       = false;
+  private int                            timeBudget                     = 0;
+  private int                            sampleIntervalWidth            = 0;
+  private boolean                        skipSubsumedMutants            = false;
+  private boolean                        orderTestsByKillHistory        = false;
 
   private String                         mutationEngine                 = "gregor";
 
@@ -285,6 +301,70 @@ public class ReportOptions {
     this.timeoutFactor = timeoutFactor;
   }
 
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public void setAdaptiveTimeouts(final boolean adaptiveTimeouts) {
+    this.adaptiveTimeouts = adaptiveTimeouts;
+  }
+
+  public boolean isMutantTimeBudget() {
+    return this.mutantTimeBudget;
+  }
+
+  public void setMutantTimeBudget(final boolean mutantTimeBudget) {
+    this.mutantTimeBudget = mutantTimeBudget;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public int getMutantGroupSize() {
+    return this.mutantGroupSize;
+  }
+
+  public void setMutantGroupSize(final int mutantGroupSize) {
+    this.mutantGroupSize = mutantGroupSize;
+  }
+
+  public int getMutantTestThreads() {
+    return this.mutantTestThreads;
+  }
+
+  public void setMutantTestThreads(final int mutantTestThreads) {
+    this.mutantTestThreads = mutantTestThreads;
+  }
+
+  public int getSpareSlaves() {
+    return this.spareSlaves;
+  }
+
+  public void setSpareSlaves(final int spareSlaves) {
+    this.spareSlaves = spareSlaves;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public void setClassDataSharing(final boolean classDataSharing) {
+    this.classDataSharing = classDataSharing;
+  }
+
+  public Transport getTransport() {
+    return this.transport;
+  }
+
+  public void setTransport(final Transport transport) {
+    this.transport = transport;
+  }
+
   public Collection<Predicate<String>> getTargetTests() {
     return this.targetTests;
   }
@@ -492,6 +572,22 @@ public class ReportOptions {
     return this.historyOutputLocation;
   }
 
+  public File getCheckpointFile() {
+    return this.checkpointFile;
+  }
+
+  public void setCheckpointFile(final File checkpointFile) {
+    this.checkpointFile = checkpointFile;
+  }
+
+  public boolean isResume() {
+    return this.resume;
+  }
+
+  public void setResume(final boolean resume) {
+    this.resume = resume;
+  }
+
   public void setExportLineCoverage(final boolean value) {
     this.exportLineCoverage = value;
   }
@@ -524,6 +620,53 @@ public class ReportOptions {
     this.coverageThreshold = coverageThreshold;
   }
 
+  public boolean isFailFast() {
+    return this.failFast;
+  }
+
+  public void setFailFast(final boolean failFast) {
+    this.failFast = failFast;
+  }
+
+  /**
+   * @return minutes a run may take, zero for no limit
+   */
+  public int getTimeBudget() {
+    return this.timeBudget;
+  }
+
+  public void setTimeBudget(final int timeBudget) {
+    this.timeBudget = timeBudget;
+  }
+
+  /**
+   * @return width in percentage points of the confidence interval at which to
+   *         stop sampling, zero to analyse every mutation
+   */
+  public int getSampleIntervalWidth() {
+    return this.sampleIntervalWidth;
+  }
+
+  public void setSampleIntervalWidth(final int sampleIntervalWidth) {
+    this.sampleIntervalWidth = sampleIntervalWidth;
+  }
+
+  public boolean isSkipSubsumedMutants() {
+    return this.skipSubsumedMutants;
+  }
+
+  public void setSkipSubsumedMutants(final boolean skipSubsumedMutants) {
+    this.skipSubsumedMutants = skipSubsumedMutants;
+  }
+
+  public boolean isOrderTestsByKillHistory() {
+    return this.orderTestsByKillHistory;
+  }
+
+  public void setOrderTestsByKillHistory(final boolean orderTestsByKillHistory) {
+    this.orderTestsByKillHistory = orderTestsByKillHistory;
+  }
+
   public String getJavaExecutable() {
     return this.javaExecutable;
   }
@@ -556,6 +699,8 @@ public class ReportOptions {
         + this.codePaths + ", reportDir=" + this.reportDir
         + ", historyInputLocation=" + this.historyInputLocation
         + ", historyOutputLocation=" + this.historyOutputLocation
+        + ", checkpointFile=" + this.checkpointFile + ", resume="
+        + this.resume
         + ", sourceDirs=" + this.sourceDirs + ", classPathElements="
         + this.classPathElements + ", mutators=" + this.mutators
         + ", dependencyAnalysisMaxDistance="
@@ -563,6 +708,14 @@ public class ReportOptions {
         + this.mutateStaticInitializers + ", jvmArgs=" + this.jvmArgs
         + ", numberOfThreads=" + this.numberOfThreads + ", timeoutFactor="
         + this.timeoutFactor + ", timeoutConstant=" + this.timeoutConstant
+        + ", adaptiveTimeouts=" + this.adaptiveTimeouts
+        + ", mutantTimeBudget=" + this.mutantTimeBudget
+        + ", mutantSchemata=" + this.mutantSchemata
+        + ", mutantGroupSize=" + this.mutantGroupSize
+        + ", mutantTestThreads=" + this.mutantTestThreads
+        + ", spareSlaves=" + this.spareSlaves
+        + ", classDataSharing=" + this.classDataSharing
+        + ", transport=" + this.transport
         + ", targetTests=" + this.targetTests + ", loggingClasses="
         + this.loggingClasses + ", maxMutationsPerClass="
         + this.maxMutationsPerClass + ", verbose=" + this.verbose
@@ -574,7 +727,12 @@ public class ReportOptions {
         + this.detectInlinedCode + ", exportLineCoverage="
         + this.exportLineCoverage + ", mutationThreshold="
         + this.mutationThreshold + ", coverageThreshold="
-        + this.coverageThreshold + ", mutationEngine=" + this.mutationEngine
+        + this.coverageThreshold + ", failFast=" + this.failFast
+        + ", timeBudget=" + this.timeBudget
+        + ", sampleIntervalWidth=" + this.sampleIntervalWidth
+        + ", skipSubsumedMutants=" + this.skipSubsumedMutants
+        + ", orderTestsByKillHistory=" + this.orderTestsByKillHistory
+        + ", mutationEngine=" + this.mutationEngine
         + ", javaExecutable=" + this.javaExecutable + ", includeLaunchClasspath="
         + this.includeLaunchClasspath + "]";
   }
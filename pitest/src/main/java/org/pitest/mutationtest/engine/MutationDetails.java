@@ -21,6 +21,7 @@ import java.util.List;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.ClassLine;
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
 import org.pitest.util.StringUtil;
 
 /**
@@ -36,6 +37,7 @@ public final class MutationDetails {
   private final ArrayList<TestInfo> testsInOrder = new ArrayList<TestInfo>();
   private final boolean             isInFinallyBlock;
   private final boolean             poison;
+  private final MutationIdentifier  subsumedBy;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
@@ -45,6 +47,14 @@ public final class MutationDetails {
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block,
       final boolean isInFinallyBlock, final boolean poison) {
+    this(id, filename, description, lineNumber, block, isInFinallyBlock,
+        poison, null);
+  }
+
+  private MutationDetails(final MutationIdentifier id, final String filename,
+      final String description, final int lineNumber, final int block,
+      final boolean isInFinallyBlock, final boolean poison,
+      final MutationIdentifier subsumedBy) {
     this.id = id;
     this.description = description;
     this.filename = filename;
@@ -52,6 +62,7 @@ public final class MutationDetails {
     this.block = block;
     this.isInFinallyBlock = isInFinallyBlock;
     this.poison = poison;
+    this.subsumedBy = subsumedBy;
   }
 
   @Override
@@ -157,6 +168,43 @@ public final class MutationDetails {
     this.testsInOrder.trimToSize();
   }
 
+  /**
+   * Moves the named test to the front of the list of covering tests so that it
+   * will be run first. Has no effect if the test does not cover this mutation.
+   * @param testName Name of the test to run first
+   */
+  public void runTestFirst(final String testName) {
+    for (int i = 0; i != this.testsInOrder.size(); i++) {
+      if (this.testsInOrder.get(i).getName().equals(testName)) {
+        this.testsInOrder.add(0, this.testsInOrder.remove(i));
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns a copy of this mutation recording that any test killing another
+   * mutation is expected to kill it, so that it need not be analysed
+   * @param subsumer the mutation subsuming this one
+   * @return a copy of this mutation subsumed by the supplied one
+   */
+  public MutationDetails withSubsumingMutation(
+      final MutationIdentifier subsumer) {
+    final MutationDetails copy = new MutationDetails(this.id, this.filename,
+        this.description, this.lineNumber, this.block, this.isInFinallyBlock,
+        this.poison, subsumer);
+    copy.addTestsInOrder(this.testsInOrder);
+    return copy;
+  }
+
+  /**
+   * Returns the mutation that subsumes this one, if there is one
+   * @return the subsuming mutation's identifier
+   */
+  public Option<MutationIdentifier> getSubsumingMutation() {
+    return Option.some(this.subsumedBy);
+  }
+
   /**
    * Indicates if this mutation might poison state within the jvm 
    * (e.g affect the values of static variable)
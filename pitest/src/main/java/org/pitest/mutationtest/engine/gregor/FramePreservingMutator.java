@@ -0,0 +1,31 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.engine.gregor;
+
+/**
+ * A <code>MethodMutatorFactory</code> whose mutations only ever replace an
+ * instruction with one of identical stack effect, without adding or removing
+ * branches, locals or handlers.
+ *
+ * <p>
+ * The stack map frames and maximum stack sizes of the original class remain
+ * valid for mutants created by such a factory, so they are copied through
+ * rather than recomputed. Recomputing frames requires the class hierarchy to
+ * be resolved and is a significant part of the cost of creating a mutant.
+ * </p>
+ */
+public interface FramePreservingMutator extends MethodMutatorFactory {
+
+}
@@ -19,10 +19,8 @@ import static org.pitest.functional.prelude.Prelude.not;
 import static org.pitest.util.Functions.classNameToJVMClassName;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import org.objectweb.asm.ClassReader;
@@ -32,6 +30,7 @@ import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
@@ -42,27 +41,51 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.inlinedcode.InlinedCodeFilter;
+import org.pitest.mutationtest.engine.gregor.subsumption.SubsumedMutationDetector;
 
 public class GregorMutater implements Mutater {
 
-  private final Map<String, String>       computeCache   = new HashMap<String, String>();
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final Set<MethodMutatorFactory> mutators       = new HashSet<MethodMutatorFactory>();
   private final Set<String>               loggingClasses = new HashSet<String>();
   private final InlinedCodeFilter         inlinedCodeDetector;
+  private final Option<SubsumedMutationDetector> subsumptionDetector;
+  // a cache, so not carried over when the mutater is copied
+  private transient TypeHierarchy         hierarchy;
 
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators,
       final Collection<String> loggingClasses,
       final InlinedCodeFilter inlinedCodeDetector) {
+    this(byteSource, filter, mutators, loggingClasses, inlinedCodeDetector,
+        false);
+  }
+
+  /**
+   * @param detectSubsumedMutations
+   *          mark mutations subsumed by another mutation of the same
+   *          conditional. This reads each class a second time, so is done only
+   *          when the subsumed mutations will be skipped.
+   */
+  public GregorMutater(final ClassByteArraySource byteSource,
+      final Predicate<MethodInfo> filter,
+      final Collection<MethodMutatorFactory> mutators,
+      final Collection<String> loggingClasses,
+      final InlinedCodeFilter inlinedCodeDetector,
+      final boolean detectSubsumedMutations) {
     this.filter = filter;
     this.mutators.addAll(mutators);
     this.byteSource = byteSource;
     this.loggingClasses.addAll(FCollection.map(loggingClasses,
         classNameToJVMClassName()));
     this.inlinedCodeDetector = inlinedCodeDetector;
+    if (detectSubsumedMutations) {
+      this.subsumptionDetector = Option.some(new SubsumedMutationDetector());
+    } else {
+      this.subsumptionDetector = Option.none();
+    }
   }
 
   public FunctionalList<MutationDetails> findMutations(
@@ -97,7 +120,13 @@ public class GregorMutater implements Mutater {
 
     first.accept(mca, ClassReader.EXPAND_FRAMES);
 
-    return this.inlinedCodeDetector.process(context.getCollectedMutations());
+    final Collection<MutationDetails> mutations = this.inlinedCodeDetector
+        .process(context.getCollectedMutations());
+    if (this.subsumptionDetector.hasSome()) {
+      return this.subsumptionDetector.value().process(classToMutate,
+          mutations);
+    }
+    return mutations;
   }
 
   private PremutationClassInfo performPreScan(final byte[] classToMutate) {
@@ -119,12 +148,14 @@ public class GregorMutater implements Mutater {
 
     final PremutationClassInfo classInfo = performPreScan(bytes.value());
 
+    final List<MethodMutatorFactory> mutatorsForId = FCollection.filter(
+        this.mutators, isMutatorFor(id));
+
     final ClassReader reader = new ClassReader(bytes.value());
     final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.value()));
+        hierarchy(), pickFlags(bytes.value(), mutatorsForId));
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
-        filterMethods(), classInfo, FCollection.filter(this.mutators,
-            isMutatorFor(id)));
+        filterMethods(), classInfo, mutatorsForId);
     reader.accept(mca, ClassReader.EXPAND_FRAMES);
 
     final List<MutationDetails> details = context.getMutationDetails(context
@@ -134,6 +165,33 @@ public class GregorMutater implements Mutater {
 
   }
 
+  private TypeHierarchy hierarchy() {
+    if (this.hierarchy == null) {
+      this.hierarchy = new TypeHierarchy();
+    }
+    return this.hierarchy;
+  }
+
+  private static int pickFlags(final byte[] bytes,
+      final List<MethodMutatorFactory> mutators) {
+    if (!mutators.isEmpty()
+        && !FCollection.contains(mutators, not(isFramePreserving()))) {
+      // frames and maxs are copied from the original class
+      return 0;
+    }
+    return FrameOptions.pickFlags(bytes);
+  }
+
+  private static Predicate<MethodMutatorFactory> isFramePreserving() {
+    return new Predicate<MethodMutatorFactory>() {
+
+      public Boolean apply(final MethodMutatorFactory a) {
+        return a instanceof FramePreservingMutator;
+      }
+
+    };
+  }
+
   private static Predicate<MethodMutatorFactory> isMutatorFor(
       final MutationIdentifier id) {
     return new Predicate<MethodMutatorFactory>() {
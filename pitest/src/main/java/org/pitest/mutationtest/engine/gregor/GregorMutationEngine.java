@@ -38,17 +38,20 @@ public class GregorMutationEngine implements MutationEngine {
   private final Set<String>               loggingClasses    = new LinkedHashSet<String>();
   private final Predicate<MethodInfo>     methodFilter;
   private final InlinedCodeFilter         inlinedCodeDetector;
+  private final boolean                   detectSubsumedMutations;
 
   public GregorMutationEngine(final MutationEngineConfiguration config) {
     this.methodFilter = config.methodFilter();
     this.mutationOperators.addAll(config.mutators());
     this.loggingClasses.addAll(config.doNotMutateCallsTo());
     this.inlinedCodeDetector = config.inlinedCodeDetector();
+    this.detectSubsumedMutations = config.detectSubsumedMutations();
   }
 
   public Mutater createMutator(final ClassByteArraySource byteSource) {
     return new GregorMutater(byteSource, this.methodFilter,
-        this.mutationOperators, this.loggingClasses, this.inlinedCodeDetector);
+        this.mutationOperators, this.loggingClasses, this.inlinedCodeDetector,
+        this.detectSubsumedMutations);
   }
 
   @Override
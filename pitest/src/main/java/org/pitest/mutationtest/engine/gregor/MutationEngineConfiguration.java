@@ -29,4 +29,10 @@ public interface MutationEngineConfiguration {
 
   InlinedCodeFilter inlinedCodeDetector();
 
+  /**
+   * @return true if mutations subsumed by another mutation of the same
+   *         conditional should be marked as such
+   */
+  boolean detectSubsumedMutations();
+
 }
@@ -29,15 +29,18 @@ public class DefaultMutationEngineConfiguration implements
   private final Collection<String>                         doNotMutate;
   private final Collection<? extends MethodMutatorFactory> mutators;
   private final InlinedCodeFilter                          inlinedCodeDetector;
+  private final boolean                                    detectSubsumedMutations;
 
   public DefaultMutationEngineConfiguration(final Predicate<MethodInfo> filter,
       final Collection<String> loggingClasses,
       final Collection<? extends MethodMutatorFactory> mutators,
-      final InlinedCodeFilter inlinedCodeDetector) {
+      final InlinedCodeFilter inlinedCodeDetector,
+      final boolean detectSubsumedMutations) {
     this.methodFilter = filter;
     this.doNotMutate = loggingClasses;
     this.mutators = mutators;
     this.inlinedCodeDetector = inlinedCodeDetector;
+    this.detectSubsumedMutations = detectSubsumedMutations;
   }
 
   public Collection<? extends MethodMutatorFactory> mutators() {
@@ -56,5 +59,9 @@ public class DefaultMutationEngineConfiguration implements
     return this.inlinedCodeDetector;
   }
 
+  public boolean detectSubsumedMutations() {
+    return this.detectSubsumedMutations;
+  }
+
 
 }
@@ -33,10 +33,11 @@ public final class GregorEngineFactory implements MutationEngineFactory {
   public MutationEngine createEngine(final boolean mutateStaticInitializers,
       final Predicate<String> excludedMethods,
       final Collection<String> loggingClasses,
-      final Collection<String> mutators, final boolean detectInlinedCode) {
+      final Collection<String> mutators, final boolean detectInlinedCode,
+      final boolean skipSubsumedMutants) {
     return createEngineWithMutators(mutateStaticInitializers, excludedMethods,
         loggingClasses, createMutatorListFromArrayOrUseDefaults(mutators),
-        detectInlinedCode);
+        detectInlinedCode, skipSubsumedMutants);
   }
 
   public MutationEngine createEngineWithMutators(
@@ -44,13 +45,13 @@ public final class GregorEngineFactory implements MutationEngineFactory {
       final Predicate<String> excludedMethods,
       final Collection<String> loggingClasses,
       final Collection<? extends MethodMutatorFactory> mutators,
-      final boolean detectInlinedCode) {
+      final boolean detectInlinedCode, final boolean skipSubsumedMutants) {
 
     final Predicate<MethodInfo> filter = pickFilter(mutateStaticInitializers,
         Prelude.not(stringToMethodInfoPredicate(excludedMethods)));
     final DefaultMutationEngineConfiguration config = new DefaultMutationEngineConfiguration(
         filter, loggingClasses, mutators,
-        inlinedCodeDetector(detectInlinedCode));
+        inlinedCodeDetector(detectInlinedCode), skipSubsumedMutants);
     return new GregorMutationEngine(config);
   }
 
@@ -20,11 +20,12 @@ import java.util.Map;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.pitest.mutationtest.engine.gregor.AbstractJumpMutator;
+import org.pitest.mutationtest.engine.gregor.FramePreservingMutator;
 import org.pitest.mutationtest.engine.gregor.MethodInfo;
 import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
 import org.pitest.mutationtest.engine.gregor.MutationContext;
 
-public enum ConditionalsBoundaryMutator implements MethodMutatorFactory {
+public enum ConditionalsBoundaryMutator implements FramePreservingMutator {
 
   CONDITIONALS_BOUNDARY_MUTATOR;
 
@@ -17,11 +17,12 @@ package org.pitest.mutationtest.engine.gregor.mutators;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.FramePreservingMutator;
 import org.pitest.mutationtest.engine.gregor.MethodInfo;
 import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
 import org.pitest.mutationtest.engine.gregor.MutationContext;
 
-public enum IncrementsMutator implements MethodMutatorFactory {
+public enum IncrementsMutator implements FramePreservingMutator {
 
   INCREMENTS_MUTATOR;
 
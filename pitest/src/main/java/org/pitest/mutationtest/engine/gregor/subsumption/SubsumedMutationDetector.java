@@ -0,0 +1,338 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.engine.gregor.subsumption;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.analysis.DefaultInstructionCounter;
+import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
+import org.pitest.mutationtest.engine.gregor.analysis.InstructionTrackingMethodVisitor;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator.Choice;
+
+/**
+ * Marks mutations of a conditional jump that are subsumed by another mutation
+ * of the same jump, so that they need not be analysed.
+ *
+ * A jump is taken for some of the outcomes of comparing its operands (less,
+ * equal or greater), and each mutation of it changes the outcomes for which
+ * it is taken. A mutation is subsumed by another if, for every outcome on
+ * which the other differs from the original jump, it takes the same branch as
+ * the other. A test that kills the other must reach the jump with one of
+ * these outcomes, and the first time it does so both mutants leave the jump
+ * in the same state. The subsumed mutant can still behave differently on
+ * later executions of the jump, so the subsumption is exact for a single
+ * evaluation of the condition and a close approximation otherwise.
+ *
+ * The mutations kept are chosen starting with those differing from the
+ * original on the fewest outcomes, as these are the hardest to kill.
+ */
+public class SubsumedMutationDetector {
+
+  private static final int     LESS     = 1;
+  private static final int     EQUAL    = 2;
+  private static final int     GREATER  = 4;
+  private static final int     NEVER    = 0;
+  private static final int     ALWAYS   = LESS | EQUAL | GREATER;
+
+  private static final String  NEGATE   = NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR
+                                            .getGloballyUniqueId();
+  private static final String  BOUNDARY = ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR
+                                            .getGloballyUniqueId();
+
+  private final Map<String, Integer> removals = new HashMap<String, Integer>();
+
+  public SubsumedMutationDetector() {
+    for (final Choice each : Choice.values()) {
+      // replacing the check with true falls through to the body of the if
+      this.removals.put(
+          new RemoveConditionalMutator(each, true).getGloballyUniqueId(), NEVER);
+      this.removals.put(
+          new RemoveConditionalMutator(each, false).getGloballyUniqueId(),
+          ALWAYS);
+    }
+  }
+
+  /**
+   * Returns the supplied mutations, with those that are subsumed replaced by
+   * copies recording the mutation subsuming them
+   */
+  public Collection<MutationDetails> process(final byte[] classBytes,
+      final Collection<MutationDetails> mutations) {
+    final Map<Instruction, List<MutationDetails>> byJump = groupByInstruction(mutations);
+    if (byJump.isEmpty()) {
+      return mutations;
+    }
+
+    final Map<Instruction, Integer> jumps = findJumps(classBytes);
+    final Map<MutationDetails, MutationIdentifier> subsumers = new HashMap<MutationDetails, MutationIdentifier>();
+    for (final Map.Entry<Instruction, List<MutationDetails>> each : byJump
+        .entrySet()) {
+      final Integer opcode = jumps.get(each.getKey());
+      if (opcode != null) {
+        findSubsumed(opcode, each.getValue(), subsumers);
+      }
+    }
+
+    final List<MutationDetails> marked = new ArrayList<MutationDetails>(
+        mutations.size());
+    for (final MutationDetails each : mutations) {
+      final MutationIdentifier subsumer = subsumers.get(each);
+      if (subsumer != null) {
+        marked.add(each.withSubsumingMutation(subsumer));
+      } else {
+        marked.add(each);
+      }
+    }
+    return marked;
+  }
+
+  private Map<Instruction, List<MutationDetails>> groupByInstruction(
+      final Collection<MutationDetails> mutations) {
+    final Map<Instruction, List<MutationDetails>> grouped = new HashMap<Instruction, List<MutationDetails>>();
+    for (final MutationDetails each : mutations) {
+      if (isJumpMutation(each)) {
+        final Instruction key = new Instruction(each.getId().getLocation(),
+            each.getFirstIndex());
+        List<MutationDetails> ms = grouped.get(key);
+        if (ms == null) {
+          ms = new ArrayList<MutationDetails>();
+          grouped.put(key, ms);
+        }
+        ms.add(each);
+      }
+    }
+
+    final Map<Instruction, List<MutationDetails>> several = new HashMap<Instruction, List<MutationDetails>>();
+    for (final Map.Entry<Instruction, List<MutationDetails>> each : grouped
+        .entrySet()) {
+      if (each.getValue().size() > 1) {
+        several.put(each.getKey(), each.getValue());
+      }
+    }
+    return several;
+  }
+
+  private boolean isJumpMutation(final MutationDetails mutation) {
+    final String mutator = mutation.getMutator();
+    return (mutation.getId().getIndexes().size() == 1)
+        && (mutator.equals(NEGATE) || mutator.equals(BOUNDARY) || this.removals
+            .containsKey(mutator));
+  }
+
+  private void findSubsumed(final int opcode,
+      final List<MutationDetails> mutations,
+      final Map<MutationDetails, MutationIdentifier> subsumers) {
+    final Option<Integer> original = takenFor(opcode);
+    if (original.hasNone()) {
+      return;
+    }
+
+    final List<Mutant> mutants = new ArrayList<Mutant>();
+    for (final MutationDetails each : mutations) {
+      mutants.add(new Mutant(each, mutantTakenFor(each.getMutator(),
+          original.value()), original.value()));
+    }
+    Collections.sort(mutants, hardestToKillFirst());
+
+    final List<Mutant> kept = new ArrayList<Mutant>();
+    for (final Mutant each : mutants) {
+      final Option<Mutant> subsumer = findSubsumer(kept, each);
+      if (subsumer.hasSome()) {
+        subsumers.put(each.details, subsumer.value().details.getId());
+      } else {
+        kept.add(each);
+      }
+    }
+  }
+
+  private static Option<Mutant> findSubsumer(final List<Mutant> kept,
+      final Mutant mutant) {
+    for (final Mutant each : kept) {
+      if (each.subsumes(mutant)) {
+        return Option.some(each);
+      }
+    }
+    return Option.none();
+  }
+
+  private int mutantTakenFor(final String mutator, final int original) {
+    if (mutator.equals(NEGATE)) {
+      return ALWAYS & ~original;
+    } else if (mutator.equals(BOUNDARY)) {
+      return original ^ EQUAL;
+    } else {
+      return this.removals.get(mutator);
+    }
+  }
+
+  private static Option<Integer> takenFor(final int opcode) {
+    switch (opcode) {
+    case Opcodes.IFEQ:
+    case Opcodes.IF_ICMPEQ:
+    case Opcodes.IF_ACMPEQ:
+    case Opcodes.IFNULL:
+      return Option.some(EQUAL);
+    case Opcodes.IFNE:
+    case Opcodes.IF_ICMPNE:
+    case Opcodes.IF_ACMPNE:
+    case Opcodes.IFNONNULL:
+      return Option.some(LESS | GREATER);
+    case Opcodes.IFLT:
+    case Opcodes.IF_ICMPLT:
+      return Option.some(LESS);
+    case Opcodes.IFLE:
+    case Opcodes.IF_ICMPLE:
+      return Option.some(LESS | EQUAL);
+    case Opcodes.IFGT:
+    case Opcodes.IF_ICMPGT:
+      return Option.some(GREATER);
+    case Opcodes.IFGE:
+    case Opcodes.IF_ICMPGE:
+      return Option.some(EQUAL | GREATER);
+    default:
+      return Option.none();
+    }
+  }
+
+  private static Map<Instruction, Integer> findJumps(final byte[] classBytes) {
+    final JumpScanner scanner = new JumpScanner();
+    // frames are counted as instructions, so must be expanded as when
+    // mutations are found
+    new ClassReader(classBytes).accept(scanner, ClassReader.EXPAND_FRAMES);
+    return scanner.jumps;
+  }
+
+  private static Comparator<Mutant> hardestToKillFirst() {
+    return new Comparator<Mutant>() {
+      public int compare(final Mutant a, final Mutant b) {
+        final int byOutcomes = Integer.bitCount(a.differsFor)
+            - Integer.bitCount(b.differsFor);
+        if (byOutcomes != 0) {
+          return byOutcomes;
+        }
+        return a.details.getMutator().compareTo(b.details.getMutator());
+      }
+    };
+  }
+
+  private static final class Mutant {
+    private final MutationDetails details;
+    private final int             takenFor;
+    private final int             differsFor;
+
+    Mutant(final MutationDetails details, final int takenFor,
+        final int original) {
+      this.details = details;
+      this.takenFor = takenFor;
+      this.differsFor = takenFor ^ original;
+    }
+
+    boolean subsumes(final Mutant other) {
+      return (this.differsFor != 0)
+          && (((this.takenFor ^ other.takenFor) & this.differsFor) == 0);
+    }
+  }
+
+  private static final class Instruction {
+    private final Location location;
+    private final int      index;
+
+    Instruction(final Location location, final int index) {
+      this.location = location;
+      this.index = index;
+    }
+
+    @Override
+    public int hashCode() {
+      return (31 * this.location.hashCode()) + this.index;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof Instruction)) {
+        return false;
+      }
+      final Instruction other = (Instruction) obj;
+      return (this.index == other.index)
+          && this.location.equals(other.location);
+    }
+  }
+
+  private static final class JumpScanner extends ClassVisitor {
+    private final Map<Instruction, Integer> jumps = new HashMap<Instruction, Integer>();
+    private ClassName                       className;
+
+    JumpScanner() {
+      super(Opcodes.ASM5);
+    }
+
+    @Override
+    public void visit(final int version, final int access, final String name,
+        final String signature, final String superName,
+        final String[] interfaces) {
+      this.className = ClassName.fromString(name);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      final InstructionCounter counter = new DefaultInstructionCounter();
+      return new InstructionTrackingMethodVisitor(new JumpRecorder(
+          Location.location(this.className, MethodName.fromString(name), desc),
+          counter, this.jumps), counter);
+    }
+  }
+
+  private static final class JumpRecorder extends MethodVisitor {
+    private final Location                  location;
+    private final InstructionCounter        counter;
+    private final Map<Instruction, Integer> jumps;
+
+    JumpRecorder(final Location location, final InstructionCounter counter,
+        final Map<Instruction, Integer> jumps) {
+      super(Opcodes.ASM5);
+      this.location = location;
+      this.counter = counter;
+      this.jumps = jumps;
+    }
+
+    @Override
+    public void visitJumpInsn(final int opcode, final Label label) {
+      this.jumps.put(new Instruction(this.location,
+          this.counter.currentInstructionCount()), opcode);
+    }
+  }
+
+}
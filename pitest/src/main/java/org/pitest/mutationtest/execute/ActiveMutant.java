@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+/**
+ * Holds the ids of the mutants currently enabled within meta mutant classes.
+ *
+ * Normally a single mutant is enabled through {@link #id}. When a group of
+ * mutants in different methods are enabled together {@link #group} is set
+ * instead, and holds the id enabled within each method at the index of the
+ * lowest id of the method's mutants.
+ *
+ * Read directly by the code generated by {@link MetaMutantBuilder}, so must
+ * be loaded by the same loader as the classes under test.
+ */
+public final class ActiveMutant {
+
+  public static final int NONE  = 0;
+
+  public static int       id    = NONE;
+
+  public static int[]     group = null;
+
+  private ActiveMutant() {
+  }
+
+  /**
+   * @param method
+   *          lowest id of the mutants within a method
+   * @return id of the mutant enabled within the method
+   */
+  public static int idFor(final int method) {
+    final int[] active = group;
+    if (active == null) {
+      return id;
+    }
+    return active[method];
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.Remapper;
+import org.objectweb.asm.commons.RemappingClassAdapter;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathRoot;
+import org.pitest.classpath.DirectoryClassPathRoot;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.Unchecked;
+
+/**
+ * Creates class loaders in which a mutant that may poison the jvm, such as a
+ * mutant of a static initializer, can be tested without affecting the classes
+ * used for other mutants.
+ *
+ * Only classes from the directories on the class path are reloaded. These are
+ * the mutated class, the classes it refers to (whose static state its
+ * initializer may change), and every class that depends on any of these,
+ * directly or indirectly, so that no class shared with other mutants can link
+ * to a reloaded one. Libraries and the remaining classes come from the parent
+ * loader. Static state held by libraries is therefore shared between mutants.
+ *
+ * The class path and the dependencies between classes are read once and
+ * shared by every loader created. A mutated class that is not in a directory
+ * on the class path is given a loader that reloads everything.
+ */
+class IsolatingClassLoaderFactory {
+
+  private final ClassLoader               parent;
+
+  private ClassPath                       classPath;
+  private ClassPath                       projectClassPath;
+  private Map<String, Collection<String>> references;
+  private Map<String, Collection<String>> dependants;
+
+  IsolatingClassLoaderFactory(final ClassLoader parent) {
+    this.parent = parent;
+  }
+
+  synchronized ClassLoader createLoaderFor(final ClassName mutated) {
+    readClassPath();
+    final String name = mutated.asJavaName();
+    if (!this.references.containsKey(name)) {
+      return new DefaultPITClassloader(this.classPath,
+          IsolationUtils.bootClassLoader());
+    }
+    return new ReloadingClassLoader(this.projectClassPath, this.parent,
+        findClassesToReload(name));
+  }
+
+  Set<String> findClassesToReload(final String mutated) {
+    final Set<String> reloaded = new HashSet<String>();
+    final List<String> toVisit = new ArrayList<String>();
+    toVisit.add(mutated);
+    toVisit.addAll(this.references.get(mutated));
+    while (!toVisit.isEmpty()) {
+      final String each = toVisit.remove(toVisit.size() - 1);
+      if (reloaded.add(each)) {
+        toVisit.addAll(this.dependants.get(each));
+      }
+    }
+    return reloaded;
+  }
+
+  private void readClassPath() {
+    if (this.classPath != null) {
+      return;
+    }
+    this.classPath = new ClassPath();
+    this.projectClassPath = this.classPath.getComponent(isDirectory());
+    this.references = new HashMap<String, Collection<String>>();
+    this.dependants = new HashMap<String, Collection<String>>();
+
+    final Collection<String> names = this.projectClassPath.classNames();
+    for (final String each : names) {
+      this.dependants.put(each, new ArrayList<String>());
+    }
+    for (final String each : names) {
+      final Collection<String> referenced = findReferences(each);
+      referenced.retainAll(this.dependants.keySet());
+      referenced.remove(each);
+      this.references.put(each, referenced);
+      for (final String reference : referenced) {
+        this.dependants.get(reference).add(each);
+      }
+    }
+  }
+
+  private Collection<String> findReferences(final String clazz) {
+    final Set<String> referenced = new HashSet<String>();
+    try {
+      final byte[] bytes = this.projectClassPath.getClassData(clazz);
+      if (bytes != null) {
+        new ClassReader(bytes).accept(new ReferenceReader(referenced),
+            ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return referenced;
+  }
+
+  private static Predicate<ClassPathRoot> isDirectory() {
+    return new Predicate<ClassPathRoot>() {
+      public Boolean apply(final ClassPathRoot a) {
+        return a instanceof DirectoryClassPathRoot;
+      }
+    };
+  }
+
+  private static class ReferenceReader extends RemappingClassAdapter {
+    ReferenceReader(final Set<String> referenced) {
+      super(new ClassVisitor(Opcodes.ASM5) {
+        // method bodies are only remapped if visited
+        @Override
+        public MethodVisitor visitMethod(final int access, final String name,
+            final String desc, final String signature,
+            final String[] exceptions) {
+          return new MethodVisitor(Opcodes.ASM5) {
+          };
+        }
+      }, new ReferenceCollector(referenced));
+    }
+
+    // nesting alone does not link classes together
+
+    @Override
+    public void visitOuterClass(final String owner, final String name,
+        final String desc) {
+    }
+
+    @Override
+    public void visitInnerClass(final String name, final String outerName,
+        final String innerName, final int access) {
+    }
+  }
+
+  /**
+   * Records the types a class refers to without renaming them
+   */
+  private static class ReferenceCollector extends Remapper {
+    private final Set<String> referenced;
+
+    ReferenceCollector(final Set<String> referenced) {
+      this.referenced = referenced;
+    }
+
+    @Override
+    public String map(final String typeName) {
+      this.referenced.add(typeName.replace('/', '.'));
+      return typeName;
+    }
+  }
+
+}
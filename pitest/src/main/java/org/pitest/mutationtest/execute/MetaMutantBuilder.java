@@ -0,0 +1,295 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Combines a class with a number of its mutants to produce a single meta
+ * mutant class.
+ *
+ * Each mutated method is rewritten to switch on the id returned by
+ * {@link ActiveMutant#idFor(int)} on entry, jumping to a copy of the body
+ * taken from the appropriate mutant or falling through to the original code.
+ * Enabling a mutant is then a field write rather than a class redefinition.
+ *
+ * No fields or methods are added, so the result can be installed with a
+ * normal redefinition. Constructors cannot be handled in this way, as no code
+ * may precede the call to super.
+ */
+class MetaMutantBuilder {
+
+  private static final String        ACTIVE_MUTANT = Type
+                                                       .getInternalName(ActiveMutant.class);
+
+  private final ClassByteArraySource byteSource;
+  private final TypeHierarchy        hierarchy     = new TypeHierarchy();
+
+  MetaMutantBuilder(final ClassByteArraySource byteSource) {
+    this.byteSource = byteSource;
+  }
+
+  static boolean canInclude(final MutationDetails mutation) {
+    return !mutation.mayPoisonJVM()
+        && !mutation.getMethod().name().equals("<init>");
+  }
+
+  /**
+   * Builds the meta mutant.
+   *
+   * @param clazz
+   *          the class to build a meta mutant of
+   * @param mutants
+   *          mutants of the class keyed by the id to enable them with. The
+   *          details of every mutant must satisfy
+   *          {@link #canInclude(MutationDetails)}.
+   * @return bytes of the meta mutant class
+   */
+  byte[] build(final ClassName clazz, final Map<Integer, Mutant> mutants) {
+    final byte[] original = this.byteSource.getBytes(clazz.asJavaName())
+        .value();
+    final Map<String, SortedMap<Integer, byte[]>> variants = groupByMethod(mutants);
+    final ClassReader reader = new ClassReader(original);
+    final ClassWriter w = new ComputeClassWriter(this.byteSource,
+        this.hierarchy, FrameOptions.pickFlags(original));
+    reader.accept(new MetaMutantClassVisitor(w, variants),
+        ClassReader.SKIP_FRAMES);
+    return w.toByteArray();
+  }
+
+  private static Map<String, SortedMap<Integer, byte[]>> groupByMethod(
+      final Map<Integer, Mutant> mutants) {
+    final Map<String, SortedMap<Integer, byte[]>> variants = new HashMap<String, SortedMap<Integer, byte[]>>();
+    for (final Entry<Integer, Mutant> each : mutants.entrySet()) {
+      final String key = methodKey(each.getValue().getDetails().getId()
+          .getLocation());
+      SortedMap<Integer, byte[]> forMethod = variants.get(key);
+      if (forMethod == null) {
+        forMethod = new TreeMap<Integer, byte[]>();
+        variants.put(key, forMethod);
+      }
+      forMethod.put(each.getKey(), each.getValue().getBytes());
+    }
+    return variants;
+  }
+
+  private static String methodKey(final Location location) {
+    return location.getMethodName().name() + location.getMethodDesc();
+  }
+
+  private static class MetaMutantClassVisitor extends ClassVisitor {
+
+    private final Map<String, SortedMap<Integer, byte[]>> variants;
+
+    MetaMutantClassVisitor(final ClassVisitor cv,
+        final Map<String, SortedMap<Integer, byte[]>> variants) {
+      super(Opcodes.ASM5, cv);
+      this.variants = variants;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      final MethodVisitor mv = super.visitMethod(access, name, desc,
+          signature, exceptions);
+      final SortedMap<Integer, byte[]> forMethod = this.variants.get(name
+          + desc);
+      if (forMethod == null) {
+        return mv;
+      }
+      return new SwitchingMethodVisitor(mv, name, desc, forMethod);
+    }
+
+  }
+
+  private static class SwitchingMethodVisitor extends MethodVisitor {
+
+    private final String                     name;
+    private final String                     desc;
+    private final SortedMap<Integer, byte[]> variants;
+    private final Label[]                    starts;
+
+    SwitchingMethodVisitor(final MethodVisitor mv, final String name,
+        final String desc, final SortedMap<Integer, byte[]> variants) {
+      super(Opcodes.ASM5, mv);
+      this.name = name;
+      this.desc = desc;
+      this.variants = variants;
+      this.starts = new Label[variants.size()];
+      for (int i = 0; i != this.starts.length; i++) {
+        this.starts[i] = new Label();
+      }
+    }
+
+    @Override
+    public void visitCode() {
+      super.visitCode();
+      final Label original = new Label();
+      final int[] ids = new int[this.variants.size()];
+      int i = 0;
+      for (final Integer each : this.variants.keySet()) {
+        ids[i] = each;
+        i++;
+      }
+      this.mv.visitLdcInsn(this.variants.firstKey());
+      this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, ACTIVE_MUTANT, "idFor",
+          "(I)I", false);
+      this.mv.visitLookupSwitchInsn(original, ids, this.starts);
+      this.mv.visitLabel(original);
+    }
+
+    @Override
+    public void visitMaxs(final int maxStack, final int maxLocals) {
+      int i = 0;
+      for (final byte[] each : this.variants.values()) {
+        this.mv.visitLabel(this.starts[i]);
+        new ClassReader(each).accept(new BodyExtractingClassVisitor(this.mv,
+            this.name, this.desc), ClassReader.SKIP_FRAMES);
+        i++;
+      }
+      super.visitMaxs(maxStack, maxLocals);
+    }
+
+  }
+
+  private static class BodyExtractingClassVisitor extends ClassVisitor {
+
+    private final MethodVisitor target;
+    private final String        name;
+    private final String        desc;
+
+    BodyExtractingClassVisitor(final MethodVisitor target, final String name,
+        final String desc) {
+      super(Opcodes.ASM5);
+      this.target = target;
+      this.name = name;
+      this.desc = desc;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      if (this.name.equals(name) && this.desc.equals(desc)) {
+        return new BodyCopyingMethodVisitor(this.target);
+      }
+      return null;
+    }
+
+  }
+
+  /**
+   * Passes on instructions, try catch blocks and line numbers while dropping
+   * anything that may only appear once per method.
+   */
+  private static class BodyCopyingMethodVisitor extends MethodVisitor {
+
+    BodyCopyingMethodVisitor(final MethodVisitor mv) {
+      super(Opcodes.ASM5, mv);
+    }
+
+    @Override
+    public void visitParameter(final String name, final int access) {
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotationDefault() {
+      return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String desc,
+        final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitTypeAnnotation(final int typeRef,
+        final TypePath typePath, final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitParameterAnnotation(final int parameter,
+        final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public void visitAttribute(final Attribute attr) {
+    }
+
+    @Override
+    public void visitCode() {
+    }
+
+    @Override
+    public AnnotationVisitor visitInsnAnnotation(final int typeRef,
+        final TypePath typePath, final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitTryCatchAnnotation(final int typeRef,
+        final TypePath typePath, final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public void visitLocalVariable(final String name, final String desc,
+        final String signature, final Label start, final Label end,
+        final int index) {
+    }
+
+    @Override
+    public AnnotationVisitor visitLocalVariableAnnotation(final int typeRef,
+        final TypePath typePath, final Label[] start, final Label[] end,
+        final int[] index, final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public void visitMaxs(final int maxStack, final int maxLocals) {
+    }
+
+    @Override
+    public void visitEnd() {
+    }
+
+  }
+
+}
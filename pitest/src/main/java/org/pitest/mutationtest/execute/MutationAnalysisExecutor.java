@@ -1,16 +1,21 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.pitest.functional.FCollection;
+import org.pitest.functional.SideEffect;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
@@ -21,14 +26,38 @@ import org.pitest.util.Unchecked;
 
 public class MutationAnalysisExecutor {
 
-  private static final Logger                LOG = Log.getLogger();
+  /**
+   * Deadline for runs that may take as long as they need
+   */
+  public static final long                   NO_DEADLINE = Long.MAX_VALUE;
+
+  private static final Logger                LOG         = Log.getLogger();
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final long                         deadline;
+  private final SideEffect                   stop;
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, listeners, NO_DEADLINE, new SideEffect() {
+      public void apply() {
+      }
+    });
+  }
+
+  /**
+   * @param deadline
+   *          time in milliseconds since the epoch by which analysis must end
+   * @param stop
+   *          stops analysis, so that units in progress or yet to start return
+   *          their remaining mutations unanalysed
+   */
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, long deadline, SideEffect stop) {
     this.listeners = listeners;
+    this.deadline = deadline;
+    this.stop = stop;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
         Executors.defaultThreadFactory());
@@ -48,13 +77,16 @@ public class MutationAnalysisExecutor {
     }
     
     this.executor.shutdown();
-        
+
+    final Timer timer = scheduleStopAtDeadline();
     try {
       processResult(results);
     } catch (InterruptedException e) {
       throw Unchecked.translateCheckedException(e);
     } catch (ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
+    } finally {
+      timer.cancel();
     }
     
     signalRunEndToAllListeners();
@@ -62,6 +94,24 @@ public class MutationAnalysisExecutor {
 
   }
 
+  private Timer scheduleStopAtDeadline() {
+    final Timer timer = new Timer("pit-time-budget", true);
+    if (this.deadline != NO_DEADLINE) {
+      timer.schedule(new TimerTask() {
+        @Override
+        public void run() {
+          LOG.info("Time budget has expired. Stopping analysis.");
+          try {
+            MutationAnalysisExecutor.this.stop.apply();
+          } catch (final RuntimeException ex) {
+            LOG.log(Level.WARNING, "Could not stop analysis", ex);
+          }
+        }
+      }, new Date(this.deadline));
+    }
+    return timer;
+  }
+
   private void processResult(List<Future<MutationMetaData>> results) throws InterruptedException, ExecutionException {
     for ( Future<MutationMetaData> f  : results ) {
       MutationMetaData r = f.get();
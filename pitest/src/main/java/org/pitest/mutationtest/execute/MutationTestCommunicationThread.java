@@ -15,9 +15,11 @@
 package org.pitest.mutationtest.execute;
 
 import java.net.ServerSocket;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
 
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
@@ -25,6 +27,7 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.CommunicationThread;
 import org.pitest.util.Id;
 import org.pitest.util.Log;
+import org.pitest.util.MappedRingBuffer;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
@@ -49,9 +52,12 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final Map<MutationIdentifier, Long>                   startTimes;
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final Map<MutationIdentifier, Long> startTimes) {
       this.idMap = idMap;
+      this.startTimes = startTimes;
     }
 
     public void apply(final byte control, final SafeDataInputStream is) {
@@ -75,6 +81,7 @@ public class MutationTestCommunicationThread extends CommunicationThread {
 
     private void handleDescribe(final SafeDataInputStream is) {
       final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+      this.startTimes.put(mutation, System.currentTimeMillis());
       this.idMap.put(mutation, new MutationStatusTestPair(1,
           DetectionStatus.STARTED));
     }
@@ -82,16 +89,47 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   }
 
   private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+  private final Map<MutationIdentifier, Long>                   startTimes;
 
   public MutationTestCommunicationThread(final ServerSocket socket,
       final SlaveArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, Option.<MappedRingBuffer> none());
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final SlaveArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final Option<MappedRingBuffer> ring) {
+    this(socket, arguments, idMap, new HashMap<MutationIdentifier, Long>(),
+        ring);
+  }
+
+  private MutationTestCommunicationThread(final ServerSocket socket,
+      final SlaveArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final Map<MutationIdentifier, Long> startTimes,
+      final Option<MappedRingBuffer> ring) {
+    super(socket, new SendData(arguments), new Receive(idMap, startTimes),
+        ring);
     this.idMap = idMap;
+    this.startTimes = startTimes;
   }
 
+  /**
+   * Returns the last status reported for a mutation. Mutations that were
+   * started but never finished have the time elapsed since they were started
+   * recorded against them, as this is the time lost if the slave died while
+   * analysing them.
+   */
   public MutationStatusTestPair getStatus(final MutationIdentifier id) {
-    return this.idMap.get(id);
+    final MutationStatusTestPair status = this.idMap.get(id);
+    if ((status != null) && (status.getStatus() == DetectionStatus.STARTED)) {
+      return new MutationStatusTestPair(status.getNumberOfTestsRun(),
+          DetectionStatus.STARTED, null, System.currentTimeMillis()
+              - this.startTimes.get(id));
+    }
+    return status;
   }
 
 }
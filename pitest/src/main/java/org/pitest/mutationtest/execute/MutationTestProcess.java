@@ -16,19 +16,40 @@ public class MutationTestProcess {
 
   private final WrappingProcess                 process;
   private final MutationTestCommunicationThread thread;
+  private boolean                               launchedHere;
+  private boolean                               destroyed;
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final SlaveArguments arguments) {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
-        MutationTestSlave.class);
+    this(socket, new WrappingProcess(socket.getLocalPort(), processArgs,
+        MutationTestSlave.class), arguments);
+  }
+
+  /**
+   * @param process
+   *          slave for the socket, which may already have been started
+   */
+  MutationTestProcess(final ServerSocket socket,
+      final WrappingProcess process, final SlaveArguments arguments) {
+    this.process = process;
     this.thread = new MutationTestCommunicationThread(socket, arguments,
-        new HashMap<MutationIdentifier, MutationStatusTestPair>());
+        new HashMap<MutationIdentifier, MutationStatusTestPair>(),
+        this.process.getResultRing());
 
   }
 
-  public void start() throws IOException, InterruptedException {
+  /**
+   * Starts the slave, unless it has already been destroyed
+   */
+  public synchronized void start() throws IOException, InterruptedException {
+    if (this.destroyed) {
+      return;
+    }
     this.thread.start();
-    this.process.start();
+    if (!this.process.isStarted()) {
+      this.launchedHere = true;
+      this.process.start();
+    }
   }
 
   public void results(final MutationStatusMap allmutations)
@@ -43,10 +64,25 @@ public class MutationTestProcess {
 
   }
 
+  /**
+   * Kills the slave, ending any analysis in progress. May be called before the
+   * slave is started or while it is still booting, in which case it is never
+   * waited for.
+   */
+  public synchronized void destroy() {
+    this.destroyed = true;
+    this.thread.stop();
+    this.process.destroy();
+  }
+
   public ExitCode waitToDie() {
     try {
       return this.thread.waitToFinish();
     } finally {
+      // a spare slave connects long before it is accepted
+      if (this.launchedHere) {
+        this.process.recordStartup(this.thread.getConnectionTime());
+      }
       this.process.destroy();
     }
 
@@ -20,6 +20,7 @@ import java.net.Socket;
 import java.net.UnknownHostException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,9 +34,13 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.F3;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
+import org.pitest.process.Transport;
 import org.pitest.testapi.Configuration;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.CommandLineMessage;
@@ -76,14 +81,18 @@ public class MutationTestSlave {
           byteSource);
 
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          paramsFromParent.engine.createMutator(byteSource), loader);
+          paramsFromParent.engine.createMutator(byteSource), loader,
+          pickMetaMutantBuilder(paramsFromParent, byteSource),
+          paramsFromParent.mutantGroupSize);
 
       final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, paramsFromParent.pitConfig);
+          paramsFromParent.testClasses, paramsFromParent.testNames,
+          paramsFromParent.pitConfig);
 
       worker.run(paramsFromParent.mutations, this.reporter,
           new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+              paramsFromParent.mutantTimeBudget,
+              paramsFromParent.mutantTestThreads, tests, this.reporter));
       this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -92,6 +101,17 @@ public class MutationTestSlave {
 
   }
 
+  private static Option<MetaMutantBuilder> pickMetaMutantBuilder(
+      final SlaveArguments paramsFromParent,
+      final ClassByteArraySource byteSource) {
+    // grouped mutants are enabled together within a meta mutant
+    if (paramsFromParent.mutantSchemata
+        || (paramsFromParent.mutantGroupSize > 1)) {
+      return Option.some(new MetaMutantBuilder(byteSource));
+    }
+    return Option.none();
+  }
+
   public static void main(final String[] args) {
 
     LOG.log(Level.FINE, "slave started");
@@ -106,7 +126,8 @@ public class MutationTestSlave {
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
 
-      final Reporter reporter = new DefaultReporter(s.getOutputStream());
+      final Reporter reporter = new DefaultReporter(Transport.resultStream(s,
+          args));
       addMemoryWatchDog(reporter);
 
       final MutationTestSlave instance = new MutationTestSlave(dis, reporter);
@@ -127,11 +148,20 @@ public class MutationTestSlave {
 
   private static List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
+      final Set<String> testNames, final Configuration pitConfig) {
     final Collection<Class<?>> tcs = FCollection.flatMap(testClasses,
         ClassName.nameToClass(loader));
     FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
+    return finder.findTestUnitsForAllSuppliedClasses(tcs,
+        isOneOf(testNames));
+  }
+
+  private static Predicate<Description> isOneOf(final Set<String> testNames) {
+    return new Predicate<Description>() {
+      public Boolean apply(final Description a) {
+        return testNames.contains(a.getQualifiedName());
+      }
+    };
   }
 
   @SuppressWarnings("unchecked")
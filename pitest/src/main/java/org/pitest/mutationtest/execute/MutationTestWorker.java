@@ -20,15 +20,24 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
-import org.pitest.classpath.ClassPath;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F3;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -38,11 +47,10 @@ import org.pitest.testapi.TestResult;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
 import org.pitest.testapi.execute.ExitingResultCollector;
-import org.pitest.testapi.execute.MultipleTestGroup;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
-import org.pitest.util.IsolationUtils;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
 
 public class MutationTestWorker {
@@ -57,24 +65,61 @@ public class MutationTestWorker {
   private final Mutater                                     mutater;
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
+  private final Option<MetaMutantBuilder>                   metaMutantBuilder;
+  private final int                                         groupSize;
+  private final IsolatingClassLoaderFactory                 isolation;
+
+  private final Set<ClassName>                              metaMutantsBuilt = new HashSet<ClassName>();
+  private final Map<ClassName, byte[]>                      metaMutants      = new HashMap<ClassName, byte[]>();
+  private final Map<MutationIdentifier, Integer>            metaMutantIds    = new HashMap<MutationIdentifier, Integer>();
+  private final Map<MutationIdentifier, Integer>            metaMutantSlots  = new HashMap<MutationIdentifier, Integer>();
+  private final Set<MutationIdentifier>                     startedMutants   = new HashSet<MutationIdentifier>();
+  private final Map<MutationIdentifier, Mutant>             preparedMutants  = new HashMap<MutationIdentifier, Mutant>();
+  private int                                               nextMetaMutantId = ActiveMutant.NONE + 1;
+  private ClassName                                         installedMetaMutant;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader) {
+    this(hotswap, mutater, loader, Option.<MetaMutantBuilder> none());
+  }
+
+  MutationTestWorker(final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final Option<MetaMutantBuilder> metaMutantBuilder) {
+    this(hotswap, mutater, loader, metaMutantBuilder, 1);
+  }
+
+  MutationTestWorker(final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final Option<MetaMutantBuilder> metaMutantBuilder, final int groupSize) {
     this.loader = loader;
+    this.isolation = new IsolatingClassLoaderFactory(loader);
     this.mutater = mutater;
     this.hotswap = hotswap;
+    this.metaMutantBuilder = metaMutantBuilder;
+    this.groupSize = groupSize;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
     for (final MutationDetails mutation : range) {
+      if (!this.startedMutants.add(mutation.getId())) {
+        continue;
+      }
       if (DEBUG) {
         LOG.fine("Running mutation " + mutation);
       }
       final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
+      prepareMetaMutant(mutation.getClassName(), range);
+      final List<MutationDetails> group = formGroup(mutation, range,
+          testSource);
+      if (group.size() > 1) {
+        processGroup(r, testSource, group);
+      } else {
+        processMutation(r, testSource, mutation, 0);
+      }
       if (DEBUG) {
         LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
             + " ms.");
@@ -83,12 +128,218 @@ public class MutationTestWorker {
 
   }
 
+  private void prepareMetaMutant(final ClassName clazz,
+      final Collection<MutationDetails> range) {
+    if (this.metaMutantBuilder.hasNone() || !this.metaMutantsBuilt.add(clazz)) {
+      return;
+    }
+
+    final Map<Integer, Mutant> mutants = new HashMap<Integer, Mutant>();
+    final Map<Location, Integer> slots = new HashMap<Location, Integer>();
+    for (final MutationDetails each : range) {
+      if (each.getClassName().equals(clazz)
+          && !each.getTestsInOrder().isEmpty()
+          && MetaMutantBuilder.canInclude(each)) {
+        final Mutant mutant = this.mutater.getMutation(each.getId());
+        this.preparedMutants.put(each.getId(), mutant);
+        this.metaMutantIds.put(each.getId(), this.nextMetaMutantId);
+        if (!slots.containsKey(each.getId().getLocation())) {
+          slots.put(each.getId().getLocation(), this.nextMetaMutantId);
+        }
+        this.metaMutantSlots.put(each.getId(),
+            slots.get(each.getId().getLocation()));
+        mutants.put(this.nextMetaMutantId, mutant);
+        this.nextMetaMutantId++;
+      }
+    }
+
+    if (mutants.isEmpty()) {
+      return;
+    }
+
+    try {
+      this.metaMutants.put(clazz,
+          this.metaMutantBuilder.value().build(clazz, mutants));
+    } catch (final RuntimeException ex) {
+      LOG.warning("Could not create meta mutant for " + clazz + " ("
+          + ex.getMessage() + "). Mutants will be hotswapped.");
+      discardMetaMutant(clazz);
+    }
+  }
+
+  private void discardMetaMutant(final ClassName clazz) {
+    this.metaMutants.remove(clazz);
+    final Iterator<MutationIdentifier> it = this.metaMutantIds.keySet()
+        .iterator();
+    while (it.hasNext()) {
+      if (it.next().getClassName().equals(clazz)) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Picks mutants of the same meta mutant as the supplied mutation to run
+   * tests against at once. Each must be in a different method, as only one
+   * mutant can be enabled within a method.
+   */
+  private List<MutationDetails> formGroup(final MutationDetails first,
+      final Collection<MutationDetails> range,
+      final TimeOutDecoratedTestSource testSource) {
+    final List<MutationDetails> group = new ArrayList<MutationDetails>();
+    if ((this.groupSize < 2) || !canGroup(first, testSource)) {
+      return group;
+    }
+
+    final Set<Location> methods = new HashSet<Location>();
+    for (final MutationDetails each : range) {
+      if (group.size() == this.groupSize) {
+        break;
+      }
+      if ((each == first)
+          || (!this.startedMutants.contains(each.getId())
+              && each.getClassName().equals(first.getClassName())
+              && !methods.contains(each.getId().getLocation()) && canGroup(
+                each, testSource))) {
+        methods.add(each.getId().getLocation());
+        group.add(each);
+      }
+    }
+    return group;
+  }
+
+  private boolean canGroup(final MutationDetails mutation,
+      final TimeOutDecoratedTestSource testSource) {
+    return this.metaMutantIds.containsKey(mutation.getId())
+        && !testSource.translateTests(mutation.getTestsInOrder()).isEmpty();
+  }
+
+  private void processGroup(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final List<MutationDetails> group) throws IOException {
+    for (final MutationDetails each : group) {
+      this.startedMutants.add(each.getId());
+    }
+
+    final ClassName clazz = group.get(0).getClassName();
+    if (!installMetaMutant(clazz, this.loader)) {
+      for (final MutationDetails each : group) {
+        processMutation(r, testSource, each, 0);
+      }
+      return;
+    }
+
+    final Map<MutationIdentifier, Integer> groupTestsRun = new HashMap<MutationIdentifier, Integer>();
+    for (final MutationDetails each : group) {
+      groupTestsRun.put(each.getId(), 0);
+    }
+    resolveGroup(r, testSource, group, groupTestsRun);
+  }
+
+  /**
+   * Runs the tests of all mutants in the group against them at once. If all
+   * pass each mutant has survived, otherwise the group is split in two until
+   * the mutants that were killed are found. If a test times out the slave is
+   * ended with every mutant in the group left unfinished, so that each is run
+   * again on its own.
+   */
+  private void resolveGroup(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final List<MutationDetails> group,
+      final Map<MutationIdentifier, Integer> groupTestsRun) throws IOException {
+    if (group.size() == 1) {
+      processMutation(r, testSource, group.get(0),
+          groupTestsRun.get(group.get(0).getId()));
+      return;
+    }
+
+    // a slave that dies while running a group is attributed to its first
+    // mutant
+    r.describe(group.get(0).getId());
+
+    final MutationStatusTestPair result = doTestsDetectMutation(
+        createNewContainer(this.loader),
+        testSource.translateTestsForGroup(testsFor(group),
+            new GroupTimeOutSideEffect(r, group)), slotsFor(group));
+    shareTestsRun(group, result.getNumberOfTestsRun(), groupTestsRun);
+    if (DEBUG) {
+      LOG.fine("Group of " + group.size() + " mutants " + result);
+    }
+
+    if (result.getStatus() == DetectionStatus.SURVIVED) {
+      for (final MutationDetails each : group) {
+        reportGroupSurvivor(r, testSource, each,
+            groupTestsRun.get(each.getId()));
+      }
+      return;
+    }
+
+    final int half = group.size() / 2;
+    resolveGroup(r, testSource, group.subList(0, half), groupTestsRun);
+    resolveGroup(r, testSource, group.subList(half, group.size()),
+        groupTestsRun);
+  }
+
+  private void reportGroupSurvivor(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutation, final int testsRun) throws IOException {
+    this.preparedMutants.remove(mutation.getId());
+    // every test would have been run against a survivor on its own
+    final int testsAlone = testSource.translateTests(
+        mutation.getTestsInOrder()).size();
+    r.report(mutation.getId(), new MutationStatusTestPair(testsRun,
+        DetectionStatus.SURVIVED, null, 0, testsAlone - testsRun));
+  }
+
+  private static List<TestInfo> testsFor(final List<MutationDetails> group) {
+    final Map<String, TestInfo> tests = new LinkedHashMap<String, TestInfo>();
+    for (final MutationDetails each : group) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        if (!tests.containsKey(test.getName())) {
+          tests.put(test.getName(), test);
+        }
+      }
+    }
+    return new ArrayList<TestInfo>(tests.values());
+  }
+
+  private int[] slotsFor(final List<MutationDetails> group) {
+    final int[] slots = new int[this.nextMetaMutantId];
+    for (final MutationDetails each : group) {
+      slots[this.metaMutantSlots.get(each.getId())] = this.metaMutantIds
+          .get(each.getId());
+    }
+    return slots;
+  }
+
+  /**
+   * Divides the tests run against a group evenly between its mutants
+   */
+  private static void shareTestsRun(final List<MutationDetails> group,
+      final int testsRun, final Map<MutationIdentifier, Integer> groupTestsRun) {
+    for (int i = 0; i != group.size(); i++) {
+      final MutationIdentifier id = group.get(i).getId();
+      final int share = (testsRun / group.size())
+          + ((i < (testsRun % group.size())) ? 1 : 0);
+      groupTestsRun.put(id, groupTestsRun.get(id) + share);
+    }
+  }
+
+  private Mutant getMutant(final MutationIdentifier mutationId) {
+    final Mutant prepared = this.preparedMutants.remove(mutationId);
+    if (prepared != null) {
+      return prepared;
+    }
+    return this.mutater.getMutation(mutationId);
+  }
+
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
-      final MutationDetails mutationDetails) throws IOException {
+      final MutationDetails mutationDetails, final int groupTestsRun)
+      throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    final Mutant mutatedClass = getMutant(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -103,8 +354,9 @@ public class MutationTestWorker {
 
     r.describe(mutationId);
 
-    final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+    final MutationStatusTestPair mutationDetected = addGroupTestsRun(
+        handleMutation(mutationDetails, mutatedClass, relevantTests,
+            testSource), groupTestsRun);
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
@@ -112,9 +364,21 @@ public class MutationTestWorker {
     }
   }
 
+  private static MutationStatusTestPair addGroupTestsRun(
+      final MutationStatusTestPair result, final int groupTestsRun) {
+    if (groupTestsRun == 0) {
+      return result;
+    }
+    // running alone would have cost nothing extra
+    return new MutationStatusTestPair(result.getNumberOfTestsRun()
+        + groupTestsRun, result.getStatus(), result.getKillingTest()
+        .getOrElse(null), result.getTimeSpent(), -groupTestsRun);
+  }
+
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests,
+      final TimeOutDecoratedTestSource testSource) {
     MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info("No test coverage for mutation  " + mutationId + " in "
@@ -123,7 +387,8 @@ public class MutationTestWorker {
           DetectionStatus.RUN_ERROR);
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
-          relevantTests);
+          testSource.decorateTestGroup(testSource.groupTests(relevantTests),
+              mutationId.getTestsInOrder()), relevantTests.size());
 
     }
     return mutationDetected;
@@ -131,23 +396,31 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleCoveredMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final TestUnit testGroup, final int numberOfTests) {
     MutationStatusTestPair mutationDetected;
     if (DEBUG) {
-      LOG.fine("" + relevantTests.size() + " relevant test for "
+      LOG.fine("" + numberOfTests + " relevant test for "
           + mutatedClass.getDetails().getMethod());
     }
 
     final ClassLoader activeloader = pickClassLoaderForMutant(mutationId);
     final Container c = createNewContainer(activeloader);
+
+    final Integer metaMutantId = this.metaMutantIds.get(mutationId.getId());
+    if ((metaMutantId != null)
+        && installMetaMutant(mutationId.getClassName(), activeloader)) {
+      return doTestsDetectMutation(c, testGroup, metaMutantId);
+    }
+
     final long t0 = System.currentTimeMillis();
+    this.installedMetaMutant = null;
     if (this.hotswap.apply(mutationId.getClassName(), activeloader,
         mutatedClass.getBytes())) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
       }
-      mutationDetected = doTestsDetectMutation(c, relevantTests);
+      mutationDetected = doTestsDetectMutation(c, testGroup);
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = new MutationStatusTestPair(0,
@@ -156,6 +429,48 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private boolean installMetaMutant(final ClassName clazz,
+      final ClassLoader activeloader) {
+    if (clazz.equals(this.installedMetaMutant)) {
+      return true;
+    }
+
+    final long t0 = System.currentTimeMillis();
+    if (this.hotswap.apply(clazz, activeloader, this.metaMutants.get(clazz))) {
+      if (DEBUG) {
+        LOG.fine("replaced class with meta mutant in "
+            + (System.currentTimeMillis() - t0) + " ms");
+      }
+      this.installedMetaMutant = clazz;
+      return true;
+    }
+
+    LOG.warning("Meta mutant for " + clazz
+        + " was not viable. Mutants will be hotswapped.");
+    discardMetaMutant(clazz);
+    return false;
+  }
+
+  private MutationStatusTestPair doTestsDetectMutation(final Container c,
+      final TestUnit testGroup, final int metaMutantId) {
+    ActiveMutant.id = metaMutantId;
+    try {
+      return doTestsDetectMutation(c, testGroup);
+    } finally {
+      ActiveMutant.id = ActiveMutant.NONE;
+    }
+  }
+
+  private MutationStatusTestPair doTestsDetectMutation(final Container c,
+      final TestUnit testGroup, final int[] activeGroup) {
+    ActiveMutant.group = activeGroup;
+    try {
+      return doTestsDetectMutation(c, testGroup);
+    } finally {
+      ActiveMutant.group = null;
+    }
+  }
+
   private static Container createNewContainer(final ClassLoader activeloader) {
     final Container c = new UnContainer() {
       @Override
@@ -175,13 +490,40 @@ public class MutationTestWorker {
       if (DEBUG) {
         LOG.fine("Creating new classloader for static initializer");
       }
-      return new DefaultPITClassloader(new ClassPath(),
-          IsolationUtils.bootClassLoader());
+      return this.isolation.createLoaderFor(mutant.getClassName());
     } else {
       return this.loader;
     }
   }
 
+  /**
+   * Ends the slave when a test run against a group of mutants times out. As
+   * the mutant responsible is not known, every mutant in the group is
+   * described first so that all are left unfinished.
+   */
+  private static class GroupTimeOutSideEffect implements SideEffect {
+    private final Reporter              r;
+    private final List<MutationDetails> group;
+
+    GroupTimeOutSideEffect(final Reporter r, final List<MutationDetails> group) {
+      this.r = r;
+      this.group = new ArrayList<MutationDetails>(group);
+    }
+
+    public void apply() {
+      try {
+        for (final MutationDetails each : this.group) {
+          this.r.describe(each.getId());
+        }
+      } catch (final IOException e) {
+        throw translateCheckedException(e);
+      } finally {
+        new TimeOutSystemExitSideEffect(this.r, ExitCode.GROUP_TIMEOUT)
+            .apply();
+      }
+    }
+  }
+
   @Override
   public String toString() {
     return "MutationTestWorker [mutater=" + this.mutater + ", loader="
@@ -189,12 +531,12 @@ public class MutationTestWorker {
   }
 
   private MutationStatusTestPair doTestsDetectMutation(final Container c,
-      final List<TestUnit> tests) {
+      final TestUnit testGroup) {
     try {
       final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener();
 
       final Pitest pit = new Pitest(Collections.singletonList(listener));
-      pit.run(c, createEarlyExitTestGroup(tests));
+      pit.run(c, Collections.singletonList(testGroup));
 
       return createStatusTestPair(listener);
     } catch (final Exception ex) {
@@ -215,8 +557,4 @@ public class MutationTestWorker {
     }
   }
 
-  private List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
-    return Collections.<TestUnit> singletonList(new MultipleTestGroup(tests));
-  }
-
 }
@@ -24,6 +24,7 @@ import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.ExitingResultCollector;
 import org.pitest.util.Unchecked;
 
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
@@ -47,10 +48,17 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     final long maxTime = this.timeOutStrategy
         .getAllowedTime(this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(loader, rc);
+    final ExitingResultCollector wrappedCollector = new ExitingResultCollector(
+        rc);
+    final long t0 = System.currentTimeMillis();
+    final FutureTask<?> future = createFutureForChildTestUnit(loader,
+        wrappedCollector);
     executeFutureWithTimeOut(maxTime, future, rc);
     if (!future.isDone()) {
       this.timeOutSideEffect.apply();
+    } else if (!wrappedCollector.shouldExit()) {
+      this.timeOutStrategy.recordTestTime(this.executionTime,
+          System.currentTimeMillis() - t0);
     }
 
   }
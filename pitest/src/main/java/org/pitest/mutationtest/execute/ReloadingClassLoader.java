@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.Set;
+
+import org.pitest.classpath.ClassPath;
+
+/**
+ * Defines its own copy of the named classes, and takes every other class from
+ * its parent.
+ */
+class ReloadingClassLoader extends DefaultPITClassloader {
+
+  private final Set<String> reloaded;
+
+  ReloadingClassLoader(final ClassPath cp, final ClassLoader parent,
+      final Set<String> reloaded) {
+    super(cp, parent);
+    this.reloaded = reloaded;
+  }
+
+  @Override
+  protected synchronized Class<?> loadClass(final String name,
+      final boolean resolve) throws ClassNotFoundException {
+    if (!this.reloaded.contains(name)) {
+      return super.loadClass(name, resolve);
+    }
+
+    Class<?> clazz = findLoadedClass(name);
+    if (clazz == null) {
+      clazz = findClass(name);
+    }
+    if (resolve) {
+      resolveClass(clazz);
+    }
+    return clazz;
+  }
+
+}
@@ -15,8 +15,12 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
@@ -26,19 +30,31 @@ public class SlaveArguments {
 
   final Collection<MutationDetails> mutations;
   final Collection<ClassName>       testClasses;
+  final Set<String>                 testNames;
   final MutationEngine              engine;
   final TimeoutLengthStrategy       timeoutStrategy;
+  final boolean                     mutantTimeBudget;
+  final boolean                     mutantSchemata;
+  final int                         mutantGroupSize;
+  final int                         mutantTestThreads;
   final boolean                     verbose;
   final Configuration               pitConfig;
 
   public SlaveArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final MutationEngine engine,
-      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
-      final Configuration pitConfig) {
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean mutantTimeBudget, final boolean mutantSchemata,
+      final int mutantGroupSize, final int mutantTestThreads,
+      final boolean verbose, final Configuration pitConfig) {
     this.mutations = mutations;
     this.testClasses = tests;
+    this.testNames = testNamesFor(mutations);
     this.engine = engine;
     this.timeoutStrategy = timeoutStrategy;
+    this.mutantTimeBudget = mutantTimeBudget;
+    this.mutantSchemata = mutantSchemata;
+    this.mutantGroupSize = mutantGroupSize;
+    this.mutantTestThreads = mutantTestThreads;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
   }
@@ -47,4 +63,17 @@ public class SlaveArguments {
     return this.verbose;
   }
 
+  /**
+   * The tests any of the mutations may be run against, so the slave need only
+   * build these rather than every test in the test classes
+   */
+  private static Set<String> testNamesFor(
+      final Collection<MutationDetails> mutations) {
+    final Set<String> names = new HashSet<String>();
+    for (final MutationDetails each : mutations) {
+      FCollection.mapTo(each.getTestsInOrder(), TestInfo.toName(), names);
+    }
+    return names;
+  }
+
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.Log;
+import org.pitest.util.SocketFinder;
+
+/**
+ * Keeps a number of mutation test slaves booted ahead of need, so that units
+ * do not wait for a JVM to start and load the agent before their first mutant
+ * is run.
+ *
+ * A spare slave is launched against its own socket, which it connects to
+ * before blocking until its {@link SlaveArguments} are sent. Spares are
+ * replaced in the background as they are taken. Spares that have died while
+ * waiting are discarded, and if none is ready a slave is launched on demand.
+ */
+public class SlavePool {
+
+  private static final Logger   LOG    = Log.getLogger();
+
+  private final ProcessArgs     args;
+  private final Queue<Spare>    spares = new LinkedList<Spare>();
+  private final ExecutorService booter;
+  private boolean               shutdown;
+
+  public SlavePool(final ProcessArgs args, final int size) {
+    this(args, size, Executors.newSingleThreadExecutor(new ThreadFactory() {
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName("pit slave booter");
+        return thread;
+      }
+    }));
+  }
+
+  SlavePool(final ProcessArgs args, final int size,
+      final ExecutorService booter) {
+    this.args = args;
+    this.booter = booter;
+    for (int i = 0; i != size; i++) {
+      replenish();
+    }
+  }
+
+  public MutationTestProcess createWorker(final SlaveArguments arguments) {
+    Spare spare = take();
+    while (spare != null) {
+      replenish();
+      if (spare.process.isAlive()) {
+        return new MutationTestProcess(spare.socket, spare.process, arguments);
+      }
+      // died while waiting to be used
+      spare.destroy();
+      spare = take();
+    }
+    final ServerSocket socket = new SocketFinder()
+        .getNextAvailableServerSocket();
+    return new MutationTestProcess(socket, createProcess(socket.getLocalPort()),
+        arguments);
+  }
+
+  /**
+   * Kills any slaves that have not been taken
+   */
+  public synchronized void shutdown() {
+    this.shutdown = true;
+    this.booter.shutdownNow();
+    for (final Spare each : this.spares) {
+      each.destroy();
+    }
+    this.spares.clear();
+  }
+
+  private synchronized Spare take() {
+    return this.spares.poll();
+  }
+
+  private synchronized boolean add(final Spare spare) {
+    if (this.shutdown) {
+      return false;
+    }
+    this.spares.add(spare);
+    return true;
+  }
+
+  private synchronized void replenish() {
+    if (this.shutdown) {
+      return;
+    }
+    this.booter.execute(new Runnable() {
+      public void run() {
+        final Spare spare = boot();
+        if ((spare != null) && !add(spare)) {
+          spare.destroy();
+        }
+      }
+    });
+  }
+
+  private Spare boot() {
+    final ServerSocket socket = new SocketFinder()
+        .getNextAvailableServerSocket();
+    final WrappingProcess process = createProcess(socket.getLocalPort());
+    try {
+      process.start();
+      return new Spare(socket, process);
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Could not launch spare slave", e);
+      closeQuietly(socket);
+      return null;
+    }
+  }
+
+  WrappingProcess createProcess(final int port) {
+    return new WrappingProcess(port, this.args, MutationTestSlave.class);
+  }
+
+  private static void closeQuietly(final ServerSocket socket) {
+    try {
+      socket.close();
+    } catch (final IOException e) {
+      LOG.fine("Could not close socket " + e.getMessage());
+    }
+  }
+
+  private static final class Spare {
+    private final ServerSocket    socket;
+    private final WrappingProcess process;
+
+    Spare(final ServerSocket socket, final WrappingProcess process) {
+      this.socket = socket;
+      this.process = process;
+    }
+
+    void destroy() {
+      this.process.destroy();
+      closeQuietly(this.socket);
+    }
+  }
+
+}
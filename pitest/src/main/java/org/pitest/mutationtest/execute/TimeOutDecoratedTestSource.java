@@ -21,21 +21,30 @@ import java.util.Map;
 
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
+import org.pitest.functional.F2;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.MultipleTestGroup;
+import org.pitest.testapi.execute.ParallelTestGroup;
 
 public class TimeOutDecoratedTestSource {
 
   private final Map<String, TestUnit> allTests = new HashMap<String, TestUnit>();
   private final TimeoutLengthStrategy timeoutStrategy;
+  private final boolean               mutantTimeBudget;
+  private final int                   testThreads;
   private final Reporter              r;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
+      final boolean mutantTimeBudget, final int testThreads,
       final List<TestUnit> allTests, final Reporter r) {
     this.timeoutStrategy = timeoutStrategy;
+    this.mutantTimeBudget = mutantTimeBudget;
+    this.testThreads = testThreads;
     mapTests(allTests);
     this.r = r;
   }
@@ -47,10 +56,97 @@ public class TimeOutDecoratedTestSource {
   }
 
   public List<TestUnit> translateTests(final List<TestInfo> testsInOrder) {
-    return FCollection.flatMap(testsInOrder, testToTestUnit());
+    if (this.mutantTimeBudget) {
+      return FCollection.flatMap(testsInOrder, testToUndecoratedTestUnit());
+    }
+    return FCollection.flatMap(testsInOrder,
+        testToTestUnit(new TimeOutSystemExitSideEffect(this.r)));
+  }
+
+  /**
+   * Translates the tests to run against a group of mutants at once. A test
+   * that times out applies the supplied side effect in place of the usual one,
+   * as it is not known which mutant in the group was responsible.
+   */
+  public TestUnit translateTestsForGroup(final List<TestInfo> testsInOrder,
+      final SideEffect timedOut) {
+    if (this.mutantTimeBudget) {
+      return decorateTestGroup(
+          groupTests(FCollection.flatMap(testsInOrder,
+              testToUndecoratedTestUnit())), testsInOrder, timedOut);
+    }
+    return groupTests(FCollection.flatMap(testsInOrder,
+        testToTestUnit(timedOut)));
+  }
+
+  /**
+   * Groups the tests to run against a mutant so that they are run in order,
+   * or across several threads when more than one thread per mutant is
+   * allowed.
+   */
+  public TestUnit groupTests(final List<TestUnit> tests) {
+    if ((this.testThreads > 1) && (tests.size() > 1)) {
+      return new ParallelTestGroup(tests, this.testThreads);
+    }
+    return new MultipleTestGroup(tests);
+  }
+
+  /**
+   * When running with a time budget per mutant, decorates the supplied group
+   * of tests so that it times out once the time allowed for the combined
+   * normal duration of all the tests has been used. Otherwise the group is
+   * returned unchanged, as each test within it is decorated individually.
+   */
+  public TestUnit decorateTestGroup(final TestUnit group,
+      final List<TestInfo> testsInOrder) {
+    if (!this.mutantTimeBudget) {
+      return group;
+    }
+    return decorateTestGroup(group, testsInOrder,
+        new TimeOutSystemExitSideEffect(this.r));
+  }
+
+  private TestUnit decorateTestGroup(final TestUnit group,
+      final List<TestInfo> testsInOrder, final SideEffect timedOut) {
+    return new MutationTimeoutDecorator(group, timedOut, this.timeoutStrategy,
+        FCollection.fold(addTime(), 0L, testsInOrder));
+  }
+
+  /**
+   * Test times are recorded with each test running alone. A test sharing the
+   * machine with others running in parallel may run more slowly, so is allowed
+   * time in proportion to the number of threads.
+   */
+  private long expectedTime(final TestInfo test) {
+    if (this.testThreads > 1) {
+      return test.getTime() * this.testThreads;
+    }
+    return test.getTime();
+  }
+
+  private static F2<Long, TestInfo, Long> addTime() {
+    return new F2<Long, TestInfo, Long>() {
+
+      public Long apply(final Long a, final TestInfo b) {
+        return a + b.getTime();
+      }
+
+    };
+  }
+
+  private F<TestInfo, Option<TestUnit>> testToUndecoratedTestUnit() {
+    return new F<TestInfo, Option<TestUnit>>() {
+
+      public Option<TestUnit> apply(final TestInfo a) {
+        return Option.some(TimeOutDecoratedTestSource.this.allTests.get(a
+            .getName()));
+      }
+
+    };
   }
 
-  private F<TestInfo, Option<TestUnit>> testToTestUnit() {
+  private F<TestInfo, Option<TestUnit>> testToTestUnit(
+      final SideEffect timedOut) {
     return new F<TestInfo, Option<TestUnit>>() {
 
       public Option<TestUnit> apply(final TestInfo a) {
@@ -58,10 +154,9 @@ public class TimeOutDecoratedTestSource {
             .getName());
         if (tu != null) {
           return Option
-              .<TestUnit> some(new MutationTimeoutDecorator(tu,
-                  new TimeOutSystemExitSideEffect(
-                      TimeOutDecoratedTestSource.this.r),
-                  TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+              .<TestUnit> some(new MutationTimeoutDecorator(tu, timedOut,
+                  TimeOutDecoratedTestSource.this.timeoutStrategy,
+                  expectedTime(a)));
         }
         return Option.none();
       }
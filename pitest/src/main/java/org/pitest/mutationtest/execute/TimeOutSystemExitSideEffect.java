@@ -6,13 +6,19 @@ import org.pitest.util.ExitCode;
 public class TimeOutSystemExitSideEffect implements SideEffect {
 
   private final Reporter r;
+  private final ExitCode exitCode;
 
   public TimeOutSystemExitSideEffect(final Reporter r) {
+    this(r, ExitCode.TIMEOUT);
+  }
+
+  public TimeOutSystemExitSideEffect(final Reporter r, final ExitCode exitCode) {
     this.r = r;
+    this.exitCode = exitCode;
   }
 
   public void apply() {
-    this.r.done(ExitCode.TIMEOUT);
+    this.r.done(this.exitCode);
   }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Draws a stratified random sample of the mutations in rounds, so that
+ * analysis can stop once the sample is large enough.
+ *
+ * Mutations are stratified by class and mutator. The sample after each round
+ * holds twice the fraction of each stratum that it held after the round
+ * before, rounded up or down at random so that small strata are represented in
+ * proportion, until the final round completes the sample with every mutation.
+ * Each round's sample includes the mutations of the rounds before it.
+ *
+ * No mutations are removed; the filter records the round in which each
+ * mutation joins the sample. The same seed draws the same sample.
+ */
+public class StratifiedSamplingFilter implements MutationFilter {
+
+  public static final int                       ROUNDS = 6;
+
+  private final MutationFilter                  child;
+  private final long                            seed;
+  private final Map<MutationIdentifier, Integer> rounds = new HashMap<MutationIdentifier, Integer>();
+  private final int[]                           sizes  = new int[ROUNDS];
+
+  public StratifiedSamplingFilter(final MutationFilter child, final long seed) {
+    this.child = child;
+    this.seed = seed;
+  }
+
+  public Collection<MutationDetails> filter(
+      final Collection<MutationDetails> mutations) {
+    final Collection<MutationDetails> filtered = this.child.filter(mutations);
+    for (final Entry<String, Collection<MutationDetails>> each : FCollection
+        .bucket(filtered, byClassAndMutator()).entrySet()) {
+      assignRounds(each.getKey(), each.getValue());
+    }
+    return filtered;
+  }
+
+  /**
+   * @return round in which the mutation joins the sample
+   */
+  public int roundOf(final MutationIdentifier id) {
+    final Integer round = this.rounds.get(id);
+    if (round == null) {
+      return ROUNDS - 1;
+    }
+    return round;
+  }
+
+  /**
+   * @return number of mutations joining the sample in the round
+   */
+  public int sizeOfRound(final int round) {
+    return this.sizes[round];
+  }
+
+  static double fractionSampledAfter(final int round) {
+    return 1d / (1 << (ROUNDS - 1 - round));
+  }
+
+  private void assignRounds(final String stratumKey,
+      final Collection<MutationDetails> stratum) {
+    final List<MutationDetails> shuffled = new ArrayList<MutationDetails>(
+        stratum);
+    Collections.sort(shuffled, byId());
+    final Random random = new Random(this.seed ^ stratumKey.hashCode());
+    Collections.shuffle(shuffled, random);
+
+    final double offset = random.nextDouble();
+    int round = 0;
+    for (int rank = 0; rank != shuffled.size(); rank++) {
+      while (rank >= sampledAfter(round, shuffled.size(), offset)) {
+        round++;
+      }
+      this.rounds.put(shuffled.get(rank).getId(), round);
+      this.sizes[round]++;
+    }
+  }
+
+  private static int sampledAfter(final int round, final int stratumSize,
+      final double offset) {
+    return (int) Math.floor((fractionSampledAfter(round) * stratumSize)
+        + offset);
+  }
+
+  private static F<MutationDetails, String> byClassAndMutator() {
+    return new F<MutationDetails, String>() {
+      public String apply(final MutationDetails a) {
+        return a.getClassName().asJavaName() + " " + a.getId().getMutator();
+      }
+    };
+  }
+
+  private static Comparator<MutationDetails> byId() {
+    return new Comparator<MutationDetails>() {
+      public int compare(final MutationDetails a, final MutationDetails b) {
+        return a.getId().compareTo(b.getId());
+      }
+    };
+  }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.PitXmlDriver;
+import org.pitest.util.Unchecked;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamException;
+import com.thoughtworks.xstream.io.xml.CompactWriter;
+
+/**
+ * Records the progress of a run so that a run killed part way through can be
+ * resumed without repeating the work already done.
+ *
+ * The coverage results, the mutations planned for analysis and the result of
+ * each mutation analysed are appended to the file as they become known, one
+ * entry per line, and flushed after each. A resumed run replays the coverage
+ * rather than launching the coverage slave, and uses the recorded result for
+ * each mutation already analysed.
+ *
+ * The file starts with a fingerprint of the code and tests. A checkpoint is
+ * only resumed from if the fingerprint matches and the coverage phase had
+ * completed, and results are only used if the same mutations are planned.
+ * Otherwise the checkpoint is discarded and a new one recorded.
+ */
+public class Checkpoint {
+
+  private static final Logger                                   LOG              = Log
+                                                                                     .getLogger();
+
+  private static final XStream                                  XSTREAM_INSTANCE = configureXStream();
+
+  private final Option<File>                                    file;
+  private final boolean                                         resume;
+
+  private final List<Object>                                    coverage         = new ArrayList<Object>();
+  private final Map<MutationIdentifier, MutationStatusTestPair> completed        = new HashMap<MutationIdentifier, MutationStatusTestPair>();
+  private List<MutationIdentifier>                              plan;
+  private boolean                                               restored;
+  private PrintWriter                                           output;
+
+  Checkpoint(final Option<File> file, final boolean resume) {
+    this.file = file;
+    this.resume = resume;
+  }
+
+  public static Checkpoint disabled() {
+    return new Checkpoint(Option.<File> none(), false);
+  }
+
+  /**
+   * @param file
+   *          file to record the checkpoint in
+   * @param resume
+   *          resume from the checkpoint left in the file by an earlier run
+   */
+  public static Checkpoint inFile(final File file, final boolean resume) {
+    return new Checkpoint(Option.some(file), resume);
+  }
+
+  private static XStream configureXStream() {
+    final XStream xstream = new XStream(new PitXmlDriver());
+    xstream.alias("fingerprint", Fingerprint.class);
+    xstream.alias("coverage", CoverageResult.class);
+    xstream.alias("blockLines", BlockLines.class);
+    xstream.alias("coverageComplete", CoverageComplete.class);
+    xstream.alias("plan", Plan.class);
+    xstream.alias("result", IdResult.class);
+    xstream.alias("statusTestPair", MutationStatusTestPair.class);
+    xstream.alias("status", DetectionStatus.class);
+    return xstream;
+  }
+
+  /**
+   * Restores the checkpoint left by an earlier run if resuming and it was
+   * recorded for the same code, then carries on recording.
+   */
+  public void open(final CodeSource code) {
+    if (this.file.hasSome()) {
+      open(fingerprint(code));
+    }
+  }
+
+  /**
+   * @param fingerprint
+   *          identifies the code and tests analysed
+   */
+  void open(final String fingerprint) {
+    if (this.file.hasNone()) {
+      return;
+    }
+
+    if (this.resume && this.file.value().exists()) {
+      this.restored = restore(fingerprint);
+      if (!this.restored) {
+        LOG.warning("Checkpoint in " + this.file.value()
+            + " was not recorded for this code. Starting afresh.");
+      }
+    }
+
+    if (!this.restored) {
+      this.coverage.clear();
+      this.completed.clear();
+      this.plan = null;
+    }
+
+    this.output = createWriter(this.restored);
+    if (this.restored) {
+      // ends any entry cut short when the earlier run was killed
+      this.output.println();
+    } else {
+      record(new Fingerprint(fingerprint));
+    }
+  }
+
+  /**
+   * Replays the coverage recorded by an earlier run.
+   *
+   * @return true if coverage was restored, false if it must be calculated
+   */
+  public boolean restoreCoverage(final CoverageData data) {
+    if (!this.restored) {
+      return false;
+    }
+    for (final Object each : this.coverage) {
+      if (each instanceof BlockLines) {
+        final BlockLines lines = (BlockLines) each;
+        data.registerBlockLines(lines.block, lines.lines);
+      } else {
+        data.calculateClassCoverage((CoverageResult) each);
+      }
+    }
+    LOG.info("Restored coverage of " + this.coverage.size()
+        + " tests and blocks from checkpoint");
+    return true;
+  }
+
+  public void recordCoverage(final CoverageResult result) {
+    record(result);
+  }
+
+  public void recordBlockLines(final BlockLocation block,
+      final Set<Integer> lines) {
+    record(new BlockLines(block, lines));
+  }
+
+  public void coverageComplete() {
+    if (!this.restored) {
+      record(new CoverageComplete());
+    }
+  }
+
+  /**
+   * Records the mutations planned for analysis, discarding the recorded
+   * results if they were for a different plan.
+   */
+  public void recordPlan(final List<MutationIdentifier> planned) {
+    if (this.file.hasNone()) {
+      return;
+    }
+    if (planned.equals(this.plan)) {
+      LOG.info("Resuming with results for " + this.completed.size()
+          + " of " + planned.size() + " mutations from checkpoint");
+      return;
+    }
+    if (!this.completed.isEmpty()) {
+      LOG.warning("Mutations planned differ from checkpoint. Discarding "
+          + this.completed.size() + " recorded results.");
+      this.completed.clear();
+    }
+    this.plan = planned;
+    record(new Plan(planned));
+  }
+
+  public Option<MutationStatusTestPair> getCompletedResult(
+      final MutationIdentifier id) {
+    return Option.some(this.completed.get(id));
+  }
+
+  /**
+   * Records the result of a mutation, unless it was left unanalysed
+   */
+  public void recordResult(final MutationResult result) {
+    if (this.file.hasNone()
+        || (result.getStatus() == DetectionStatus.NOT_STARTED)
+        || this.completed.containsKey(result.getDetails().getId())) {
+      return;
+    }
+    this.completed.put(result.getDetails().getId(), result.getStatusTestPair());
+    record(new IdResult(result.getDetails().getId(),
+        result.getStatusTestPair()));
+  }
+
+  public void close() {
+    if (this.output != null) {
+      this.output.close();
+      this.output = null;
+    }
+  }
+
+  /**
+   * Removes the checkpoint once the run it records has completed
+   */
+  public void delete() {
+    close();
+    if (this.file.hasSome()) {
+      this.file.value().delete();
+    }
+  }
+
+  private static String fingerprint(final CodeSource code) {
+    BigInteger hash = BigInteger.ZERO;
+    for (final ClassInfo each : code.getCode()) {
+      hash = hash.add(each.getDeepHash());
+    }
+    for (final ClassInfo each : code.getTests()) {
+      hash = hash.add(each.getDeepHash());
+    }
+    return hash.toString(16);
+  }
+
+  private boolean restore(final String fingerprint) {
+    boolean coverageComplete = false;
+    try {
+      final BufferedReader input = new BufferedReader(new InputStreamReader(
+          new FileInputStream(this.file.value()), "UTF-8"));
+      try {
+        final Object first = fromXml(input.readLine());
+        if (!(first instanceof Fingerprint)
+            || !((Fingerprint) first).value.equals(fingerprint)) {
+          return false;
+        }
+        String line = input.readLine();
+        while (line != null) {
+          coverageComplete = restoreEntry(line) || coverageComplete;
+          line = input.readLine();
+        }
+      } finally {
+        input.close();
+      }
+    } catch (final IOException e) {
+      LOG.warning("Could not read checkpoint");
+      return false;
+    } catch (final XStreamException e) {
+      LOG.warning("Could not read checkpoint");
+      return false;
+    }
+    return coverageComplete;
+  }
+
+  private boolean restoreEntry(final String line) {
+    if (line.length() == 0) {
+      return false;
+    }
+    try {
+      return restoreEntry(fromXml(line));
+    } catch (final XStreamException e) {
+      // entries being written when a run is killed are cut short
+      LOG.fine("Skipping incomplete checkpoint entry");
+      return false;
+    }
+  }
+
+  private boolean restoreEntry(final Object entry) {
+    if (entry instanceof CoverageComplete) {
+      return true;
+    } else if (entry instanceof Plan) {
+      this.plan = ((Plan) entry).ids;
+      this.completed.clear();
+    } else if (entry instanceof IdResult) {
+      final IdResult result = (IdResult) entry;
+      this.completed.put(result.id, result.status);
+    } else {
+      this.coverage.add(entry);
+    }
+    return false;
+  }
+
+  private PrintWriter createWriter(final boolean append) {
+    this.file.value().getAbsoluteFile().getParentFile().mkdirs();
+    try {
+      return new PrintWriter(new OutputStreamWriter(new FileOutputStream(
+          this.file.value(), append), "UTF-8"));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private synchronized void record(final Object entry) {
+    if (this.output == null) {
+      return;
+    }
+    this.output.println(toXml(entry));
+    this.output.flush();
+  }
+
+  private static Object fromXml(final String xml) {
+    return XSTREAM_INSTANCE.fromXML(xml);
+  }
+
+  private static String toXml(final Object o) {
+    final Writer writer = new StringWriter();
+    XSTREAM_INSTANCE.marshal(o, new CompactWriter(writer));
+    return writer.toString().replaceAll("\n", "");
+  }
+
+  private static class Fingerprint {
+    final String value;
+
+    Fingerprint(final String value) {
+      this.value = value;
+    }
+  }
+
+  private static class BlockLines {
+    final BlockLocation block;
+    final Set<Integer>  lines;
+
+    BlockLines(final BlockLocation block, final Set<Integer> lines) {
+      this.block = block;
+      this.lines = lines;
+    }
+  }
+
+  private static class CoverageComplete {
+  }
+
+  private static class Plan {
+    final List<MutationIdentifier> ids;
+
+    Plan(final Collection<MutationIdentifier> ids) {
+      this.ids = new ArrayList<MutationIdentifier>(ids);
+    }
+  }
+
+  private static class IdResult {
+    final MutationIdentifier     id;
+    final MutationStatusTestPair status;
+
+    IdResult(final MutationIdentifier id, final MutationStatusTestPair status) {
+      this.id = id;
+      this.status = status;
+    }
+  }
+
+}
@@ -0,0 +1,61 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Uses the results recorded in a checkpoint for mutations a killed run had
+ * already analysed, leaving the rest to another analyser.
+ */
+public class CheckpointAnalyser implements MutationAnalyser {
+
+  private final Checkpoint       checkpoint;
+  private final MutationAnalyser child;
+
+  public CheckpointAnalyser(final Checkpoint checkpoint,
+      final MutationAnalyser child) {
+    this.checkpoint = checkpoint;
+    this.child = child;
+  }
+
+  public Collection<MutationResult> analyse(
+      final Collection<MutationDetails> mutations) {
+    this.checkpoint.recordPlan(FCollection.map(mutations,
+        toId()));
+
+    final List<MutationResult> results = new ArrayList<MutationResult>(
+        mutations.size());
+    final List<MutationDetails> remaining = new ArrayList<MutationDetails>();
+    for (final MutationDetails each : mutations) {
+      final Option<MutationStatusTestPair> completed = this.checkpoint
+          .getCompletedResult(each.getId());
+      if (completed.hasSome()) {
+        results.add(new MutationResult(each, completed.value()));
+      } else {
+        remaining.add(each);
+      }
+    }
+
+    results.addAll(this.child.analyse(remaining));
+    return results;
+  }
+
+  private static F<MutationDetails, MutationIdentifier> toId() {
+    return new F<MutationDetails, MutationIdentifier>() {
+      public MutationIdentifier apply(final MutationDetails a) {
+        return a.getId();
+      }
+    };
+  }
+
+}
@@ -0,0 +1,30 @@
+package org.pitest.mutationtest.incremental;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+
+public class CheckpointListener implements MutationResultListener {
+
+  private final Checkpoint checkpoint;
+
+  public CheckpointListener(final Checkpoint checkpoint) {
+    this.checkpoint = checkpoint;
+  }
+
+  public void runStart() {
+
+  }
+
+  public void handleMutationResult(final ClassMutationResults metaData) {
+    for (final MutationResult each : metaData.getMutations()) {
+      this.checkpoint.recordResult(each);
+    }
+
+  }
+
+  public void runEnd() {
+
+  }
+
+}
@@ -5,6 +5,7 @@ import java.math.BigInteger;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface CodeHistory {
@@ -13,6 +14,15 @@ public interface CodeHistory {
 
   boolean hasClassChanged(ClassName className);
 
+  /**
+   * Returns true unless the bytecode of the method at the given location, the
+   * static initializer of its class, and the class's parents are all unchanged
+   * since the last run
+   */
+  boolean hasMethodChanged(Location location);
+
   boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
 
+  boolean hasCoverageChanged(Location location, BigInteger currentCoverage);
+
 }
@@ -6,15 +6,19 @@ import java.util.Map;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistory implements CodeHistory {
 
+  private static final String                                   STATIC_INITIALIZER = "<clinit>()V";
+
   private final ClassInfoSource                                 code;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults;
   private final Map<ClassName, ClassHistory>                    previousClassPath;
@@ -49,10 +53,60 @@ public class DefaultCodeHistory implements CodeHistory {
 
   }
 
+  public boolean hasMethodChanged(final Location location) {
+    final ClassHistory historic = this.previousClassPath.get(location
+        .getClassName());
+    if (historic == null) {
+      return true;
+    }
+
+    final Option<ClassInfo> currentClass = this.code.fetchClass(location
+        .getClassName());
+    if (currentClass.hasNone()) {
+      return true;
+    }
+
+    final HierarchicalClassId previous = historic.getId();
+    final HierarchicalClassId current = currentClass.value()
+        .getHierarchicalId();
+
+    if (!current.getAncestryHash().equals(previous.getAncestryHash())) {
+      return true;
+    }
+
+    final String method = toMethodKey(location);
+    return previous.getMethodHash(method).hasNone()
+        || hasMethodHashChanged(method, previous, current)
+        || hasMethodHashChanged(STATIC_INITIALIZER, previous, current);
+  }
+
+  private static boolean hasMethodHashChanged(final String method,
+      final HierarchicalClassId previous, final HierarchicalClassId current) {
+    return !previous.getMethodHash(method).equals(
+        current.getMethodHash(method));
+  }
+
   public boolean hasCoverageChanged(final ClassName className,
       final BigInteger currentCoverage) {
     return !this.previousClassPath.get(className).getCoverageId()
         .equals(currentCoverage.toString(16));
   }
 
+  public boolean hasCoverageChanged(final Location location,
+      final BigInteger currentCoverage) {
+    final ClassHistory historic = this.previousClassPath.get(location
+        .getClassName());
+    if (historic == null) {
+      return true;
+    }
+    final Option<String> previous = historic
+        .getCoverageIdForMethod(toMethodKey(location));
+    return previous.hasNone()
+        || !previous.value().equals(currentCoverage.toString(16));
+  }
+
+  private static String toMethodKey(final Location location) {
+    return location.getMethodName().name() + location.getMethodDesc();
+  }
+
 }
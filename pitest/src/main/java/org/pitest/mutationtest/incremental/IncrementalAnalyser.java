@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.incremental;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -18,6 +19,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
@@ -79,8 +81,9 @@ public class IncrementalAnalyser implements MutationAnalyser {
 
     final ClassName clazz = each.getClassName();
 
-    if (this.history.hasClassChanged(clazz)) {
-      return analyseFromScratch(each);
+    if (this.history.hasClassChanged(clazz)
+        && this.history.hasMethodChanged(each.getId().getLocation())) {
+      return reanalyse(each, mutationStatusTestPair);
     }
 
     if (mutationStatusTestPair.getStatus() == DetectionStatus.TIMED_OUT) {
@@ -94,11 +97,32 @@ public class IncrementalAnalyser implements MutationAnalyser {
     }
 
     if ((mutationStatusTestPair.getStatus() == DetectionStatus.SURVIVED)
-        && !this.history.hasCoverageChanged(clazz,
-            this.coverage.getCoverageIdForClass(clazz))) {
+        && !hasCoverageChanged(each)) {
       return makeResult(each, DetectionStatus.SURVIVED);
     }
 
+    return reanalyse(each, mutationStatusTestPair);
+  }
+
+  private boolean hasCoverageChanged(final MutationDetails each) {
+    final ClassName clazz = each.getClassName();
+    if (!this.history.hasCoverageChanged(clazz,
+        this.coverage.getCoverageIdForClass(clazz))) {
+      return false;
+    }
+
+    final Location location = each.getId().getLocation();
+    final BigInteger methodCoverage = this.coverage.getCoverageIdsForMethods(
+        clazz).get(location);
+    return (methodCoverage == null)
+        || this.history.hasCoverageChanged(location, methodCoverage);
+  }
+
+  private MutationResult reanalyse(final MutationDetails each,
+      final MutationStatusTestPair mutationStatusTestPair) {
+    if (mutationStatusTestPair.getKillingTest().hasSome()) {
+      each.runTestFirst(mutationStatusTestPair.getKillingTest().value());
+    }
     return analyseFromScratch(each);
   }
 
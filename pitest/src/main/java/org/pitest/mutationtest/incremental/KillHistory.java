@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.incremental;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Which tests killed the mutations of each class, and of each mutator within
+ * a class, in an earlier run.
+ *
+ * The chance of a test killing a mutation is estimated from the share of the
+ * mutations made by the same mutator in the same class that it killed. As
+ * there are often few of these, the estimate is shrunk towards the share of
+ * all mutations of the class that it killed.
+ */
+public class KillHistory {
+
+  // weight, in mutations, given to the kills for the class as a whole
+  private static final int        CLASS_WEIGHT      = 2;
+
+  private final Map<ClassName, Kills> byClass           = new HashMap<ClassName, Kills>();
+  private final Map<String, Kills>    byClassAndMutator = new HashMap<String, Kills>();
+  private long                        killsByTestsRun;
+  private long                        testsRunForKills;
+
+  public static KillHistory fromResults(
+      final Map<MutationIdentifier, MutationStatusTestPair> results) {
+    final KillHistory history = new KillHistory();
+    for (final Entry<MutationIdentifier, MutationStatusTestPair> each : results
+        .entrySet()) {
+      history.record(each.getKey(), each.getValue());
+    }
+    return history;
+  }
+
+  private void record(final MutationIdentifier id,
+      final MutationStatusTestPair result) {
+    if ((result.getStatus() != DetectionStatus.KILLED)
+        || result.getKillingTest().hasNone()) {
+      return;
+    }
+
+    final String test = result.getKillingTest().value();
+    kills(this.byClass, id.getClassName()).record(test);
+    kills(this.byClassAndMutator, key(id.getClassName(), id.getMutator()))
+        .record(test);
+
+    // results carried over from the run before were not found by running tests
+    if (result.getNumberOfTestsRun() != 0) {
+      this.killsByTestsRun++;
+      this.testsRunForKills = this.testsRunForKills
+          + result.getNumberOfTestsRun();
+    }
+  }
+
+  public boolean isEmpty() {
+    return this.byClass.isEmpty();
+  }
+
+  /**
+   * @return estimated probability that the test kills a mutation made in the
+   *         class by the mutator
+   */
+  public double probabilityOfKilling(final String test, final ClassName clazz,
+      final String mutator) {
+    final Kills classKills = this.byClass.get(clazz);
+    if (classKills == null) {
+      return 0;
+    }
+
+    final double classShare = classKills.shareKilledBy(test);
+    final Kills mutatorKills = this.byClassAndMutator.get(key(clazz, mutator));
+    if (mutatorKills == null) {
+      return classShare;
+    }
+    return (mutatorKills.killedBy(test) + (CLASS_WEIGHT * classShare))
+        / (mutatorKills.total + CLASS_WEIGHT);
+  }
+
+  /**
+   * @return mean number of tests run against each mutation killed by running
+   *         tests, or none if no mutations were
+   */
+  public Option<Float> getTestsRunPerKill() {
+    if (this.killsByTestsRun == 0) {
+      return Option.none();
+    }
+    return Option.some(this.testsRunForKills / (float) this.killsByTestsRun);
+  }
+
+  private static String key(final ClassName clazz, final String mutator) {
+    return clazz.asJavaName() + " " + mutator;
+  }
+
+  private static <K> Kills kills(final Map<K, Kills> map, final K key) {
+    Kills kills = map.get(key);
+    if (kills == null) {
+      kills = new Kills();
+      map.put(key, kills);
+    }
+    return kills;
+  }
+
+  private static class Kills {
+    private final Map<String, Integer> byTest = new HashMap<String, Integer>();
+    private int                        total;
+
+    void record(final String test) {
+      this.byTest.put(test, killedBy(test) + 1);
+      this.total++;
+    }
+
+    int killedBy(final String test) {
+      final Integer kills = this.byTest.get(test);
+      if (kills == null) {
+        return 0;
+      }
+      return kills;
+    }
+
+    double shareKilledBy(final String test) {
+      return killedBy(test) / (double) this.total;
+    }
+  }
+
+}
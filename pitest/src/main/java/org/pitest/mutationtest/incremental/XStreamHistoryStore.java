@@ -6,9 +6,11 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassIdentifier;
@@ -21,6 +23,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
 import org.pitest.util.PitXmlDriver;
@@ -80,12 +83,24 @@ public class XStreamHistoryStore implements HistoryStore {
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
       final ClassHistory coverage = new ClassHistory(each, coverageInfo
-          .getCoverageIdForClass(each.getName()).toString(16));
+          .getCoverageIdForClass(each.getName()).toString(16),
+          toMethodCoverageIds(coverageInfo.getCoverageIdsForMethods(each
+              .getName())));
       output.println(toXml(coverage));
     }
     output.flush();
   }
 
+  private static Map<String, String> toMethodCoverageIds(
+      final Map<Location, BigInteger> ids) {
+    final Map<String, String> map = new HashMap<String, String>();
+    for (final Entry<Location, BigInteger> each : ids.entrySet()) {
+      map.put(each.getKey().getMethodName().name()
+          + each.getKey().getMethodDesc(), each.getValue().toString(16));
+    }
+    return map;
+  }
+
   public void recordResult(final MutationResult result) {
     final PrintWriter output = this.outputFactory.create();
     output.println(toXml(new IdResult(result.getDetails().getId(), result
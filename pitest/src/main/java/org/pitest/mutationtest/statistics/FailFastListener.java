@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+import java.util.logging.Logger;
+
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.Log;
+
+/**
+ * Stops analysis once the results so far show whether or not the mutation
+ * threshold will be met, whatever the status of the remaining mutations.
+ *
+ * Must follow the listener gathering the statistics. Mutations left
+ * unanalysed are expected to be reported as not started, so the score of the
+ * completed run gives the same answer. Subsumed mutations are not scored, and
+ * are expected to be reported before any others.
+ */
+public class FailFastListener implements MutationResultListener {
+
+  private static final Logger            LOG = Log.getLogger();
+
+  private final MutationStatisticsSource stats;
+  private long                           totalMutations;
+  private final int                      threshold;
+  private final SideEffect               stop;
+
+  private boolean                        stopped;
+
+  /**
+   * @param stats
+   *          statistics for the results so far
+   * @param totalMutations
+   *          number of mutations results will be reported for
+   * @param threshold
+   *          mutation threshold as a percentage
+   * @param stop
+   *          stops analysis of the remaining mutations
+   */
+  public FailFastListener(final MutationStatisticsSource stats,
+      final long totalMutations, final int threshold, final SideEffect stop) {
+    this.stats = stats;
+    this.totalMutations = totalMutations;
+    this.threshold = threshold;
+    this.stop = stop;
+  }
+
+  public void runStart() {
+
+  }
+
+  public void handleMutationResult(final ClassMutationResults results) {
+    if (this.stopped || (this.threshold == 0)) {
+      return;
+    }
+
+    for (final MutationResult each : results.getMutations()) {
+      if (each.getStatus() == DetectionStatus.SUBSUMED) {
+        this.totalMutations--;
+      }
+    }
+
+    final MutationStatistics current = this.stats.getStatistics();
+    final long detected = current.getTotalDetectedMutations();
+    final long remaining = this.totalMutations - current.getTotalMutations();
+    if (remaining == 0) {
+      return;
+    }
+
+    if (MutationStatistics.percentageDetected(this.totalMutations, detected
+        + remaining) < this.threshold) {
+      stop("can no longer be met");
+    } else if (MutationStatistics.percentageDetected(this.totalMutations,
+        detected) >= this.threshold) {
+      stop("has been met");
+    }
+  }
+
+  public void runEnd() {
+
+  }
+
+  private void stop(final String reason) {
+    LOG.info("Mutation threshold of " + this.threshold + "% " + reason
+        + ". Stopping analysis.");
+    this.stopped = true;
+    this.stop.apply();
+  }
+
+}
@@ -21,15 +21,24 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.pitest.functional.F2;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 
 public class MutationStatistics {
-  private final Map<String, Score> mutatorTotalMap  = new HashMap<String, Score>();
-  private long                     numberOfTestsRun = 0;
+  private final Map<String, Score> mutatorTotalMap     = new HashMap<String, Score>();
+  private long                     numberOfTestsRun    = 0;
+  private long                     timeSpentOnTimeOuts = 0;
+  private long                     testsSaved          = 0;
+  private long                     killsByTestsRun     = 0;
+  private long                     testsRunForKills    = 0;
+  private Option<ScoreEstimate>    estimate            = Option
+                                                           .<ScoreEstimate> none();
 
   public void registerResults(final Collection<MutationResult> results) {
     FCollection.forEach(results, register());
@@ -41,6 +50,18 @@ public class MutationStatistics {
       public void apply(final MutationResult mr) {
         MutationStatistics.this.numberOfTestsRun = MutationStatistics.this.numberOfTestsRun
             + mr.getNumberOfTestsRun();
+        MutationStatistics.this.testsSaved = MutationStatistics.this.testsSaved
+            + mr.getStatusTestPair().getTestsSaved();
+        if ((mr.getStatus() == DetectionStatus.KILLED)
+            && (mr.getNumberOfTestsRun() != 0)) {
+          MutationStatistics.this.killsByTestsRun++;
+          MutationStatistics.this.testsRunForKills = MutationStatistics.this.testsRunForKills
+              + mr.getNumberOfTestsRun();
+        }
+        if (mr.getStatus() == DetectionStatus.TIMED_OUT) {
+          MutationStatistics.this.timeSpentOnTimeOuts = MutationStatistics.this.timeSpentOnTimeOuts
+              + mr.getStatusTestPair().getTimeSpent();
+        }
         final String key = mr.getDetails().getId().getMutator();
         Score total = MutationStatistics.this.mutatorTotalMap.get(key);
         if (total == null) {
@@ -66,17 +87,57 @@ public class MutationStatistics {
         this.mutatorTotalMap.values());
   }
 
+  /**
+   * @return test executions saved by running tests against groups of mutants
+   */
+  public long getTestsSaved() {
+    return this.testsSaved;
+  }
+
+  /**
+   * @return mean number of tests run against each mutant killed by running
+   *         tests, or none if no mutants were
+   */
+  public Option<Float> getTestsRunPerKill() {
+    if (this.killsByTestsRun == 0) {
+      return Option.none();
+    }
+    return Option.some(this.testsRunForKills / (float) this.killsByTestsRun);
+  }
+
+  /**
+   * Records an estimate of the score from a sample of the mutations, which is
+   * used in place of the score of the mutations analysed
+   */
+  public void registerEstimate(final ScoreEstimate estimate) {
+    this.estimate = Option.some(estimate);
+  }
+
+  public Option<ScoreEstimate> getEstimate() {
+    return this.estimate;
+  }
+
+  public long getTimeSpentOnTimeOuts() {
+    return this.timeSpentOnTimeOuts;
+  }
+
   public long getPercentageDetected() {
-    if (getTotalMutations() == 0) {
+    if (this.estimate.hasSome()) {
+      return this.estimate.value().getPercentageDetected();
+    }
+    return percentageDetected(getTotalMutations(), getTotalDetectedMutations());
+  }
+
+  static long percentageDetected(final long total, final long detected) {
+    if (total == 0) {
       return 100;
     }
 
-    if (getTotalDetectedMutations() == 0) {
+    if (detected == 0) {
       return 0;
     }
 
-    return Math.round((100f / getTotalMutations())
-        * getTotalDetectedMutations());
+    return Math.round((100f / total) * detected);
   }
 
   private static F2<Long, Score, Long> addDetectedTotals() {
@@ -102,10 +163,27 @@ public class MutationStatistics {
   public void report(final PrintStream out) {
     out.println(">> Generated " + this.getTotalMutations()
         + " mutations Killed " + this.getTotalDetectedMutations() + " ("
-        + this.getPercentageDetected() + "%)");
+        + percentageDetected(getTotalMutations(), getTotalDetectedMutations())
+        + "%)");
+    if (this.estimate.hasSome()) {
+      this.estimate.value().report(out);
+    }
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
-    
+    final long secondsSpentOnTimeOuts = TimeUnit.MILLISECONDS
+        .toSeconds(this.timeSpentOnTimeOuts);
+    if (secondsSpentOnTimeOuts != 0) {
+      out.println(">> Timed out mutations cost " + secondsSpentOnTimeOuts
+          + " seconds");
+    }
+    if (this.testsSaved != 0) {
+      out.println(">> Running tests against groups of mutants saved "
+          + this.testsSaved + " tests");
+    }
+    if (this.killsByTestsRun != 0) {
+      out.println(">> Ran " + format(getTestsRunPerKill().value())
+          + " tests per killed mutation");
+    }
   }
 
   private String getTestsPerMutation() {
@@ -115,8 +193,12 @@ public class MutationStatistics {
 
     final float testsPerMutation = this.numberOfTestsRun
         / (float) this.getTotalMutations();
+    return format(testsPerMutation);
+  }
+
+  private static String format(final float value) {
     return new DecimalFormat("#.##", new DecimalFormatSymbols(Locale.ENGLISH))
-        .format(testsPerMutation);
+        .format(value);
   }
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+
+import java.util.logging.Logger;
+
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+import org.pitest.util.Log;
+
+/**
+ * Estimates the mutation score from each round of the sample once all of its
+ * mutations have been analysed, and stops analysis once the confidence
+ * interval is narrow enough.
+ *
+ * Results for later rounds that arrive first are held until the rounds before
+ * them complete. A round with mutations left unanalysed never completes, so
+ * the estimate is only ever drawn from whole rounds.
+ */
+public class SamplingListener implements MutationResultListener {
+
+  private static final Logger            LOG = Log.getLogger();
+
+  private final MutationStatisticsSource stats;
+  private final StratifiedSamplingFilter sample;
+  private final int                      intervalWidth;
+  private final SideEffect               stop;
+
+  private final long[]                   remaining;
+  private final long[]                   analysed;
+  private final long[]                   detected;
+  private long                           population;
+
+  private int                            completedRounds;
+  private long                           sampled;
+  private long                           sampledDetected;
+  private boolean                        stopped;
+
+  /**
+   * @param stats
+   *          statistics to record the estimate in
+   * @param sample
+   *          sample the mutations were drawn into
+   * @param intervalWidth
+   *          width in percentage points of the confidence interval at which
+   *          to stop
+   * @param stop
+   *          stops analysis of the remaining mutations
+   */
+  public SamplingListener(final MutationStatisticsSource stats,
+      final StratifiedSamplingFilter sample, final int intervalWidth,
+      final SideEffect stop) {
+    this.stats = stats;
+    this.sample = sample;
+    this.intervalWidth = intervalWidth;
+    this.stop = stop;
+    this.remaining = new long[StratifiedSamplingFilter.ROUNDS];
+    this.analysed = new long[StratifiedSamplingFilter.ROUNDS];
+    this.detected = new long[StratifiedSamplingFilter.ROUNDS];
+    long total = 0;
+    for (int i = 0; i != StratifiedSamplingFilter.ROUNDS; i++) {
+      this.remaining[i] = sample.sizeOfRound(i);
+      total = total + this.remaining[i];
+    }
+    this.population = total;
+  }
+
+  public void runStart() {
+
+  }
+
+  public void handleMutationResult(final ClassMutationResults results) {
+    if (this.stopped) {
+      return;
+    }
+
+    for (final MutationResult each : results.getMutations()) {
+      final int round = this.sample.roundOf(each.getDetails().getId());
+      if (each.getStatus() == DetectionStatus.SUBSUMED) {
+        // not scored, so removed from the population
+        this.remaining[round]--;
+        this.population--;
+      } else if (each.getStatus() != DetectionStatus.NOT_STARTED) {
+        this.remaining[round]--;
+        this.analysed[round]++;
+        if (each.getStatus().isDetected()) {
+          this.detected[round]++;
+        }
+      }
+    }
+
+    if (completeRounds()) {
+      final ScoreEstimate estimate = ScoreEstimate.fromSample(
+          this.sampledDetected, this.sampled, this.population);
+      this.stats.getStatistics().registerEstimate(estimate);
+      if ((this.completedRounds != StratifiedSamplingFilter.ROUNDS)
+          && (estimate.getWidth() <= this.intervalWidth)) {
+        LOG.info("Mutation score estimated as " + estimate
+            + ". Stopping analysis.");
+        this.stopped = true;
+        this.stop.apply();
+      }
+    }
+  }
+
+  public void runEnd() {
+
+  }
+
+  private boolean completeRounds() {
+    boolean completed = false;
+    while ((this.completedRounds != StratifiedSamplingFilter.ROUNDS)
+        && (this.remaining[this.completedRounds] == 0)) {
+      this.sampled = this.sampled + this.analysed[this.completedRounds];
+      this.sampledDetected = this.sampledDetected
+          + this.detected[this.completedRounds];
+      this.completedRounds++;
+      completed = true;
+    }
+    return completed && (this.sampled != 0);
+  }
+
+}
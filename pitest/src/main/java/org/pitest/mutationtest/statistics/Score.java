@@ -51,7 +51,8 @@ public class Score {
   }
 
   public long getTotalMutations() {
-    return FCollection.fold(addTotals(), 0L, this.counts.values());
+    return FCollection.fold(addTotals(), 0L,
+        FCollection.filter(this.counts.values(), isScored()));
   }
 
   public long getTotalDetectedMutations() {
@@ -72,6 +73,16 @@ public class Score {
         * getTotalDetectedMutations());
   }
 
+  private static F<StatusCount, Boolean> isScored() {
+    return new F<StatusCount, Boolean>() {
+
+      public Boolean apply(final StatusCount a) {
+        return a.getStatus() != DetectionStatus.SUBSUMED;
+      }
+
+    };
+  }
+
   private static F<StatusCount, Boolean> isDetected() {
     return new F<StatusCount, Boolean>() {
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+
+import java.io.PrintStream;
+
+/**
+ * Estimate of the mutation score of all mutations from the score of a random
+ * sample of them.
+ *
+ * The 95% confidence interval is the Wilson score interval, which stays
+ * within bounds for scores near 0 or 100% and small samples, with a finite
+ * population correction as the sample is drawn without replacement. Strata
+ * sampled in proportion give an interval no wider than this.
+ */
+public class ScoreEstimate {
+
+  private static final double Z_95 = 1.96;
+
+  private final long          detected;
+  private final long          sampled;
+  private final long          population;
+  private final double        lower;
+  private final double        upper;
+
+  ScoreEstimate(final long detected, final long sampled,
+      final long population, final double lower, final double upper) {
+    this.detected = detected;
+    this.sampled = sampled;
+    this.population = population;
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  /**
+   * @param detected
+   *          mutations in the sample that were detected
+   * @param sampled
+   *          mutations in the sample
+   * @param population
+   *          mutations the sample was drawn from
+   */
+  public static ScoreEstimate fromSample(final long detected,
+      final long sampled, final long population) {
+    final double score = (double) detected / sampled;
+    if (sampled >= population) {
+      return new ScoreEstimate(detected, sampled, population, score, score);
+    }
+
+    final double n = (sampled * (population - 1d)) / (population - sampled);
+    final double z2 = Z_95 * Z_95;
+    final double denominator = 1 + (z2 / n);
+    final double centre = (score + (z2 / (2 * n))) / denominator;
+    final double halfWidth = (Z_95 * Math.sqrt(((score * (1 - score)) / n)
+        + (z2 / (4 * n * n))))
+        / denominator;
+    return new ScoreEstimate(detected, sampled, population, Math.max(0, centre
+        - halfWidth), Math.min(1, centre + halfWidth));
+  }
+
+  public long getSampled() {
+    return this.sampled;
+  }
+
+  public long getPopulation() {
+    return this.population;
+  }
+
+  public long getPercentageDetected() {
+    return MutationStatistics.percentageDetected(this.sampled, this.detected);
+  }
+
+  public long getLowerPercentage() {
+    return Math.round(this.lower * 100);
+  }
+
+  public long getUpperPercentage() {
+    return Math.round(this.upper * 100);
+  }
+
+  /**
+   * @return width of the confidence interval in percentage points
+   */
+  public double getWidth() {
+    return (this.upper - this.lower) * 100;
+  }
+
+  public void report(final PrintStream out) {
+    out.println(">> Estimated " + getPercentageDetected()
+        + "% killed (95% confidence interval " + getLowerPercentage()
+        + "% to " + getUpperPercentage() + "%) from a sample of "
+        + this.sampled + " of " + this.population + " mutations");
+  }
+
+  @Override
+  public String toString() {
+    return getPercentageDetected() + "% (" + getLowerPercentage() + "% to "
+        + getUpperPercentage() + "%) from " + this.sampled + " of "
+        + this.population + " mutations";
+  }
+
+}
@@ -17,8 +17,10 @@ import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.incremental.Checkpoint;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.mutationtest.incremental.XStreamHistoryStore;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.ResultOutputStrategy;
@@ -77,22 +79,25 @@ public class EntryPoint {
 
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
-        settings.getJavaExecutable(), data.getJvmArgs());
+        settings.getJavaExecutable(), data.getJvmArgs(),
+        createClassDataSharing(data), data.getTransport());
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = new CodeSource(cps, coverageOptions.getPitConfig()
         .testClassIdentifier());
 
     final Timings timings = new Timings();
+    final Checkpoint checkpoint = createCheckpoint(data);
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        checkpoint);
 
     final HistoryStore history = new XStreamHistoryStore(historyWriter, reader);
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
-        reportOutput);
+        reportOutput).with(checkpoint);
 
     final MutationCoverage report = new MutationCoverage(strategies, baseDir,
         code, data, settings, timings);
@@ -105,8 +110,25 @@ public class EntryPoint {
       jac.close();
       ja.close();
       historyWriter.close();
+      checkpoint.close();
     }
 
   }
 
+  private static Checkpoint createCheckpoint(final ReportOptions data) {
+    if (data.getCheckpointFile() != null) {
+      return Checkpoint.inFile(data.getCheckpointFile(), data.isResume());
+    }
+    return Checkpoint.disabled();
+  }
+
+  private static ClassDataSharing createClassDataSharing(
+      final ReportOptions data) {
+    if (data.isClassDataSharing()) {
+      return ClassDataSharing.inDirectory(new File(data.getReportDir(),
+          "class-data"));
+    }
+    return ClassDataSharing.disabled();
+  }
+
 }
@@ -32,8 +32,11 @@ import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageSummary;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
@@ -42,22 +45,38 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.AdaptiveTimeoutStrategy;
+import org.pitest.mutationtest.build.InformationGainPrioritiser;
+import org.pitest.mutationtest.build.KillHistoryTestPrioritiser;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationGroupPrioritiser;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.SampleRoundPrioritiser;
+import org.pitest.mutationtest.build.SubsumedMutationAnalyser;
 import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.filter.MutationFilter;
 import org.pitest.mutationtest.filter.MutationFilterFactory;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+import org.pitest.mutationtest.incremental.Checkpoint;
+import org.pitest.mutationtest.incremental.CheckpointAnalyser;
+import org.pitest.mutationtest.incremental.CheckpointListener;
+import org.pitest.mutationtest.incremental.CodeHistory;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
+import org.pitest.mutationtest.incremental.KillHistory;
+import org.pitest.mutationtest.statistics.FailFastListener;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
+import org.pitest.mutationtest.statistics.SamplingListener;
 import org.pitest.mutationtest.statistics.Score;
 import org.pitest.util.Log;
 import org.pitest.util.StringUtil;
@@ -65,9 +84,12 @@ import org.pitest.util.Timings;
 
 public class MutationCoverage {
 
-  private static final int           MB  = 1024 * 1024;
+  private static final int           MB          = 1024 * 1024;
 
-  private static final Logger        LOG = Log.getLogger();
+  // fixed so that successive runs analyse the same sample
+  private static final long          SAMPLE_SEED = 0;
+
+  private static final Logger        LOG         = Log.getLogger();
   private final ReportOptions        data;
 
 
@@ -109,6 +131,8 @@ public class MutationCoverage {
 
     verifyBuildSuitableForMutationTesting();
 
+    checkpoint().open(this.code);
+
     final CoverageDatabase coverageData = coverage().calculateCoverage();
 
     LOG.fine("Used memory after coverage calculation "
@@ -118,36 +142,69 @@ public class MutationCoverage {
 
     final MutationStatisticsListener stats = new MutationStatisticsListener();
 
+    if (this.data.isFailFast()
+        && isBelowCoverageThreshold(coverageData.createSummary())) {
+      LOG.info("Line coverage is below threshold of "
+          + this.data.getCoverageThreshold()
+          + "%. Skipping mutation analysis.");
+      return new CombinedStatistics(stats.getStatistics(),
+          coverageData.createSummary());
+    }
+
     final MutationEngine engine = this.strategies.factory().createEngine(
         this.data.isMutateStaticInitializers(),
         Prelude.or(this.data.getExcludedMethods()),
         this.data.getLoggingClasses(), this.data.getMutators(),
-        this.data.isDetectInlinedCode());
+        this.data.isDetectInlinedCode(), this.data.isSkipSubsumedMutants());
 
     final List<MutationResultListener> config = createConfig(t0, coverageData,
         stats, engine);
 
     history().initialize();
 
-    this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
-    final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine);
-    this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
-
-    LOG.info("Created  " + tus.size() + " mutation test units");
-    checkMutationsFound(tus);
-
-    recordClassPath(coverageData);
+    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
+        .getLaunchOptions());
+    final WorkerFactory wf = createWorkerFactory(mutationConfig);
+    try {
+      this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
+      final MutationFilter filter = makeFilter().createFilter(
+          this.data.getFreeFormProperties(), this.code,
+          this.data.getMaxMutationsPerClass());
+      final Option<StratifiedSamplingFilter> sample = createSample(filter);
+      final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
+          mutationConfig, wf, sample.hasSome() ? sample.value() : filter,
+          sample);
+      this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
+
+      LOG.info("Created  " + tus.size() + " mutation test units");
+      checkMutationsFound(tus);
+
+      recordClassPath(coverageData);
+
+      if (this.data.isFailFast()) {
+        config.add(new FailFastListener(stats, countMutations(tus),
+            this.data.getMutationThreshold(), stopAnalysis(wf)));
+      }
 
-    LOG.fine("Used memory before analysis start "
-        + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
-    LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
-        + " mb");
+      if (sample.hasSome()) {
+        config.add(new SamplingListener(stats, sample.value(), this.data
+            .getSampleIntervalWidth(), stopAnalysis(wf)));
+      }
 
-    final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(numberOfThreads(),config);
-    this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
-    this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+      LOG.fine("Used memory before analysis start "
+          + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
+      LOG.fine("Free Memory before analysis start "
+          + (runtime.freeMemory() / MB) + " mb");
+
+      final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
+          numberOfThreads(), config, deadline(t0), stopAnalysis(wf));
+      this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
+      mae.run(tus);
+      this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+      checkpoint().delete();
+    } finally {
+      wf.shutdown();
+    }
 
     LOG.info("Completed in " + timeSpan(t0));
 
@@ -158,6 +215,34 @@ public class MutationCoverage {
 
   }
   
+  private boolean isBelowCoverageThreshold(final CoverageSummary summary) {
+    return (this.data.getCoverageThreshold() != 0)
+        && (summary.getCoverage() < this.data.getCoverageThreshold());
+  }
+
+  private static long countMutations(final List<MutationAnalysisUnit> tus) {
+    long count = 0;
+    for (final MutationAnalysisUnit each : tus) {
+      count = count + each.numberOfMutations();
+    }
+    return count;
+  }
+
+  private static SideEffect stopAnalysis(final WorkerFactory wf) {
+    return new SideEffect() {
+      public void apply() {
+        wf.stop();
+      }
+    };
+  }
+
+  private long deadline(final long t0) {
+    if (this.data.getTimeBudget() == 0) {
+      return MutationAnalysisExecutor.NO_DEADLINE;
+    }
+    return t0 + (this.data.getTimeBudget() * 60L * 1000);
+  }
+
   private int numberOfThreads() {
     return Math.max(1, this.data.getNumberOfThreads());
   }
@@ -178,6 +263,7 @@ public class MutationCoverage {
 
     ls.add(mutationReportListener);
     ls.add(new HistoryListener(history()));
+    ls.add(new CheckpointListener(checkpoint()));
 
     if (!this.data.isVerbose()) {
       ls.add(new SpinnerListener(System.out));
@@ -213,6 +299,7 @@ public class MutationCoverage {
     ps.println("- Timings");
     ps.println(StringUtil.separatorLine('='));
     this.timings.report(ps);
+    coverage().getLaunchOptions().getClassDataSharing().report(ps);
 
     ps.println(StringUtil.separatorLine('='));
     ps.println("- Statistics");
@@ -228,39 +315,98 @@ public class MutationCoverage {
     }
   }
 
-  private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine) {
+  private TimeoutLengthStrategy makeTimeoutStrategy() {
+    if (this.data.isAdaptiveTimeouts()) {
+      return new AdaptiveTimeoutStrategy(this.data.getTimeoutFactor(),
+          this.data.getTimeoutConstant());
+    }
+    return new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+        this.data.getTimeoutConstant());
+  }
 
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
+  private WorkerFactory createWorkerFactory(final MutationConfig mutationConfig) {
+    return new WorkerFactory(this.baseDir, coverage().getConfiguration(),
+        mutationConfig, makeTimeoutStrategy(), this.data.isMutantTimeBudget(),
+        this.data.isMutantSchemata(), this.data.getMutantGroupSize(),
+        this.data.getMutantTestThreads(), this.data.getSpareSlaves(),
+        this.data.isVerbose(), this.data.getClassPath().getLocalClassPath());
+  }
 
-    ClassByteArraySource bas = new ClassPathByteArraySource(data.getClassPath());
+  private List<MutationAnalysisUnit> buildMutationTests(
+      final CoverageDatabase coverageData, final MutationConfig mutationConfig,
+      final WorkerFactory wf, final MutationFilter filter,
+      final Option<StratifiedSamplingFilter> sample) {
 
-    TestPrioritiser testPrioritiser = settings.getTestPrioritiser()
-        .makeTestPrioritiser(data.getFreeFormProperties(), code, coverageData);
+    ClassByteArraySource bas = new ClassPathByteArraySource(data.getClassPath());
 
-    final MutationSource source = new MutationSource(mutationConfig,
-        makeFilter().createFilter(data.getFreeFormProperties(), code,
-            data.getMaxMutationsPerClass()), testPrioritiser, bas);
+    TestPrioritiser testPrioritiser = orderByKillHistory(settings
+        .getTestPrioritiser().makeTestPrioritiser(data.getFreeFormProperties(),
+            code, coverageData));
 
-    final MutationAnalyser analyser = new IncrementalAnalyser(
-        new DefaultCodeHistory(this.code, history()), coverageData);
+    final MutationSource source = new MutationSource(mutationConfig, filter,
+        testPrioritiser, bas);
 
-    final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data
-            .getClassPath().getLocalClassPath());
+    final CodeHistory codeHistory = new DefaultCodeHistory(this.code,
+        history());
+    final MutationAnalyser analyser = skipSubsumed(new CheckpointAnalyser(
+        checkpoint(), new IncrementalAnalyser(codeHistory, coverageData)));
 
     MutationGrouper grouper = settings.getMutationGrouper().makeFactory(
         data.getFreeFormProperties(), code, data.getNumberOfThreads(),
         data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, groupOrder(codeHistory, sample));
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private TestPrioritiser orderByKillHistory(final TestPrioritiser prioritiser) {
+    if (!this.data.isOrderTestsByKillHistory()) {
+      return prioritiser;
+    }
+    final KillHistory kills = KillHistory.fromResults(history()
+        .getHistoricResults());
+    if (kills.isEmpty()) {
+      return prioritiser;
+    }
+    if (kills.getTestsRunPerKill().hasSome()) {
+      LOG.info("Ordering tests by previous kills. Previous run ran "
+          + (Math.round(kills.getTestsRunPerKill().value() * 100) / 100f)
+          + " tests per killed mutation");
+    }
+    return new KillHistoryTestPrioritiser(prioritiser, kills);
+  }
+
+  private MutationAnalyser skipSubsumed(final MutationAnalyser analyser) {
+    if (this.data.isSkipSubsumedMutants()) {
+      return new SubsumedMutationAnalyser(analyser);
+    }
+    return analyser;
+  }
+
+  private Option<MutationGroupPrioritiser> groupOrder(
+      final CodeHistory codeHistory,
+      final Option<StratifiedSamplingFilter> sample) {
+    // each round of the sample must be analysed before the next
+    if (sample.hasSome()) {
+      return Option.<MutationGroupPrioritiser> some(new SampleRoundPrioritiser(
+          sample.value()));
+    }
+    if (this.data.getTimeBudget() == 0) {
+      return Option.none();
+    }
+    return Option.<MutationGroupPrioritiser> some(new InformationGainPrioritiser(
+        codeHistory));
+  }
+
+  private Option<StratifiedSamplingFilter> createSample(
+      final MutationFilter filter) {
+    if (this.data.getSampleIntervalWidth() == 0) {
+      return Option.none();
+    }
+    return Option.some(new StratifiedSamplingFilter(filter, SAMPLE_SEED));
+  }
+
   private MutationFilterFactory makeFilter() {
     return settings.createMutationFilter();
   }
@@ -288,4 +434,8 @@ public class MutationCoverage {
     return this.strategies.history();
   }
 
+  private Checkpoint checkpoint() {
+    return this.strategies.checkpoint();
+  }
+
 }
@@ -4,6 +4,7 @@ import org.pitest.coverage.CoverageGenerator;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.incremental.Checkpoint;
 import org.pitest.mutationtest.verify.BuildVerifier;
 import org.pitest.mutationtest.verify.DefaultBuildVerifier;
 import org.pitest.util.ResultOutputStrategy;
@@ -16,25 +17,28 @@ public class MutationStrategies {
   private final BuildVerifier                 buildVerifier;
   private final MutationEngineFactory         factory;
   private final ResultOutputStrategy          output;
+  private final Checkpoint                    checkpoint;
 
   public MutationStrategies(final MutationEngineFactory factory,
       final HistoryStore history, final CoverageGenerator coverage,
       final MutationResultListenerFactory listenerFactory,
       final ResultOutputStrategy output) {
     this(factory, history, coverage, listenerFactory, output,
-        new DefaultBuildVerifier());
+        new DefaultBuildVerifier(), Checkpoint.disabled());
   }
 
   private MutationStrategies(final MutationEngineFactory factory,
       final HistoryStore history, final CoverageGenerator coverage,
       final MutationResultListenerFactory listenerFactory,
-      final ResultOutputStrategy output, final BuildVerifier buildVerifier) {
+      final ResultOutputStrategy output, final BuildVerifier buildVerifier,
+      final Checkpoint checkpoint) {
     this.history = history;
     this.coverage = coverage;
     this.listenerFactory = listenerFactory;
     this.buildVerifier = buildVerifier;
     this.factory = factory;
     this.output = output;
+    this.checkpoint = checkpoint;
   }
 
   public HistoryStore history() {
@@ -61,14 +65,24 @@ public class MutationStrategies {
     return this.output;
   }
 
+  public Checkpoint checkpoint() {
+    return this.checkpoint;
+  }
+
   public MutationStrategies with(final MutationEngineFactory factory) {
     return new MutationStrategies(factory, this.history, this.coverage,
-        this.listenerFactory, this.output, this.buildVerifier);
+        this.listenerFactory, this.output, this.buildVerifier,
+        this.checkpoint);
   }
 
   public MutationStrategies with(final BuildVerifier verifier) {
     return new MutationStrategies(this.factory, this.history, this.coverage,
-        this.listenerFactory, this.output, verifier);
+        this.listenerFactory, this.output, verifier, this.checkpoint);
+  }
+
+  public MutationStrategies with(final Checkpoint checkpoint) {
+    return new MutationStrategies(this.factory, this.history, this.coverage,
+        this.listenerFactory, this.output, this.buildVerifier, checkpoint);
   }
 
 }
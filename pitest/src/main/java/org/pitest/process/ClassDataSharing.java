@@ -0,0 +1,252 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import org.pitest.functional.Option;
+import org.pitest.util.FileUtil;
+import org.pitest.util.Log;
+import org.pitest.util.StringUtil;
+
+/**
+ * Shares the JDK classes loaded by slaves between launches through a class data
+ * sharing archive. The first slave of each kind records the classes it loads,
+ * an archive of them is then dumped, and slaves launched after that map the
+ * archive rather than loading and verifying the same classes again.
+ *
+ * Only JDK classes are archived. The JVM cannot archive classes from the
+ * directories on the classpath, nor from the classpath at all once the agent
+ * has appended to the boot classpath.
+ *
+ * Archives are named after a hash of the java executable, slave class,
+ * classpath and jvm arguments, so are reused by later runs for as long as
+ * these stay the same. The JVM checks that an archive matches before mapping
+ * it and loads classes as normal if it does not. JVMs that do not support the
+ * options ignore them.
+ *
+ * The time taken for each slave to connect after it is launched is recorded
+ * whether or not sharing is enabled, so the two can be compared.
+ */
+public class ClassDataSharing {
+
+  private static final Logger LOG       = Log.getLogger();
+
+  private final Option<File>  dir;
+  private final Set<File>     attempted = new HashSet<File>();
+
+  private int                 plainLaunches;
+  private long                plainMillis;
+  private int                 sharedLaunches;
+  private long                sharedMillis;
+
+  ClassDataSharing(final Option<File> dir) {
+    this.dir = dir;
+  }
+
+  public static ClassDataSharing disabled() {
+    return new ClassDataSharing(Option.<File> none());
+  }
+
+  /**
+   * @param dir
+   *          directory to store archives in
+   */
+  public static ClassDataSharing inDirectory(final File dir) {
+    return new ClassDataSharing(Option.some(dir));
+  }
+
+  /**
+   * Decides how a slave will use the archive for its kind. The slave maps the
+   * archive if it exists, otherwise the first slave to be launched records the
+   * classes to put in it.
+   */
+  public synchronized Launch prepare(final String javaExecutable,
+      final Class<?> slaveClass, final String classPath,
+      final List<String> jvmArgs) {
+    if (this.dir.hasNone() || (javaExecutable == null)) {
+      return new Launch(null, null, null, null);
+    }
+
+    final File archive = new File(this.dir.value(), slaveClass.getSimpleName()
+        + "-" + hash(javaExecutable, slaveClass, classPath, jvmArgs) + ".jsa");
+    if (archive.exists()) {
+      return new Launch(archive, null, null, null);
+    }
+
+    if (!this.attempted.add(archive)) {
+      return new Launch(null, null, null, null);
+    }
+
+    this.dir.value().mkdirs();
+    return new Launch(archive, new File(this.dir.value(), archive.getName()
+        + "." + FileUtil.randomFilename() + ".classlist"), javaExecutable,
+        jvmArgs);
+  }
+
+  /**
+   * Dumps an archive of the classes recorded by a slave once it has exited.
+   */
+  public void exited(final Launch launch) {
+    if (!launch.isRecording()) {
+      return;
+    }
+    try {
+      if (launch.classList.length() != 0) {
+        dump(launch);
+      }
+    } finally {
+      launch.classList.delete();
+    }
+  }
+
+  public synchronized void recordStartup(final Launch launch,
+      final long millis) {
+    if (launch.isShared()) {
+      this.sharedLaunches++;
+      this.sharedMillis = this.sharedMillis + millis;
+    } else {
+      this.plainLaunches++;
+      this.plainMillis = this.plainMillis + millis;
+    }
+  }
+
+  public synchronized void report(final PrintStream ps) {
+    ps.println("> slave startup : "
+        + average(this.plainMillis, this.plainLaunches) + " ms average over "
+        + this.plainLaunches + " slaves");
+    if (this.dir.hasSome()) {
+      ps.println("> slave startup with shared class data : "
+          + average(this.sharedMillis, this.sharedLaunches)
+          + " ms average over " + this.sharedLaunches + " slaves");
+    }
+    ps.println(StringUtil.separatorLine());
+  }
+
+  private void dump(final Launch launch) {
+    final File dumped = new File(launch.classList.getPath() + ".jsa");
+    final List<String> cmd = new ArrayList<String>();
+    cmd.add(launch.javaExecutable);
+    cmd.addAll(launch.userJvmArgs);
+    cmd.add("-Xshare:dump");
+    cmd.add("-XX:SharedClassListFile=" + launch.classList.getAbsolutePath());
+    cmd.add("-XX:SharedArchiveFile=" + dumped.getAbsolutePath());
+
+    final ProcessBuilder pb = new ProcessBuilder(cmd);
+    pb.redirectErrorStream(true);
+    // only JDK classes are archived
+    pb.environment().remove("CLASSPATH");
+    try {
+      final Process process = pb.start();
+      discard(process.getInputStream());
+      if ((process.waitFor() == 0) && dumped.renameTo(launch.archive)) {
+        LOG.fine("Wrote class data sharing archive " + launch.archive);
+      } else {
+        LOG.fine("Could not write class data sharing archive "
+            + launch.archive);
+      }
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not write class data sharing archive", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      dumped.delete();
+    }
+  }
+
+  private static void discard(final InputStream in) throws IOException {
+    final byte[] buf = new byte[1024];
+    while (in.read(buf) != -1) {
+      // dump output is of no interest
+    }
+    in.close();
+  }
+
+  private static long average(final long total, final int count) {
+    if (count == 0) {
+      return 0;
+    }
+    return total / count;
+  }
+
+  private static String hash(final String javaExecutable,
+      final Class<?> slaveClass, final String classPath,
+      final List<String> jvmArgs) {
+    final CRC32 crc = new CRC32();
+    crc.update(("" + javaExecutable + "\n" + slaveClass.getName() + "\n"
+        + classPath + "\n" + jvmArgs).getBytes());
+    return Long.toHexString(crc.getValue());
+  }
+
+  /**
+   * How a single slave uses its archive
+   */
+  public static final class Launch {
+    private final File         archive;
+    private final File         classList;
+    private final String       javaExecutable;
+    private final List<String> userJvmArgs;
+
+    private Launch(final File archive, final File classList,
+        final String javaExecutable, final List<String> userJvmArgs) {
+      this.archive = archive;
+      this.classList = classList;
+      this.javaExecutable = javaExecutable;
+      this.userJvmArgs = userJvmArgs;
+    }
+
+    /**
+     * @return options to add to the slave's command line
+     */
+    public List<String> getJvmArgs() {
+      if (this.archive == null) {
+        return Collections.emptyList();
+      }
+      final List<String> args = new ArrayList<String>();
+      args.add("-XX:+IgnoreUnrecognizedVMOptions");
+      args.add("-Xshare:auto");
+      if (isRecording()) {
+        args.add("-XX:DumpLoadedClassList="
+            + this.classList.getAbsolutePath());
+      } else {
+        args.add("-XX:SharedArchiveFile=" + this.archive.getAbsolutePath());
+      }
+      return args;
+    }
+
+    public boolean isShared() {
+      return (this.archive != null) && (this.classList == null);
+    }
+
+    /**
+     * @return true if the slave records the classes it loads for an archive
+     */
+    public boolean isRecording() {
+      return this.classList != null;
+    }
+  }
+
+}
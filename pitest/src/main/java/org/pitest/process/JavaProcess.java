@@ -29,8 +29,8 @@ import org.pitest.functional.FunctionalList;
 import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.functional.predicate.Predicate;
+import org.pitest.util.CommunicationHub;
 import org.pitest.util.Monitor;
-import org.pitest.util.StreamMonitor;
 
 public class JavaProcess {
 
@@ -43,8 +43,10 @@ public class JavaProcess {
       final SideEffect1<String> sysoutHandler,
       final SideEffect1<String> syserrHandler) {
     this.process = process;
-    this.out = new StreamMonitor(process.getInputStream(), sysoutHandler);
-    this.err = new StreamMonitor(process.getErrorStream(), syserrHandler);
+    this.out = CommunicationHub.shared().drain(process.getInputStream(),
+        sysoutHandler);
+    this.err = CommunicationHub.shared().drain(process.getErrorStream(),
+        syserrHandler);
     this.out.requestStart();
     this.err.requestStart();
 
@@ -22,6 +22,8 @@ public class LaunchOptions {
   private final JavaAgent             javaAgentFinder;
   private final List<String>          childJVMArgs;
   private final JavaExecutableLocator javaExecutable;
+  private final ClassDataSharing      classDataSharing;
+  private final Transport             transport;
 
   public LaunchOptions(final JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -31,9 +33,27 @@ public class LaunchOptions {
   public LaunchOptions(final JavaAgent javaAgentFinder,
       final JavaExecutableLocator javaExecutable,
       final List<String> childJVMArgs) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, ClassDataSharing
+        .disabled());
+  }
+
+  public LaunchOptions(final JavaAgent javaAgentFinder,
+      final JavaExecutableLocator javaExecutable,
+      final List<String> childJVMArgs,
+      final ClassDataSharing classDataSharing) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, classDataSharing,
+        Transport.SOCKET);
+  }
+
+  public LaunchOptions(final JavaAgent javaAgentFinder,
+      final JavaExecutableLocator javaExecutable,
+      final List<String> childJVMArgs,
+      final ClassDataSharing classDataSharing, final Transport transport) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
+    this.classDataSharing = classDataSharing;
+    this.transport = transport;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -48,4 +68,12 @@ public class LaunchOptions {
     return this.javaExecutable.javaExecutable();
   }
 
+  public ClassDataSharing getClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public Transport getTransport() {
+    return this.transport;
+  }
+
 }
@@ -27,12 +27,15 @@ import org.pitest.functional.SideEffect1;
 public final class ProcessArgs {
 
   private final String        launchClassPath;
-  private SideEffect1<String> stdout     = print(String.class);
-  private SideEffect1<String> stdErr     = printTo(String.class, System.err);
-  private List<String>        jvmArgs    = Collections.emptyList();
+  private SideEffect1<String> stdout           = print(String.class);
+  private SideEffect1<String> stdErr           = printTo(String.class,
+                                                   System.err);
+  private List<String>        jvmArgs          = Collections.emptyList();
   private JavaAgent           javaAgentFinder;
-  private File                workingDir = null;
+  private File                workingDir       = null;
   private String              javaExecutable;
+  private Transport           transport        = Transport.SOCKET;
+  private ClassDataSharing    classDataSharing = ClassDataSharing.disabled();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -61,6 +64,11 @@ public final class ProcessArgs {
     return this;
   }
 
+  public ProcessArgs andTransport(final Transport transport) {
+    this.transport = transport;
+    return this;
+  }
+
   public String getLaunchClassPath() {
     return this.launchClassPath;
   }
@@ -101,10 +109,19 @@ public final class ProcessArgs {
     return this.javaExecutable;
   }
 
+  public Transport getTransport() {
+    return this.transport;
+  }
+
+  public ClassDataSharing getClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   public ProcessArgs andLaunchOptions(final LaunchOptions launchOptions) {
     this.jvmArgs = launchOptions.getChildJVMArgs();
     this.javaAgentFinder = launchOptions.getJavaAgentFinder();
     this.javaExecutable = launchOptions.getJavaExecutable();
+    this.classDataSharing = launchOptions.getClassDataSharing();
     return this;
   }
 
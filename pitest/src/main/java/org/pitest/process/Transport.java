@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+
+import org.pitest.functional.Option;
+import org.pitest.util.MappedRingBuffer;
+
+/**
+ * How a slave sends its results back to the parent process. A socket is always
+ * used to pass the slave its initial data.
+ */
+public enum Transport {
+
+  /**
+   * Results are written to the socket
+   */
+  SOCKET {
+    @Override
+    Option<MappedRingBuffer> createRing() {
+      return Option.none();
+    }
+  },
+
+  /**
+   * Results are written to a ring buffer in a memory mapped file created for
+   * each slave
+   */
+  SHARED_MEMORY {
+    @Override
+    Option<MappedRingBuffer> createRing() throws IOException {
+      final File file = File.createTempFile("pit", ".ring");
+      file.deleteOnExit();
+      return Option.some(MappedRingBuffer.create(file, RING_CAPACITY));
+    }
+  };
+
+  private static final int RING_CAPACITY = 1024 * 1024;
+
+  abstract Option<MappedRingBuffer> createRing() throws IOException;
+
+  /**
+   * Stream a slave launched by {@link WrappingProcess} should write its results
+   * to.
+   *
+   * @param socket
+   *          socket connected to the parent
+   * @param args
+   *          arguments passed to the slave's main method
+   */
+  public static OutputStream resultStream(final Socket socket,
+      final String[] args) throws IOException {
+    if (args.length > 1) {
+      return MappedRingBuffer.open(new File(args[1])).outputStream();
+    }
+    return socket.getOutputStream();
+  }
+
+}
@@ -1,39 +1,107 @@
 package org.pitest.process;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.pitest.functional.Option;
+import org.pitest.util.MappedRingBuffer;
+import org.pitest.util.Unchecked;
+
+/**
+ * Launches a slave, passing it the port to connect to and, if results are to
+ * be sent through shared memory, the file backing its ring buffer. Slaves
+ * obtain the stream to write results to from
+ * {@link Transport#resultStream(java.net.Socket, String[])}.
+ */
 public class WrappingProcess {
 
-  private final int         port;
-  private final ProcessArgs argsBuilder;
-  private final Class<?>    slaveClass;
+  private final int                      port;
+  private final ProcessArgs              argsBuilder;
+  private final Class<?>                 slaveClass;
+  private final Option<MappedRingBuffer> ring;
 
-  private JavaProcess       process;
+  private JavaProcess                    process;
+  private ClassDataSharing.Launch        launch;
+  private long                           launchedAt;
 
   public WrappingProcess(final int port, final ProcessArgs args,
       final Class<?> slaveClass) {
     this.port = port;
     this.argsBuilder = args;
     this.slaveClass = slaveClass;
+    try {
+      this.ring = args.getTransport().createRing();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * @return the ring buffer the slave will write its results to, or none if
+   *         it will write them to its socket
+   */
+  public Option<MappedRingBuffer> getResultRing() {
+    return this.ring;
   }
 
   public void start() throws IOException {
-    final String[] args = { "" + this.port };
+    final List<String> args = new ArrayList<String>();
+    args.add("" + this.port);
+    for (final MappedRingBuffer each : this.ring) {
+      args.add(each.getFile().getAbsolutePath());
+    }
+    this.launch = this.argsBuilder.getClassDataSharing().prepare(
+        this.argsBuilder.getJavaExecutable(), this.slaveClass,
+        this.argsBuilder.getLaunchClassPath(), this.argsBuilder.getJvmArgs());
+    final List<String> jvmArgs = new ArrayList<String>(
+        this.argsBuilder.getJvmArgs());
+    jvmArgs.addAll(this.launch.getJvmArgs());
+    this.launchedAt = System.currentTimeMillis();
     this.process = JavaProcess.launch(this.argsBuilder.getWorkingDir(),
         this.argsBuilder.getJavaExecutable(), this.argsBuilder.getStdout(),
-        this.argsBuilder.getStdErr(), this.argsBuilder.getJvmArgs(),
-        this.slaveClass, Arrays.asList(args),
+        this.argsBuilder.getStdErr(), jvmArgs, this.slaveClass, args,
         this.argsBuilder.getJavaAgentFinder(),
         this.argsBuilder.getLaunchClassPath());
   }
 
+  public boolean isStarted() {
+    return this.process != null;
+  }
+
+  public boolean isAlive() {
+    return isStarted() && this.process.isAlive();
+  }
+
   public int waitToDie() throws InterruptedException {
     return this.process.waitToDie();
   }
 
+  /**
+   * Records how long the slave took to connect after it was launched
+   *
+   * @param connectedAt
+   *          time the slave connected, or 0 if it never did
+   */
+  public void recordStartup(final long connectedAt) {
+    if (isStarted() && (connectedAt >= this.launchedAt)) {
+      this.argsBuilder.getClassDataSharing().recordStartup(this.launch,
+          connectedAt - this.launchedAt);
+    }
+  }
+
+  /**
+   * Kills the process if it has been started. Safe to call more than once.
+   */
   public void destroy() {
+    for (final MappedRingBuffer each : this.ring) {
+      each.getFile().delete();
+    }
+    if (!isStarted()) {
+      return;
+    }
     this.process.destroy();
+    this.argsBuilder.getClassDataSharing().exited(this.launch);
   }
 
 }
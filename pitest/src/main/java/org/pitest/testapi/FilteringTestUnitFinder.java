@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.testapi;
+
+import java.util.List;
+
+import org.pitest.functional.predicate.Predicate;
+
+/**
+ * A TestUnitFinder that can build units for only some of the tests in a
+ * class, rather than building every unit and discarding most of them.
+ */
+public interface FilteringTestUnitFinder extends TestUnitFinder {
+
+  /**
+   * @param include
+   *          matches the descriptions of the units to build
+   */
+  List<TestUnit> findTestUnits(Class<?> clazz, Predicate<Description> include);
+
+}
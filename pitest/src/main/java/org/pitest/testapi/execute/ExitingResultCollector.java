@@ -20,7 +20,7 @@ import org.pitest.testapi.ResultCollector;
 public class ExitingResultCollector implements ResultCollector {
 
   private final ResultCollector child;
-  private boolean               hadFailure = false;
+  private volatile boolean      hadFailure = false;
 
   public ExitingResultCollector(final ResultCollector child) {
     this.child = child;
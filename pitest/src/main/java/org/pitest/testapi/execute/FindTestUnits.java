@@ -6,8 +6,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.functional.predicate.True;
 import org.pitest.testapi.Configuration;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.FilteringTestUnitFinder;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitFinder;
 
 /**
  * Scans classes to discover TestUnits
@@ -23,10 +30,19 @@ public class FindTestUnits {
 
   public List<TestUnit> findTestUnitsForAllSuppliedClasses(
       final Iterable<Class<?>> classes) {
+    return findTestUnitsForAllSuppliedClasses(classes,
+        True.<Description> all());
+  }
+
+  /**
+   * Finds only the test units whose descriptions match the supplied predicate
+   */
+  public List<TestUnit> findTestUnitsForAllSuppliedClasses(
+      final Iterable<Class<?>> classes, final Predicate<Description> include) {
     final List<TestUnit> testUnits = new ArrayList<TestUnit>();
 
     for (final Class<?> c : classes) {
-      final Collection<TestUnit> testUnitsFromClass = getTestUnits(c);
+      final Collection<TestUnit> testUnitsFromClass = getTestUnits(c, include);
       testUnits.addAll(testUnitsFromClass);
     }
 
@@ -34,31 +50,55 @@ public class FindTestUnits {
 
   }
 
-  private Collection<TestUnit> getTestUnits(final Class<?> suiteClass) {
+  /**
+   * Asks the finder to build only the matching units if it is able to,
+   * otherwise filters the units it finds.
+   */
+  public static List<TestUnit> findTestUnits(final TestUnitFinder finder,
+      final Class<?> clazz, final Predicate<Description> include) {
+    if (finder instanceof FilteringTestUnitFinder) {
+      return ((FilteringTestUnitFinder) finder).findTestUnits(clazz, include);
+    }
+    return FCollection.filter(finder.findTestUnits(clazz),
+        descriptionMatches(include));
+  }
+
+  private Collection<TestUnit> getTestUnits(final Class<?> suiteClass,
+      final Predicate<Description> include) {
     final List<TestUnit> tus = new ArrayList<TestUnit>();
     final Set<Class<?>> visitedClasses = new HashSet<Class<?>>();
-    findTestUnits(tus, visitedClasses, suiteClass);
+    findTestUnits(tus, visitedClasses, suiteClass, include);
     return tus;
   }
 
   private void findTestUnits(final List<TestUnit> tus,
-      final Set<Class<?>> visitedClasses, final Class<?> suiteClass) {
+      final Set<Class<?>> visitedClasses, final Class<?> suiteClass,
+      final Predicate<Description> include) {
     visitedClasses.add(suiteClass);
     final Collection<Class<?>> tcs = this.config.testSuiteFinder().apply(
         suiteClass);
 
     for (final Class<?> tc : tcs) {
       if (!visitedClasses.contains(tc)) {
-        findTestUnits(tus, visitedClasses, tc);
+        findTestUnits(tus, visitedClasses, tc, include);
       }
     }
 
-    final List<TestUnit> testsInThisClass = this.config.testUnitFinder()
-        .findTestUnits(suiteClass);
+    final List<TestUnit> testsInThisClass = findTestUnits(
+        this.config.testUnitFinder(), suiteClass, include);
     if (!testsInThisClass.isEmpty()) {
       tus.addAll(testsInThisClass);
     }
 
   }
 
+  private static F<TestUnit, Boolean> descriptionMatches(
+      final Predicate<Description> include) {
+    return new F<TestUnit, Boolean>() {
+      public Boolean apply(final TestUnit a) {
+        return include.apply(a.getDescription());
+      }
+    };
+  }
+
 }
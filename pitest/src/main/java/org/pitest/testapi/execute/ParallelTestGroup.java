@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.testapi.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+import org.pitest.util.Unchecked;
+
+/**
+ * Runs its children across a number of threads, for tests known to share no
+ * state. Results are passed to the collector one at a time.
+ *
+ * Once the collector asks to exit no further children are started. Those
+ * already running are allowed to finish, as a test cannot be stopped safely
+ * part way through.
+ */
+public final class ParallelTestGroup extends AbstractTestUnit {
+
+  private final List<TestUnit> children;
+  private final int            threads;
+
+  public ParallelTestGroup(final List<TestUnit> children, final int threads) {
+    super(new Description("ParallelTestGroup"));
+    this.children = children;
+    this.threads = threads;
+  }
+
+  @Override
+  public void execute(final ClassLoader loader, final ResultCollector rc) {
+    final ResultCollector collector = new SynchronizedResultCollector(rc);
+    final Queue<TestUnit> remaining = new ConcurrentLinkedQueue<TestUnit>(
+        this.children);
+    final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+    final List<Thread> workers = new ArrayList<Thread>();
+    for (int i = 0; i != Math.min(this.threads, this.children.size()); i++) {
+      final Thread worker = new Thread(createRunnable(loader, collector,
+          remaining, error));
+      worker.setDaemon(true);
+      worker.setName("parallelTestThread");
+      worker.start();
+      workers.add(worker);
+    }
+
+    try {
+      for (final Thread each : workers) {
+        each.join();
+      }
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+
+    if (error.get() != null) {
+      throw Unchecked.translateCheckedException(error.get());
+    }
+  }
+
+  private static Runnable createRunnable(final ClassLoader loader,
+      final ResultCollector rc, final Queue<TestUnit> remaining,
+      final AtomicReference<Throwable> error) {
+    return new Runnable() {
+
+      public void run() {
+        try {
+          while (!rc.shouldExit()) {
+            final TestUnit next = remaining.poll();
+            if (next == null) {
+              return;
+            }
+            next.execute(loader, rc);
+          }
+        } catch (final Throwable ex) {
+          error.compareAndSet(null, ex);
+          remaining.clear();
+        }
+      }
+
+    };
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = (prime * result)
+        + ((this.children == null) ? 0 : this.children.hashCode());
+    result = (prime * result) + this.threads;
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final ParallelTestGroup other = (ParallelTestGroup) obj;
+    if (this.children == null) {
+      if (other.children != null) {
+        return false;
+      }
+    } else if (!this.children.equals(other.children)) {
+      return false;
+    }
+    return this.threads == other.threads;
+  }
+
+  private static class SynchronizedResultCollector implements ResultCollector {
+
+    private final ResultCollector child;
+
+    SynchronizedResultCollector(final ResultCollector child) {
+      this.child = child;
+    }
+
+    public synchronized void notifyEnd(final Description description,
+        final Throwable t) {
+      this.child.notifyEnd(description, t);
+    }
+
+    public synchronized void notifyEnd(final Description description) {
+      this.child.notifyEnd(description);
+    }
+
+    public synchronized void notifyStart(final Description description) {
+      this.child.notifyStart(description);
+    }
+
+    public synchronized void notifySkipped(final Description description) {
+      this.child.notifySkipped(description);
+    }
+
+    public synchronized boolean shouldExit() {
+      return this.child.shouldExit();
+    }
+
+  }
+
+}
@@ -0,0 +1,484 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+
+/**
+ * Single thread that services the control sockets and output streams of all
+ * slave processes.
+ *
+ * Sockets are multiplexed with a selector. The standard out and error of a
+ * process cannot be selected on, so they are polled for available data on
+ * each pass of the loop, at most {@link #POLL_INTERVAL} milliseconds apart.
+ *
+ * A slave may instead write its results to a {@link MappedRingBuffer}, which is
+ * polled in the same way. Its socket is then used only to send the initial
+ * data and to detect the slave going away.
+ *
+ * Data received from a slave is buffered until a complete message can be
+ * decoded by its {@link ReceiveStrategy}. A strategy that runs out of data is
+ * simply replayed once more has arrived, so strategies must read a whole
+ * message before acting upon it.
+ */
+public final class CommunicationHub implements Runnable {
+
+  private static final Logger     LOG           = Log.getLogger();
+
+  private static final long       POLL_INTERVAL = 10;
+
+  private static CommunicationHub shared;
+
+  private final Selector          selector;
+  private final Queue<Runnable>   tasks         = new ConcurrentLinkedQueue<Runnable>();
+  private final List<Drain>       drains        = new ArrayList<Drain>();
+  private final List<Conversation> rings        = new ArrayList<Conversation>();
+  private final ByteBuffer        readBuffer    = ByteBuffer.allocate(64 * 1024);
+
+  CommunicationHub(final Selector selector) {
+    this.selector = selector;
+  }
+
+  public static synchronized CommunicationHub shared() {
+    if (shared == null) {
+      try {
+        shared = new CommunicationHub(Selector.open());
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+      final Thread thread = new Thread(shared);
+      thread.setDaemon(true);
+      thread.setName("pit communication hub");
+      thread.start();
+    }
+    return shared;
+  }
+
+  /**
+   * Waits for a single slave to connect to the socket, sends it its initial
+   * data and passes everything it sends back to the receive strategy.
+   *
+   * @param socket
+   *          socket created from a {@link ServerSocketChannel}
+   * @return the exit code the slave reports once it is done
+   */
+  public Future<ExitCode> listen(final ServerSocket socket,
+      final SideEffect1<SafeDataOutputStream> sendInitialData,
+      final ReceiveStrategy receive) {
+    return listen(socket, sendInitialData, receive,
+        Option.<MappedRingBuffer> none());
+  }
+
+  /**
+   * As {@link #listen(ServerSocket, SideEffect1, ReceiveStrategy)}, but reads
+   * what the slave sends from the ring buffer when one is supplied.
+   */
+  public Future<ExitCode> listen(final ServerSocket socket,
+      final SideEffect1<SafeDataOutputStream> sendInitialData,
+      final ReceiveStrategy receive, final Option<MappedRingBuffer> ring) {
+    final Conversation conversation = new Conversation(sendInitialData,
+        receive, ring);
+    final ServerSocketChannel channel = socket.getChannel();
+    execute(new Runnable() {
+      public void run() {
+        try {
+          channel.configureBlocking(false);
+          channel.register(CommunicationHub.this.selector,
+              SelectionKey.OP_ACCEPT, conversation);
+        } catch (final IOException e) {
+          conversation.fail(e);
+          closeQuietly(channel);
+        }
+      }
+    });
+    return conversation.result;
+  }
+
+  /**
+   * Creates a monitor that passes the data available on a stream to a handler
+   * while it is started.
+   */
+  public Monitor drain(final InputStream in,
+      final SideEffect1<String> handler) {
+    final Drain drain = new Drain(in, handler);
+    return new Monitor() {
+      public void requestStart() {
+        execute(new Runnable() {
+          public void run() {
+            CommunicationHub.this.drains.add(drain);
+          }
+        });
+      }
+
+      public void requestStop() {
+        execute(new Runnable() {
+          public void run() {
+            // pass on anything written before the request
+            drain.poll();
+            CommunicationHub.this.drains.remove(drain);
+          }
+        });
+      }
+    };
+  }
+
+  public void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        runTasks();
+        if (this.drains.isEmpty() && this.rings.isEmpty()) {
+          this.selector.select();
+        } else {
+          this.selector.select(POLL_INTERVAL);
+        }
+        handleSelectedKeys();
+        pollDrains();
+        pollRings();
+      } catch (final IOException e) {
+        LOG.log(Level.WARNING, "Error in communication hub", e);
+      } catch (final RuntimeException e) {
+        LOG.log(Level.WARNING, "Error in communication hub", e);
+      }
+    }
+  }
+
+  private void execute(final Runnable task) {
+    this.tasks.add(task);
+    this.selector.wakeup();
+  }
+
+  private void runTasks() {
+    Runnable task = this.tasks.poll();
+    while (task != null) {
+      task.run();
+      task = this.tasks.poll();
+    }
+  }
+
+  private void handleSelectedKeys() {
+    final Iterator<SelectionKey> it = this.selector.selectedKeys().iterator();
+    while (it.hasNext()) {
+      final SelectionKey key = it.next();
+      it.remove();
+      final Conversation conversation = (Conversation) key.attachment();
+      try {
+        if (key.isAcceptable()) {
+          accept(key, conversation);
+        } else if (key.isReadable()) {
+          read(key, conversation);
+        }
+      } catch (final Exception e) {
+        fail(key, conversation, e);
+      }
+    }
+  }
+
+  private void accept(final SelectionKey key, final Conversation conversation)
+      throws IOException {
+    final ServerSocketChannel server = (ServerSocketChannel) key.channel();
+    final SocketChannel client = server.accept();
+    if (client == null) {
+      return;
+    }
+    key.cancel();
+    server.close();
+
+    // initial data is written before the channel is made non blocking, the
+    // slave reads it as soon as it connects
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    conversation.sendInitialData.apply(new SafeDataOutputStream(bos));
+    final ByteBuffer initial = ByteBuffer.wrap(bos.toByteArray());
+    while (initial.hasRemaining()) {
+      client.write(initial);
+    }
+
+    client.configureBlocking(false);
+    conversation.key = client.register(this.selector, SelectionKey.OP_READ,
+        conversation);
+    if (conversation.ring.hasSome()) {
+      this.rings.add(conversation);
+    }
+  }
+
+  private void read(final SelectionKey key, final Conversation conversation)
+      throws IOException {
+    final SocketChannel client = (SocketChannel) key.channel();
+    this.readBuffer.clear();
+    final int read = client.read(this.readBuffer);
+    if (read == -1) {
+      // the slave may have finished writing to its ring since the last poll
+      if (conversation.ring.hasSome() && pollRing(conversation)) {
+        return;
+      }
+      throw new PitError("Slave closed connection before reporting an exit code");
+    }
+    conversation.buffer.append(this.readBuffer.array(), read);
+    if (conversation.decode()) {
+      finish(conversation);
+    }
+  }
+
+  private void pollRings() {
+    for (final Conversation each : new ArrayList<Conversation>(this.rings)) {
+      try {
+        pollRing(each);
+      } catch (final Exception e) {
+        fail(each.key, each, e);
+      }
+    }
+  }
+
+  private boolean pollRing(final Conversation conversation) {
+    final MappedRingBuffer ring = conversation.ring.value();
+    final byte[] bytes = this.readBuffer.array();
+    int read = ring.read(bytes);
+    while (read != 0) {
+      conversation.buffer.append(bytes, read);
+      read = ring.read(bytes);
+    }
+    if (conversation.decode()) {
+      finish(conversation);
+      return true;
+    }
+    return false;
+  }
+
+  private void fail(final SelectionKey key, final Conversation conversation,
+      final Exception e) {
+    conversation.fail(e);
+    key.cancel();
+    closeQuietly(key.channel());
+    this.rings.remove(conversation);
+  }
+
+  private void finish(final Conversation conversation) {
+    conversation.key.cancel();
+    closeQuietly(conversation.key.channel());
+    this.rings.remove(conversation);
+  }
+
+  private void pollDrains() {
+    final Iterator<Drain> it = this.drains.iterator();
+    while (it.hasNext()) {
+      if (!it.next().poll()) {
+        it.remove();
+      }
+    }
+  }
+
+  private static void closeQuietly(final Channel channel) {
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOG.fine("Could not close channel " + e.getMessage());
+    }
+  }
+
+  private static final class Conversation {
+    private final SideEffect1<SafeDataOutputStream> sendInitialData;
+    private final ReceiveStrategy                   receive;
+    private final ReplayBuffer                      buffer = new ReplayBuffer();
+    private final Result                            result = new Result();
+    private final Option<MappedRingBuffer>          ring;
+    private SelectionKey                            key;
+
+    Conversation(final SideEffect1<SafeDataOutputStream> sendInitialData,
+        final ReceiveStrategy receive, final Option<MappedRingBuffer> ring) {
+      this.sendInitialData = sendInitialData;
+      this.receive = receive;
+      this.ring = ring;
+    }
+
+    /**
+     * Passes each complete message to the receive strategy.
+     *
+     * @return true once the slave has reported its exit code
+     */
+    boolean decode() {
+      final SafeDataInputStream is = new SafeDataInputStream(this.buffer);
+      while (this.buffer.hasData()) {
+        this.buffer.mark();
+        try {
+          final byte control = is.readByte();
+          if (control == Id.DONE) {
+            this.result.complete(ExitCode.fromCode(is.readInt()));
+            return true;
+          }
+          this.receive.apply(control, is);
+        } catch (final Underflow e) {
+          this.buffer.rewind();
+          break;
+        }
+      }
+      this.buffer.compact();
+      return false;
+    }
+
+    void fail(final Throwable t) {
+      this.result.fail(t);
+    }
+  }
+
+  private static final class Result extends FutureTask<ExitCode> {
+    Result() {
+      super(new Callable<ExitCode>() {
+        public ExitCode call() {
+          throw new IllegalStateException();
+        }
+      });
+    }
+
+    void complete(final ExitCode code) {
+      set(code);
+    }
+
+    void fail(final Throwable t) {
+      setException(t);
+    }
+  }
+
+  /**
+   * Thrown when a message is read beyond the data received so far
+   */
+  private static final class Underflow extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+  }
+
+  private static final class ReplayBuffer extends InputStream {
+    private byte[] data = new byte[1024];
+    private int    position;
+    private int    limit;
+    private int    mark;
+
+    void append(final byte[] bytes, final int length) {
+      if ((this.limit + length) > this.data.length) {
+        final byte[] bigger = new byte[Math.max(this.data.length * 2,
+            this.limit + length)];
+        System.arraycopy(this.data, 0, bigger, 0, this.limit);
+        this.data = bigger;
+      }
+      System.arraycopy(bytes, 0, this.data, this.limit, length);
+      this.limit = this.limit + length;
+    }
+
+    boolean hasData() {
+      return this.position < this.limit;
+    }
+
+    void mark() {
+      this.mark = this.position;
+    }
+
+    void rewind() {
+      this.position = this.mark;
+    }
+
+    void compact() {
+      System.arraycopy(this.data, this.position, this.data, 0, this.limit
+          - this.position);
+      this.limit = this.limit - this.position;
+      this.position = 0;
+    }
+
+    @Override
+    public int read() {
+      if (!hasData()) {
+        throw new Underflow();
+      }
+      final int b = this.data[this.position] & 0xff;
+      this.position++;
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!hasData()) {
+        throw new Underflow();
+      }
+      final int n = Math.min(len, this.limit - this.position);
+      System.arraycopy(this.data, this.position, b, off, n);
+      this.position = this.position + n;
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return this.limit - this.position;
+    }
+  }
+
+  private static final class Drain {
+    private final byte[]              buf = new byte[256];
+    private final InputStream         in;
+    private final SideEffect1<String> handler;
+
+    Drain(final InputStream in, final SideEffect1<String> handler) {
+      this.in = in;
+      this.handler = handler;
+    }
+
+    /**
+     * Passes on data that can be read without blocking.
+     *
+     * @return false if the stream can no longer be read
+     */
+    boolean poll() {
+      try {
+        // only read what is available, as reading the streams of a crashed
+        // process may block
+        int available = this.in.available();
+        while (available > 0) {
+          final int i = this.in.read(this.buf, 0,
+              Math.min(available, this.buf.length));
+          if (i == -1) {
+            return false;
+          }
+          this.handler.apply(new String(this.buf, 0, i));
+          available = this.in.available();
+        }
+        return true;
+      } catch (final IOException e) {
+        LOG.fine("No longer able to read stream.");
+        return false;
+      }
+    }
+  }
+
+}
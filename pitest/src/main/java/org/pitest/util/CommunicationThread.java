@@ -16,13 +16,25 @@ package org.pitest.util;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 
+/**
+ * Conversation with a single slave process. Sockets created from a channel, as
+ * {@link SocketFinder} provides, are serviced by the shared
+ * {@link CommunicationHub}, otherwise a thread is started to read from the
+ * socket.
+ *
+ * Results may instead be read from a {@link MappedRingBuffer}, which only the
+ * hub supports.
+ */
 public class CommunicationThread {
 
   private static final Logger                     LOG = Log.getLogger();
@@ -30,18 +42,73 @@ public class CommunicationThread {
   private final SideEffect1<SafeDataOutputStream> sendInitialData;
   private final ReceiveStrategy                   receive;
   private final ServerSocket                      socket;
-  private FutureTask<ExitCode>                    future;
+  private final Option<MappedRingBuffer>          ring;
+  private Future<ExitCode>                        future;
+  private boolean                                 stopped;
+  private volatile long                           connectedAt;
 
   public CommunicationThread(final ServerSocket socket,
       final SideEffect1<SafeDataOutputStream> sendInitialData,
       final ReceiveStrategy receive) {
+    this(socket, sendInitialData, receive, Option.<MappedRingBuffer> none());
+  }
+
+  public CommunicationThread(final ServerSocket socket,
+      final SideEffect1<SafeDataOutputStream> sendInitialData,
+      final ReceiveStrategy receive, final Option<MappedRingBuffer> ring) {
     this.socket = socket;
-    this.sendInitialData = sendInitialData;
+    this.sendInitialData = recordConnection(sendInitialData);
     this.receive = receive;
+    this.ring = ring;
   }
 
-  public void start() throws IOException, InterruptedException {
-    this.future = createFuture();
+  public synchronized void start() throws IOException, InterruptedException {
+    if (this.stopped) {
+      return;
+    }
+    if (this.socket.getChannel() != null) {
+      this.future = CommunicationHub.shared().listen(this.socket,
+          this.sendInitialData, this.receive, this.ring);
+    } else if (this.ring.hasSome()) {
+      throw new PitError(
+          "Results can only be read from shared memory for sockets created from a channel");
+    } else {
+      this.future = createFuture();
+    }
+  }
+
+  /**
+   * Abandons the conversation, so that {@link #waitToFinish()} returns even if
+   * the slave never connects. Has no effect once the slave has reported its
+   * exit code.
+   */
+  public synchronized void stop() {
+    this.stopped = true;
+    try {
+      this.socket.close();
+    } catch (final IOException e) {
+      LOG.fine("Could not close socket " + e.getMessage());
+    }
+    if (this.future != null) {
+      this.future.cancel(true);
+    }
+  }
+
+  /**
+   * @return the time the slave connected, or 0 if it has not
+   */
+  public long getConnectionTime() {
+    return this.connectedAt;
+  }
+
+  private SideEffect1<SafeDataOutputStream> recordConnection(
+      final SideEffect1<SafeDataOutputStream> sendInitialData) {
+    return new SideEffect1<SafeDataOutputStream>() {
+      public void apply(final SafeDataOutputStream dos) {
+        CommunicationThread.this.connectedAt = System.currentTimeMillis();
+        sendInitialData.apply(dos);
+      }
+    };
   }
 
   private FutureTask<ExitCode> createFuture() {
@@ -56,8 +123,16 @@ public class CommunicationThread {
   }
 
   public ExitCode waitToFinish() {
+    final Future<ExitCode> result = awaitedResult();
+    if (result == null) {
+      // stopped before it was started
+      return ExitCode.UNKNOWN_ERROR;
+    }
     try {
-      return this.future.get();
+      return result.get();
+    } catch (final CancellationException e) {
+      LOG.fine("Stopped watching child process");
+      return ExitCode.UNKNOWN_ERROR;
     } catch (final ExecutionException e) {
       LOG.log(Level.WARNING, "Error while watching child process", e);
       return ExitCode.UNKNOWN_ERROR;
@@ -68,4 +143,8 @@ public class CommunicationThread {
 
   }
 
+  private synchronized Future<ExitCode> awaitedResult() {
+    return this.future;
+  }
+
 }
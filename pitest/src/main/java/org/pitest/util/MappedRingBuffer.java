@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Single producer, single consumer ring buffer held in a memory mapped file,
+ * allowing a slave to pass data to the parent process without a socket.
+ *
+ * The file starts with the total number of bytes written and the total number
+ * of bytes read, each owned by one side, followed by the data.
+ */
+public final class MappedRingBuffer {
+
+  private static final int  WRITTEN          = 0;
+  private static final int  READ             = 8;
+  private static final int  DATA             = 16;
+
+  private static final long FULL_TIMEOUT     = 60 * 1000;
+
+  private final File             file;
+  private final MappedByteBuffer buffer;
+  private final int              capacity;
+
+  private volatile int           fence;
+
+  private MappedRingBuffer(final File file, final MappedByteBuffer buffer) {
+    this.file = file;
+    this.buffer = buffer;
+    this.capacity = buffer.capacity() - DATA;
+  }
+
+  /**
+   * Creates a new, empty, ring buffer
+   */
+  public static MappedRingBuffer create(final File file, final int capacity)
+      throws IOException {
+    final MappedRingBuffer ring = map(file, DATA + capacity);
+    ring.buffer.putLong(WRITTEN, 0);
+    ring.buffer.putLong(READ, 0);
+    return ring;
+  }
+
+  /**
+   * Opens a ring buffer created by another process
+   */
+  public static MappedRingBuffer open(final File file) throws IOException {
+    return map(file, file.length());
+  }
+
+  private static MappedRingBuffer map(final File file, final long size)
+      throws IOException {
+    final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      raf.setLength(size);
+      // the mapping remains valid once the file is closed
+      return new MappedRingBuffer(file, raf.getChannel().map(
+          FileChannel.MapMode.READ_WRITE, 0, size));
+    } finally {
+      raf.close();
+    }
+  }
+
+  public File getFile() {
+    return this.file;
+  }
+
+  /**
+   * Copies any data not yet read into dest without blocking.
+   *
+   * @return number of bytes copied
+   */
+  public int read(final byte[] dest) {
+    final long written = this.buffer.getLong(WRITTEN);
+    fence();
+    final long read = this.buffer.getLong(READ);
+    final int n = (int) Math.min(written - read, dest.length);
+    copy(read, dest, 0, n, false);
+    fence();
+    this.buffer.putLong(READ, read + n);
+    return n;
+  }
+
+  /**
+   * Stream that writes into the buffer, waiting while it is full.
+   */
+  public OutputStream outputStream() {
+    return new OutputStream() {
+      @Override
+      public void write(final int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len)
+          throws IOException {
+        MappedRingBuffer.this.write(b, off, len);
+      }
+    };
+  }
+
+  private void write(final byte[] src, final int off, final int len)
+      throws IOException {
+    int done = 0;
+    long waitingSince = System.currentTimeMillis();
+    while (done != len) {
+      final long written = this.buffer.getLong(WRITTEN);
+      fence();
+      final long free = this.capacity
+          - (written - this.buffer.getLong(READ));
+      if (free == 0) {
+        if ((System.currentTimeMillis() - waitingSince) > FULL_TIMEOUT) {
+          throw new IOException("No data read from " + this.file + " in "
+              + FULL_TIMEOUT + "ms");
+        }
+        pause();
+        continue;
+      }
+      final int n = (int) Math.min(free, len - done);
+      copy(written, src, off + done, n, true);
+      fence();
+      this.buffer.putLong(WRITTEN, written + n);
+      done = done + n;
+      waitingSince = System.currentTimeMillis();
+    }
+  }
+
+  private void copy(final long position, final byte[] bytes, final int off,
+      final int len, final boolean intoBuffer) {
+    final int start = (int) (position % this.capacity);
+    final int first = Math.min(len, this.capacity - start);
+    copyAt(DATA + start, bytes, off, first, intoBuffer);
+    copyAt(DATA, bytes, off + first, len - first, intoBuffer);
+  }
+
+  private void copyAt(final int index, final byte[] bytes, final int off,
+      final int len, final boolean intoBuffer) {
+    if (len == 0) {
+      return;
+    }
+    // a view with its own position, so the copy is done in bulk
+    final ByteBuffer view = this.buffer.duplicate();
+    view.position(index);
+    if (intoBuffer) {
+      view.put(bytes, off, len);
+    } else {
+      view.get(bytes, off, len);
+    }
+  }
+
+  /**
+   * A volatile write followed by a volatile read of the same field acts as a
+   * full fence, so the data and the position that publishes it are written
+   * and read in program order.
+   */
+  private int fence() {
+    this.fence = 1;
+    return this.fence;
+  }
+
+  private static void pause() throws IOException {
+    try {
+      Thread.sleep(1);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for space");
+    }
+  }
+
+}
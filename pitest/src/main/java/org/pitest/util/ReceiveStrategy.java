@@ -14,6 +14,11 @@
  */
 package org.pitest.util;
 
+/**
+ * Decodes messages sent by a slave process. Implementations must read a whole
+ * message before acting on it, as decoding may be replayed if the message has
+ * not been fully received.
+ */
 public interface ReceiveStrategy {
 
   void apply(byte control, SafeDataInputStream is);
@@ -15,44 +15,42 @@
 package org.pitest.util;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
 import java.util.logging.Logger;
 
+/**
+ * Provides server sockets for slaves to connect to. Sockets are bound to an
+ * ephemeral port chosen by the operating system, so concurrent runs on the
+ * same host cannot collide.
+ */
 public class SocketFinder {
 
-  private static final Logger LOG             = Log.getLogger();
-
-  private static final int    MIN_PORT_NUMBER = 8091;
-  private static final int    MAX_PORT_NUMBER = 9000;
-
-  private int                 lastPortNumber  = MIN_PORT_NUMBER;
-
-  public synchronized ServerSocket getNextAvailableServerSocket() {
-    this.lastPortNumber++;
-    ServerSocket socket = getIfAvailable(this.lastPortNumber);
-    while (socket == null) {
-      this.lastPortNumber++;
-
-      if (this.lastPortNumber > MAX_PORT_NUMBER) {
-        this.lastPortNumber = 9000;
-      }
-      socket = getIfAvailable(this.lastPortNumber);
-    }
+  private static final Logger LOG = Log.getLogger();
 
-    LOG.fine("using port " + this.lastPortNumber);
-
-    return socket;
-  }
-
-  private static synchronized ServerSocket getIfAvailable(final int port) {
-    ServerSocket ss = null;
+  public ServerSocket getNextAvailableServerSocket() {
+    // created from a channel so can be serviced by the CommunicationHub
+    ServerSocketChannel channel = null;
     try {
-      ss = new ServerSocket(port);
+      channel = ServerSocketChannel.open();
+      channel.socket().bind(new InetSocketAddress(0));
+      LOG.fine("using port " + channel.socket().getLocalPort());
+      return channel.socket();
     } catch (final IOException e) {
-      LOG.fine("port " + port + " is in use");
+      closeQuietly(channel);
+      throw Unchecked.translateCheckedException(e);
     }
+  }
 
-    return ss;
+  private static void closeQuietly(final ServerSocketChannel channel) {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (final IOException e) {
+        LOG.fine("could not close channel " + e.getMessage());
+      }
+    }
   }
 
 }
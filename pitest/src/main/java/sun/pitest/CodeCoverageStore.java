@@ -21,9 +21,12 @@
 package sun.pitest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -39,6 +42,8 @@ public final class CodeCoverageStore {
                                                                                '.',
                                                                                '/');
   public static final String                   PROBE_METHOD_NAME       = "visitProbes";
+  public static final String                   PROBE_ARRAY_METHOD_NAME = "getProbes";
+  public static final String                   PROBE_FIELD_NAME        = "$$pitCoverageProbes";
 
   private static InvokeReceiver                invokeQueue;
   private static int                           classId                 = 0;
@@ -59,6 +64,17 @@ public final class CodeCoverageStore {
   private CodeCoverageStore() {
   }
 
+  /**
+   * Returns the array in which probe hits for a class are recorded. The first
+   * slot indicates any hit to the class, probe n is recorded at slot n + 1.
+   *
+   * Arrays are cleared rather than replaced on reset, so instrumented code may
+   * hold on to them for the lifetime of the class.
+   */
+  public static boolean[] getProbes(final int classId) { // NO_UCD
+    return CLASS_HITS.get(classId);
+  }
+
   public static void visitSingleProbe(final int classId, final int probe) { // NO_UCD
     final boolean[] bs = CLASS_HITS.get(classId);
     bs[CLASS_HIT_INDEX] = true;
@@ -555,8 +571,8 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      CLASS_HITS.put(each.getKey(), new boolean[each.getValue().length]);
+    for (final boolean[] each : CLASS_HITS.values()) {
+      Arrays.fill(each, false);
     }
   }
 
@@ -585,8 +601,8 @@ public final class CodeCoverageStore {
     return id;
   }
   
-  public static void registerMethod(final int clazz, final String methodName, final String methodDesc, final int firstProbe, final int lastProbe) {
-    invokeQueue.registerProbes(clazz, methodName, methodDesc, firstProbe, lastProbe);
+  public static void registerMethod(final int clazz, final String methodName, final String methodDesc, final int firstProbe, final int lastProbe, final List<Set<Integer>> blockLines) {
+    invokeQueue.registerProbes(clazz, methodName, methodDesc, firstProbe, lastProbe, blockLines);
   }
   
   private static synchronized int nextId() {
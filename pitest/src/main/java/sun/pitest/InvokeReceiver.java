@@ -1,10 +1,12 @@
 package sun.pitest;
 
+import java.util.List;
+import java.util.Set;
 
 public interface InvokeReceiver {
 
   void registerClass(int id, String className);
   
-  void registerProbes(int classId, String methodName, String methodDesc, int firstProbe, int lastProbe);
+  void registerProbes(int classId, String methodName, String methodDesc, int firstProbe, int lastProbe, List<Set<Integer>> blockLines);
   
 }
@@ -1,5 +1,7 @@
 package org.pitest.classinfo;
 
+import java.util.Map;
+
 import org.pitest.quickbuilder.Builder;
 
 public class ClassInfoMother {
@@ -23,6 +25,15 @@ public class ClassInfoMother {
     return new ClassInfo(parent, new DefaultClassPointer(null), data);
   }
 
+  public static ClassInfo make(final ClassIdentifier id,
+      final Map<String, Long> methodHashes) {
+    final ClassInfoBuilder data = new ClassInfoBuilder();
+    data.id = id;
+    data.methodHashes.putAll(methodHashes);
+    return new ClassInfo(new DefaultClassPointer(null),
+        new DefaultClassPointer(null), data);
+  }
+
   public static ClassInfo make(final ClassName name) {
     return make(new ClassIdentifier(1, name));
   }
@@ -113,6 +113,38 @@ public class ClassInfoVisitorTest {
     assertArrayEquals(expectedCategoryNames, actualCategoryNames);
   }
 
+  @Test
+  public void shouldRecordHashForEachMethod() throws ClassNotFoundException {
+    final String sampleName = HasMethodOnOneLine.class.getName();
+    final ClassInfoBuilder actual = getClassInfo(sampleName,
+        ClassUtils.classAsBytes(sampleName));
+    assertTrue(actual.methodHashes.containsKey("<init>()V"));
+    assertTrue(actual.methodHashes.containsKey("foo(I)I"));
+  }
+
+  @Test
+  public void shouldGiveIdenticalMethodsOnDifferentLinesTheSameHash()
+      throws ClassNotFoundException {
+    final ClassInfoBuilder a = getClassInfo(HasMethodOnOneLine.class);
+    final ClassInfoBuilder b = getClassInfo(HasMethodOnSeveralLines.class);
+    assertEquals(a.methodHashes.get("foo(I)I"), b.methodHashes.get("foo(I)I"));
+  }
+
+  @Test
+  public void shouldGiveDifferentMethodsDifferentHashes()
+      throws ClassNotFoundException {
+    final ClassInfoBuilder a = getClassInfo(HasMethodOnOneLine.class);
+    final ClassInfoBuilder b = getClassInfo(HasDifferentMethod.class);
+    assertFalse(a.methodHashes.get("foo(I)I").equals(
+        b.methodHashes.get("foo(I)I")));
+  }
+
+  private ClassInfoBuilder getClassInfo(final Class<?> clazz)
+      throws ClassNotFoundException {
+    return getClassInfo(clazz.getName(),
+        ClassUtils.classAsBytes(clazz.getName()));
+  }
+
   private ClassInfoBuilder getClassInfo(final String name, final byte[] bytes) {
     return ClassInfoVisitor.getClassInfo(new ClassName(name), bytes, 0);
   }
@@ -140,5 +172,20 @@ public class ClassInfoVisitorTest {
 
   @Category({First.class, Second.class})
   private class HasCategory{}
-}
 
+  static class HasMethodOnOneLine { int foo(int i) { return i + 1; } }
+
+  static class HasMethodOnSeveralLines {
+
+    int foo(int i) {
+      return i + 1;
+    }
+
+  }
+
+  static class HasDifferentMethod {
+    int foo(int i) {
+      return i - 1;
+    }
+  }
+}
@@ -2,12 +2,11 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 
-import java.util.HashMap;
-
 import org.junit.Test;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.Option;
 import org.pitest.util.IsolationUtils;
 
 public class ComputeClassWriterTest {
@@ -16,7 +15,7 @@ public class ComputeClassWriterTest {
                                               new ClassloaderByteArraySource(
                                                   IsolationUtils
                                                       .getContextClassLoader()),
-                                              new HashMap<String, String>(), 0);
+                                              new TypeHierarchy(), 0);
 
   @Test
   public void shouldResolveObjectAsSuperClassWhenNoCommonParentExists() {
@@ -122,6 +121,36 @@ public class ComputeClassWriterTest {
         callTesteeWith(ICommonGreatGrandChild.class, ICommon3.class));
   }
 
+  @Test
+  public void shouldReadEachTypeOnlyOnceWhenHierarchyShared() {
+    final TypeHierarchy hierarchy = new TypeHierarchy();
+    final CountingByteArraySource source = new CountingByteArraySource();
+    new ComputeClassWriter(source, hierarchy, 0).getCommonSuperClass(
+        internalName(Child1.class), internalName(Child2.class));
+    final int afterFirst = source.reads;
+    new ComputeClassWriter(source, hierarchy, 0).getCommonSuperClass(
+        internalName(Child1.class), internalName(GrandChild.class));
+    new ComputeClassWriter(source, hierarchy, 0).getCommonSuperClass(
+        internalName(Child2.class), internalName(Child1.class));
+    assertEquals(afterFirst + 1, source.reads);
+  }
+
+  private static class CountingByteArraySource implements ClassByteArraySource {
+    private final ClassByteArraySource child = new ClassloaderByteArraySource(
+                                                 IsolationUtils
+                                                     .getContextClassLoader());
+    private int                        reads;
+
+    public Option<byte[]> getBytes(final String classname) {
+      this.reads++;
+      return this.child.getBytes(classname);
+    }
+  }
+
+  private static String internalName(final Class<?> clazz) {
+    return ClassName.fromClass(clazz).asInternalName();
+  }
+
   private final String callTesteeWith(final Class<?> first,
       final Class<?> second) {
     return this.testee.getCommonSuperClass(ClassName.fromClass(first)
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.coverage.CoverageMother.aBlockLocation;
@@ -97,6 +98,20 @@ public class CoverageDataTest {
         testInfoToExecutionTime()));
   }
 
+  @Test
+  public void shouldUseLinesRegisteredForBlocksWithoutAnalysingClass() {
+    BlockLocationBuilder block = aBlockLocation().withLocation(aLocation().withClass(foo));
+    this.testee.registerBlockLines(block.build(),
+        new HashSet<Integer>(Arrays.asList(101, 300)));
+
+    CoverageResultBuilder cr = aCoverageResult().withVisitedBlocks(block.build(1));
+    this.testee.calculateClassCoverage(cr.build());
+
+    assertEquals(2, this.testee.getNumberOfCoveredLines(Collections
+        .singletonList(foo)));
+    verify(this.lm, never()).mapLines(any(ClassName.class));
+  }
+
   @Test
   public void shouldReportNumberOfCoveredLinesWhenNoneCovered() {
     assertEquals(0, this.testee.getNumberOfCoveredLines(Collections
@@ -184,6 +199,32 @@ public class CoverageDataTest {
 
 
 
+  @Test
+  public void shouldReturnNoMethodCoverageIdsWhenNoTestsCoverClass() {
+    assertTrue(this.testee.getCoverageIdsForMethods(
+        ClassName.fromString("unknown")).isEmpty());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldReturnCoverageIdForEachCoveredMethod() {
+    final ClassName foo = ClassName.fromString("Foo");
+    final ClassInfo ci = ClassInfoMother.make(foo);
+    when(this.code.getClassInfo(any(Collection.class))).thenReturn(
+        Collections.singletonList(ci));
+
+    final Location a = aLocation().withClass(foo).withMethod("a").build();
+    final Location b = aLocation().withClass(foo).withMethod("b").build();
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        aBlockLocation().withLocation(a).build(1)).build());
+
+    assertThat(this.testee.getCoverageIdsForMethods(foo).keySet())
+        .containsOnly(a);
+    assertThat(this.testee.getCoverageIdsForMethods(foo).get(a).longValue())
+        .isNotEqualTo(0);
+    assertThat(this.testee.getCoverageIdsForMethods(foo).get(b)).isNull();
+  }
+
   @Test
   public void shouldProvideEmptyBlockCoverageListWhenNoCoverage() {
     assertEquals(Collections.emptyList(), this.testee.createCoverage());
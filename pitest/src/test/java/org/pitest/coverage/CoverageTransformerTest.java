@@ -1,5 +1,6 @@
 package org.pitest.coverage;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -8,9 +9,13 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.instrument.IllegalClassFormatException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,6 +26,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
 import org.objectweb.asm.util.ASMifier;
 import org.objectweb.asm.util.CheckClassAdapter;
 import org.objectweb.asm.util.TraceClassVisitor;
@@ -86,7 +93,122 @@ public class CoverageTransformerTest {
     assertValidClass(Math.class);
   }
 
-   
+  @Test
+  public void shouldGenerateValidInterfacesWithDefaultMethods()
+      throws IllegalClassFormatException {
+    assertValidClass(Comparator.class);
+  }
+
+  @Test
+  public void shouldAddProbeFieldToClasses()
+      throws IllegalClassFormatException {
+    assertTrue(hasProbeField(transform(HasBranches.class)));
+  }
+
+  @Test
+  public void shouldNotAddProbeFieldToInterfaces()
+      throws IllegalClassFormatException {
+    assertFalse(hasProbeField(transform(Comparator.class)));
+  }
+
+  @Test
+  public void shouldRecordHitsInProbeFieldAcrossResets() throws Exception {
+    final Class<?> clazz = new SingleClassLoader(HasBranches.class.getName(),
+        transform(HasBranches.class)).loadClass(HasBranches.class.getName());
+    final Method few = clazz.getMethod("fewBlocks", int.class);
+    final Method many = clazz.getMethod("manyBlocks", int.class);
+
+    few.invoke(null, 1);
+    many.invoke(null, 3);
+    final Collection<Long> firstRun = new HashSet<Long>(
+        CodeCoverageStore.getHits());
+    assertFalse(firstRun.isEmpty());
+
+    CodeCoverageStore.reset();
+    assertTrue(CodeCoverageStore.getHits().isEmpty());
+
+    few.invoke(null, 1);
+    many.invoke(null, 3);
+    assertEquals(firstRun, new HashSet<Long>(CodeCoverageStore.getHits()));
+  }
+
+  public static class HasBranches {
+
+    public static int fewBlocks(final int i) {
+      if (i > 0) {
+        return 1;
+      }
+      return 2;
+    }
+
+    public static int manyBlocks(final int i) {
+      int total = 0;
+      for (int j = 0; j != i; j++) {
+        switch (j) {
+        case 0:
+          total += 1;
+          break;
+        case 1:
+          total += 2;
+          break;
+        case 2:
+          total += 3;
+          break;
+        case 3:
+          total += 4;
+          break;
+        case 4:
+          total += 5;
+          break;
+        case 5:
+          total += 6;
+          break;
+        case 6:
+          total += 7;
+          break;
+        case 7:
+          total += 8;
+          break;
+        default:
+          total += 9;
+        }
+      }
+      return total;
+    }
+
+  }
+
+  private static boolean hasProbeField(final byte[] bs) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bs).accept(node, 0);
+    for (final Object each : node.fields) {
+      if (((FieldNode) each).name.equals(CodeCoverageStore.PROBE_FIELD_NAME)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class SingleClassLoader extends ClassLoader {
+    private final String name;
+    private final byte[] bytes;
+
+    SingleClassLoader(final String name, final byte[] bytes) {
+      super(SingleClassLoader.class.getClassLoader());
+      this.name = name;
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected synchronized Class<?> loadClass(final String name,
+        final boolean resolve) throws ClassNotFoundException {
+      if (this.name.equals(name)) {
+        return defineClass(name, this.bytes, 0, this.bytes.length);
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+
   private void assertValidClass(final Class<?> clazz)
       throws IllegalClassFormatException {
     final byte[] bs = transform(clazz);
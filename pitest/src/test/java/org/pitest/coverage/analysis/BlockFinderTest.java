@@ -0,0 +1,117 @@
+package org.pitest.coverage.analysis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.codeassist.ClassUtils;
+import org.pitest.functional.F;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.inlinedcode.NoInlinedCodeDetection;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BlockFinderTest {
+
+  @Mock
+  CodeSource          source;
+
+  private BlockFinder testee;
+
+  public static class ManyBlocksOnOneLine {
+    public int foo(final int a, final int b) {
+      return (a > 2) && (b < 3) ? a + b : a - b;
+    }
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    when(this.source.fetchClassBytes(any(ClassName.class))).thenReturn(
+        Option.some(ClassUtils.classAsBytes(ManyBlocksOnOneLine.class)));
+    this.testee = new BlockFinder(this.source);
+  }
+
+  @Test
+  public void shouldPlaceFirstConditionOfLineInFirstBlock() {
+    assertEquals(0, blockFor("negated conditional", 0));
+  }
+
+  @Test
+  public void shouldPlaceLaterConditionOfLineInLaterBlock() {
+    assertEquals(1, blockFor("negated conditional", 1));
+  }
+
+  @Test
+  public void shouldPlaceBranchesOfTernaryInDifferentBlocks() {
+    assertEquals(2, blockFor("addition with", 0));
+    assertEquals(3, blockFor("subtraction with", 0));
+  }
+
+  @Test
+  public void shouldReturnNoneForUnknownMethods() {
+    final Location l = Location.location(
+        ClassName.fromClass(ManyBlocksOnOneLine.class),
+        MethodName.fromString("bar"), "()V");
+    assertFalse(this.testee.findBlock(l, 1).hasSome());
+  }
+
+  @Test
+  public void shouldReturnNoneWhenClassNotFound() {
+    when(this.source.fetchClassBytes(any(ClassName.class))).thenReturn(
+        Option.<byte[]> none());
+    final Location l = Location.location(ClassName.fromString("Unknown"),
+        MethodName.fromString("foo"), "()V");
+    assertFalse(this.testee.findBlock(l, 1).hasSome());
+  }
+
+  private int blockFor(final String description, final int occurrence) {
+    final MutationDetails mutation = findMutations(description)
+        .get(occurrence);
+    final Option<BlockLocation> actual = this.testee.findBlock(mutation
+        .getId().getLocation(), mutation.getId().getFirstIndex());
+    return actual.value().getBlock();
+  }
+
+  private List<MutationDetails> findMutations(final String description) {
+    final GregorMutater mutater = new GregorMutater(
+        new ClassPathByteArraySource(), True.<MethodInfo> all(),
+        Arrays.<MethodMutatorFactory> asList(MathMutator.MATH_MUTATOR,
+            NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR),
+        Collections.<String> emptyList(), new NoInlinedCodeDetection());
+    return mutater.findMutations(
+        ClassName.fromClass(ManyBlocksOnOneLine.class)).filter(
+        descriptionContaining(description));
+  }
+
+  private static F<MutationDetails, Boolean> descriptionContaining(
+      final String value) {
+    return new F<MutationDetails, Boolean>() {
+      public Boolean apply(final MutationDetails a) {
+        return a.getDescription().contains(value);
+      }
+    };
+  }
+
+}
@@ -1,5 +1,10 @@
 package org.pitest.coverage.analysis;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 import org.junit.Test;
@@ -11,4 +16,18 @@ public class BlockTest {
     EqualsVerifier.forClass(Block.class).verify();
   } 
 
+  @Test
+  public void shouldContainFirstAndLastInstructions() {
+    final Block testee = new Block(2, 5, Collections.<Integer> emptySet());
+    assertTrue(testee.contains(2));
+    assertTrue(testee.contains(5));
+  }
+
+  @Test
+  public void shouldNotContainInstructionsOutsideOfBlock() {
+    final Block testee = new Block(2, 5, Collections.<Integer> emptySet());
+    assertFalse(testee.contains(1));
+    assertFalse(testee.contains(6));
+  }
+
 }
@@ -13,6 +13,7 @@ import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.Test;
@@ -27,6 +28,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
 import org.pitest.functional.MutableList;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.SideEffect2;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.junit.JUnitCompatibleConfiguration;
 import org.pitest.mutationtest.engine.Location;
@@ -313,7 +315,8 @@ public class CoverageProcessSystemTest {
     final CoverageProcess process = new CoverageProcess(ProcessArgs
         .withClassPath(classPathWithoutJUnit()).andLaunchOptions(lo), sa,
         sf.getNextAvailableServerSocket(),
-        Arrays.asList(TestsForMultiBlockCoverage.class.getName()), noOpHandler);
+        Arrays.asList(TestsForMultiBlockCoverage.class.getName()), noOpHandler,
+        ignoreBlockLines());
     process.start();
 
     final ExitCode exitCode = process.waitToDie();
@@ -321,6 +324,13 @@ public class CoverageProcessSystemTest {
     assertThat(exitCode, is(ExitCode.JUNIT_ISSUE));
   }
 
+  private static SideEffect2<BlockLocation, Set<Integer>> ignoreBlockLines() {
+    return new SideEffect2<BlockLocation, Set<Integer>>() {
+      public void apply(final BlockLocation block, final Set<Integer> lines) {
+      }
+    };
+  }
+
   private ClassPath classPathWithoutJUnit() {
     FunctionalList<File> cpWithoutJUnit = FCollection.filter(
         ClassPath.getClassPathElementsAsFiles(), new F<File, Boolean>() {
@@ -371,7 +381,7 @@ public class CoverageProcessSystemTest {
       final CoverageProcess process = new CoverageProcess(ProcessArgs
           .withClassPath(new ClassPath()).andLaunchOptions(lo), sa,
           sf.getNextAvailableServerSocket(), Arrays.asList(test.getName()),
-          handler);
+          handler, ignoreBlockLines());
       process.start();
 
       final ExitCode exitCode = process.waitToDie();
@@ -4,12 +4,23 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.SideEffect2;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
@@ -25,6 +36,8 @@ public class ReceiveTest {
 
   private CoverageResult              result;
 
+  private final Map<BlockLocation, Set<Integer>> blockLines = new HashMap<BlockLocation, Set<Integer>>();
+
   private Description                 description;
 
   @Mock
@@ -34,7 +47,7 @@ public class ReceiveTest {
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     this.handler = stubHandler();
-    this.testee = new Receive(this.handler);
+    this.testee = new Receive(this.handler, stubBlockLinesHandler());
     this.description = new Description("foo", "bar");
   }
 
@@ -46,6 +59,35 @@ public class ReceiveTest {
     };
   }
 
+  private SideEffect2<BlockLocation, Set<Integer>> stubBlockLinesHandler() {
+    return new SideEffect2<BlockLocation, Set<Integer>>() {
+      public void apply(final BlockLocation block, final Set<Integer> lines) {
+        ReceiveTest.this.blockLines.put(block, lines);
+      }
+    };
+  }
+
+  @Test
+  public void shouldReportLinesOfEachRegisteredBlock() {
+    when(this.is.readInt()).thenReturn(0);
+    when(this.is.readString()).thenReturn("foo");
+    this.testee.apply(Id.CLAZZ, this.is);
+
+    // class id, first probe, last probe, then a line count and lines per probe
+    when(this.is.readInt()).thenReturn(0, 3, 4, 2, 10, 11, 1, 12);
+    when(this.is.readString()).thenReturn("bar", "()V");
+    this.testee.apply(Id.PROBES, this.is);
+
+    final Location location = Location.location(ClassName.fromString("foo"),
+        MethodName.fromString("bar"), "()V");
+    final Map<BlockLocation, Set<Integer>> expected = new HashMap<BlockLocation, Set<Integer>>();
+    expected.put(new BlockLocation(location, 0),
+        new HashSet<Integer>(Arrays.asList(10, 11)));
+    expected.put(new BlockLocation(location, 1),
+        new HashSet<Integer>(Arrays.asList(12)));
+    assertEquals(expected, this.blockLines);
+  }
+
   @Test
   public void shouldReportNoCoverageWhenNoTestsRun() {
     this.testee.apply(Id.DONE, this.is);
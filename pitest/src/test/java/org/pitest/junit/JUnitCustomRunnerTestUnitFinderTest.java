@@ -36,6 +36,8 @@ import org.junit.runners.Suite.SuiteClasses;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerBuilder;
 import org.mockito.MockitoAnnotations;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestUnit;
 
 import com.example.JUnitParamsTest;
@@ -150,6 +152,14 @@ public class JUnitCustomRunnerTestUnitFinderTest {
     assertTrue(actual.isEmpty());
   }
 
+  private Predicate<Description> hasName(final String name) {
+    return new Predicate<Description>() {
+      public Boolean apply(final Description a) {
+        return a.getName().equals(name);
+      }
+    };
+  }
+
   private Collection<TestUnit> findWithTestee(final Class<?> clazz) {
     return this.testee.findTestUnits(clazz);
   }
@@ -202,6 +212,22 @@ public class JUnitCustomRunnerTestUnitFinderTest {
 
   }
 
+  @Test
+  public void shouldOnlyCreateUnitsForIncludedTests() {
+    final Collection<TestUnit> actual = this.testee.findTestUnits(One.class,
+        hasName("two(" + One.class.getName() + ")"));
+    assertEquals(1, actual.size());
+    assertEquals(One.class.getName() + ".two(" + One.class.getName() + ")",
+        actual.iterator().next().getDescription().getQualifiedName());
+  }
+
+  @Test
+  public void shouldNotCreateAtomicUnitWhenItIsNotIncluded() {
+    final Collection<TestUnit> actual = this.testee.findTestUnits(
+        HasBeforeClassAnnotation.class, hasName("foo"));
+    assertTrue(actual.isEmpty());
+  }
+
   @Test
   public void shouldCreateSingleAtomicUnitWhenClassAnnotatedWithBeforeClass() {
     final Collection<TestUnit> actual = findWithTestee(HasBeforeClassAnnotation.class);
@@ -38,6 +38,7 @@ import org.junit.experimental.categories.Category;
 import org.pitest.SystemTest;
 import org.pitest.classpath.ClassPath;
 import org.pitest.help.PitHelpError;
+import org.pitest.process.Transport;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testng.TestNGConfiguration;
 import org.pitest.util.FileUtil;
@@ -81,6 +82,14 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED);
   }
 
+  @Test
+  public void shouldKillMutationsWhenResultsAreSentThroughSharedMemory() {
+    this.data.setTargetClasses(predicateFor("com.example.FullyCovered*"));
+    this.data.setTransport(Transport.SHARED_MEMORY);
+    createAndRun();
+    verifyResults(KILLED);
+  }
+
   @Test
   public void shouldReportUnCoveredMutations() {
     this.data.setTargetClasses(predicateFor("com.example.PartiallyCovered*"));
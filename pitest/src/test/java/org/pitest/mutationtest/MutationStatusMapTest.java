@@ -113,4 +113,22 @@ public class MutationStatusMapTest {
     assertThat(this.testee.createMutationResults()).contains(resultOne, resultTwo);
   }
 
+  @Test
+  public void shouldMarkUnfinishedRunsWithSuppliedStatusKeepingTimeSpent() {
+    this.testee.setStatusForMutation(this.details, new MutationStatusTestPair(
+        1, DetectionStatus.STARTED, null, 42));
+    this.testee.setStatusForMutation(this.detailsTwo, DetectionStatus.KILLED);
+
+    this.testee.markUnfinishedRuns(DetectionStatus.TIMED_OUT);
+
+    for (final MutationResult each : this.testee.createMutationResults()) {
+      if (each.getDetails().equals(this.details)) {
+        assertEquals(DetectionStatus.TIMED_OUT, each.getStatus());
+        assertEquals(42, each.getStatusTestPair().getTimeSpent());
+      } else {
+        assertEquals(DetectionStatus.KILLED, each.getStatus());
+      }
+    }
+  }
+
 }
@@ -30,6 +30,7 @@ import org.pitest.mutationtest.incremental.NullHistoryStore;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.mutationtest.tooling.MutationCoverage;
 import org.pitest.mutationtest.tooling.MutationStrategies;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
@@ -101,7 +102,8 @@ public abstract class ReportTestBase {
 
       final CoverageOptions coverageOptions = createCoverageOptions(configuration);
       final LaunchOptions launchOptions = new LaunchOptions(agent,
-          new DefaultJavaExecutableLocator(), this.data.getJvmArgs());
+          new DefaultJavaExecutableLocator(), this.data.getJvmArgs(),
+          ClassDataSharing.disabled(), this.data.getTransport());
 
       final PathFilter pf = new PathFilter(new True<ClassPathRoot>(),
           new True<ClassPathRoot>());
@@ -43,6 +43,7 @@ import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.analysis.BlockFinder;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
@@ -363,7 +364,7 @@ public class TestMutationTesting {
 
     final MutationEngine engine = new GregorEngineFactory()
         .createEngineWithMutators(false, False.<String> instance(),
-            Collections.<String> emptyList(), mutators, true);
+            Collections.<String> emptyList(), mutators, true, false);
 
     final MutationConfig mutationConfig = new MutationConfig(engine,
         launchOptions);
@@ -372,12 +373,14 @@ public class TestMutationTesting {
         IsolationUtils.getContextClassLoader());
     final MutationSource source = new MutationSource(mutationConfig,
         UnfilteredMutationFilter.INSTANCE, new DefaultTestPrioritiser(
-            coverageData), bas);
+            coverageData, new BlockFinder(code)), bas);
 
     final WorkerFactory wf = new WorkerFactory(null,
         coverageOptions.getPitConfig(), mutationConfig,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
-            data.getTimeoutConstant()), data.isVerbose(), data.getClassPath()
+            data.getTimeoutConstant()), data.isMutantTimeBudget(),
+        data.isMutantSchemata(), data.getMutantGroupSize(),
+        data.getMutantTestThreads(), data.getSpareSlaves(), data.isVerbose(), data.getClassPath()
             .getLocalClassPath());
 
     final MutationTestBuilder builder = new MutationTestBuilder(wf,
@@ -0,0 +1,63 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveTimeoutStrategyTest {
+
+  private static final float FACTOR   = 1.25f;
+  private static final long  CONSTANT = 4000;
+
+  private AdaptiveTimeoutStrategy testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new AdaptiveTimeoutStrategy(FACTOR, CONSTANT);
+  }
+
+  @Test
+  public void shouldBehaveAsPercentAndConstantStrategyBeforeAnyObservations() {
+    assertEquals(new PercentAndConstantTimeoutStrategy(FACTOR, CONSTANT)
+        .getAllowedTime(100), this.testee.getAllowedTime(100));
+  }
+
+  @Test
+  public void shouldBehaveAsPercentAndConstantStrategyUntilEnoughObservations() {
+    observe(AdaptiveTimeoutStrategy.MIN_OBSERVATIONS - 1, 100, 50);
+    assertEquals(new PercentAndConstantTimeoutStrategy(FACTOR, CONSTANT)
+        .getAllowedTime(100), this.testee.getAllowedTime(100));
+  }
+
+  @Test
+  public void shouldTightenTimeoutWhenObservedTimesAreConsistent() {
+    observe(AdaptiveTimeoutStrategy.MIN_OBSERVATIONS, 100, 50);
+    assertTrue(this.testee.getAllowedTime(100) < new PercentAndConstantTimeoutStrategy(
+        FACTOR, CONSTANT).getAllowedTime(100));
+  }
+
+  @Test
+  public void shouldNotReduceConstantBelowQuarterOfConfiguredValue() {
+    observe(AdaptiveTimeoutStrategy.MIN_OBSERVATIONS, 100, 100);
+    assertEquals(Math.round(100 * FACTOR) + (CONSTANT / 4),
+        this.testee.getAllowedTime(100));
+  }
+
+  @Test
+  public void shouldNotAllowMoreTimeThanConfiguredWhenObservedTimesVary() {
+    for (int i = 0; i != AdaptiveTimeoutStrategy.MIN_OBSERVATIONS; i++) {
+      this.testee.recordTestTime(100, (i % 2) == 0 ? 10 : 10000);
+    }
+    assertEquals(new PercentAndConstantTimeoutStrategy(FACTOR, CONSTANT)
+        .getAllowedTime(100), this.testee.getAllowedTime(100));
+  }
+
+  private void observe(final int times, final long normal, final long observed) {
+    for (int i = 0; i != times; i++) {
+      this.testee.recordTestTime(normal, observed);
+    }
+  }
+
+}
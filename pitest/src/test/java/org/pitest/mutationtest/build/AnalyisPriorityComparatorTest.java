@@ -40,6 +40,10 @@ public class AnalyisPriorityComparatorTest {
         return count;
       }
 
+      public int numberOfMutations() {
+        return count;
+      }
+
       @Override
       public String toString() {
         return "" + count;
@@ -2,6 +2,7 @@ package org.pitest.mutationtest.build;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
@@ -15,12 +16,15 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.ClassLine;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.analysis.BlockFinder;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
@@ -35,12 +39,17 @@ public class DefaultTestPrioritiserTest {
   @Mock
   private ClassByteArraySource  source;
 
+  @Mock
+  private BlockFinder           blocks;
+
   private final ClassName       foo = ClassName.fromString("foo");
 
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
-    this.testee =  new DefaultTestPrioritiser(coverage);
+    this.testee =  new DefaultTestPrioritiser(coverage, blocks);
+    when(this.blocks.findBlock(any(Location.class), anyInt())).thenReturn(
+        Option.<BlockLocation> none());
   }
 
   @Test
@@ -52,6 +61,40 @@ public class DefaultTestPrioritiserTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  public void shouldAssignOnlyTestsForBlockContainingMutationWhenBlockKnown() {
+    final List<TestInfo> expected = makeTestInfos(0);
+    final MutationDetails mutation = makeMutation("foo");
+    final BlockLocation block = new BlockLocation(mutation.getId()
+        .getLocation(), 1);
+    when(this.blocks.findBlock(mutation.getId().getLocation(), 0)).thenReturn(
+        Option.some(block));
+    when(this.coverage.getTestsForBlockLocation(block)).thenReturn(expected);
+    when(this.coverage.getTestsForClassLine(any(ClassLine.class))).thenReturn(
+        makeTestInfos(0, 1));
+    final List<TestInfo> actual = this.testee.assignTests(mutation);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void shouldAssignTestsForEveryBlockOfMutationsSpanningBlocks() {
+    final Location location = aLocation().withClass(foo).withMethod("foo")
+        .build();
+    final MutationDetails mutation = new MutationDetails(
+        new MutationIdentifier(location, Arrays.asList(3, 7), "mutator"),
+        "file", "desc", 1, 2);
+    final BlockLocation first = new BlockLocation(location, 0);
+    final BlockLocation second = new BlockLocation(location, 2);
+    when(this.blocks.findBlock(location, 3)).thenReturn(Option.some(first));
+    when(this.blocks.findBlock(location, 7)).thenReturn(Option.some(second));
+    when(this.coverage.getTestsForBlockLocation(first)).thenReturn(
+        Arrays.asList(makeTestInfo("one", 1)));
+    when(this.coverage.getTestsForBlockLocation(second)).thenReturn(
+        Arrays.asList(makeTestInfo("two", 2)));
+    final List<TestInfo> actual = this.testee.assignTests(mutation);
+    assertEquals(Arrays.asList(1, 2), FCollection.map(actual, toTime()));
+  }
+
   @Test
   public void shouldAssignAllTestsForClassWhenMutationInStaticInitialiser() {
     final List<TestInfo> expected = makeTestInfos(0);
@@ -84,6 +127,10 @@ public class DefaultTestPrioritiserTest {
         timeToTestInfo()));
   }
 
+  private TestInfo makeTestInfo(final String name, final int time) {
+    return new TestInfo("foo", name, time, Option.<ClassName> none(), 0);
+  }
+
   private F<Integer, TestInfo> timeToTestInfo() {
     return new F<Integer, TestInfo>() {
       public TestInfo apply(final Integer a) {
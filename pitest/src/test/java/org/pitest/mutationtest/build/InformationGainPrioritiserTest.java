@@ -0,0 +1,98 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.incremental.CodeHistory;
+
+public class InformationGainPrioritiserTest {
+
+  private InformationGainPrioritiser testee;
+
+  @Mock
+  private CodeHistory                history;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new InformationGainPrioritiser(this.history);
+    when(this.history.getPreviousResult(any(MutationIdentifier.class)))
+        .thenReturn(
+            Option.some(new MutationStatusTestPair(1, DetectionStatus.KILLED)));
+  }
+
+  @Test
+  public void shouldPutGroupsWithoutResultsFirst() {
+    final List<MutationDetails> known = group("known", 1);
+    final List<MutationDetails> unknown = group("unknown", 1000);
+    when(this.history.getPreviousResult(unknown.get(0).getId())).thenReturn(
+        Option.<MutationStatusTestPair> none());
+
+    assertEquals(Arrays.asList(unknown, known), prioritise(known, unknown));
+  }
+
+  @Test
+  public void shouldTreatMutationsLeftUnanalysedAsHavingNoResult() {
+    final List<MutationDetails> known = group("known", 1);
+    final List<MutationDetails> unfinished = group("unfinished", 1000);
+    when(this.history.getPreviousResult(unfinished.get(0).getId()))
+        .thenReturn(
+            Option.some(new MutationStatusTestPair(0,
+                DetectionStatus.NOT_STARTED)));
+
+    assertEquals(Arrays.asList(unfinished, known),
+        prioritise(known, unfinished));
+  }
+
+  @Test
+  public void shouldPutChangedClassesBeforeUnchangedClasses() {
+    final List<MutationDetails> unchanged = group("unchanged", 1);
+    final List<MutationDetails> changed = group("changed", 1000);
+    when(this.history.hasClassChanged(ClassName.fromString("changed")))
+        .thenReturn(true);
+
+    assertEquals(Arrays.asList(changed, unchanged),
+        prioritise(unchanged, changed));
+  }
+
+  @Test
+  public void shouldPutCheapestMutationsFirstWithinARank() {
+    final List<MutationDetails> expensive = group("expensive", 1000);
+    final List<MutationDetails> cheap = group("cheap", 1);
+
+    assertEquals(Arrays.asList(cheap, expensive),
+        prioritise(expensive, cheap));
+  }
+
+  private List<List<MutationDetails>> prioritise(
+      final List<MutationDetails> first, final List<MutationDetails> second) {
+    return this.testee.prioritise(Arrays.asList(first, second));
+  }
+
+  private List<MutationDetails> group(final String clazz, final int testTime) {
+    final MutationDetails md = new MutationDetails(aMutationId().withLocation(
+        aLocation(clazz)).build(), "", "desc", 42, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo(clazz, "test",
+        testTime, Option.<ClassName> none(), 0)));
+    return Collections.singletonList(md);
+  }
+
+}
@@ -0,0 +1,90 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.incremental.KillHistory;
+
+public class KillHistoryTestPrioritiserTest {
+
+  @Mock
+  private TestPrioritiser                                       child;
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> results  = new HashMap<MutationIdentifier, MutationStatusTestPair>();
+
+  private final MutationDetails                                 mutation = new MutationDetails(
+                                                                             aMutationId()
+                                                                                 .withLocation(
+                                                                                     aLocation("foo"))
+                                                                                 .build(),
+                                                                             "",
+                                                                             "desc",
+                                                                             42, 0);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void shouldRunTestsThatKilledMutationsFirst() {
+    final TestInfo fast = test("fast", 1);
+    final TestInfo killer = test("killer", 100);
+    recordKill(1, "killer");
+    assertEquals(Arrays.asList(killer, fast), prioritise(fast, killer));
+  }
+
+  @Test
+  public void shouldRunTestsKillingMostForTheirTimeFirst() {
+    final TestInfo slow = test("slow", 100);
+    final TestInfo quick = test("quick", 10);
+    recordKill(1, "slow");
+    recordKill(2, "slow");
+    recordKill(3, "quick");
+    assertEquals(Arrays.asList(quick, slow), prioritise(slow, quick));
+  }
+
+  @Test
+  public void shouldKeepOrderOfTestsThatKilledNothing() {
+    final TestInfo first = test("first", 100);
+    final TestInfo second = test("second", 1);
+    recordKill(1, "other");
+    assertEquals(Arrays.asList(first, second), prioritise(first, second));
+  }
+
+  private List<TestInfo> prioritise(final TestInfo... tests) {
+    when(this.child.assignTests(this.mutation)).thenReturn(
+        Arrays.asList(tests));
+    return new KillHistoryTestPrioritiser(this.child,
+        KillHistory.fromResults(this.results)).assignTests(this.mutation);
+  }
+
+  private void recordKill(final int index, final String test) {
+    this.results.put(aMutationId().withLocation(aLocation("foo"))
+        .withIndex(index).build(), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, test));
+  }
+
+  private static TestInfo test(final String name, final int time) {
+    return new TestInfo("foo", name, time, Option.<ClassName> none(), 0);
+  }
+
+}
@@ -16,8 +16,12 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.CodeHistory;
 
 public class MutationTestBuilderTest {
 
@@ -29,6 +33,9 @@ public class MutationTestBuilderTest {
   @Mock
   private WorkerFactory       wf;
 
+  @Mock
+  private CodeHistory         history;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -80,6 +87,29 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldRunUnitsInValueOrderWhenPrioritiserSupplied() {
+    final MutationDetails mutation1 = createDetails("foo");
+    final MutationDetails mutation2 = createDetails("bar");
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    when(this.source.createMutations(foo)).thenReturn(Arrays.asList(mutation1));
+    when(this.source.createMutations(bar)).thenReturn(
+        Arrays.asList(mutation2, mutation2));
+    when(this.history.getPreviousResult(mutation1.getId())).thenReturn(
+        Option.<MutationStatusTestPair> none());
+    when(this.history.getPreviousResult(mutation2.getId())).thenReturn(
+        Option.some(new MutationStatusTestPair(1, DetectionStatus.KILLED)));
+
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0),
+        Option.<MutationGroupPrioritiser> some(new InformationGainPrioritiser(
+            this.history)));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(foo, bar));
+    assertTrue(actual.get(0).priority() < actual.get(1).priority());
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
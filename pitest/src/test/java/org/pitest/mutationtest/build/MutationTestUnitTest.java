@@ -54,7 +54,7 @@ public class MutationTestUnitTest {
     this.tests = new ArrayList<ClassName>();
     this.testee = new MutationTestUnit(this.mutations, this.tests,
         new WorkerFactory(null, config, mutationConfig,
-            timeout, false, null));
+            timeout, false, false, 1, 1, 0, false, null));
   }
 
   @Test
@@ -0,0 +1,62 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+import org.pitest.mutationtest.filter.UnfilteredMutationFilter;
+
+public class SampleRoundPrioritiserTest {
+
+  private StratifiedSamplingFilter sample;
+
+  private SampleRoundPrioritiser   testee;
+
+  @Before
+  public void setUp() {
+    this.sample = new StratifiedSamplingFilter(
+        UnfilteredMutationFilter.INSTANCE, 0);
+    this.testee = new SampleRoundPrioritiser(this.sample);
+  }
+
+  @Test
+  public void shouldSplitGroupsIntoRounds() {
+    final List<MutationDetails> group = make(64);
+    this.sample.filter(group);
+
+    final List<List<MutationDetails>> actual = this.testee.prioritise(Collections
+        .singletonList(group));
+    assertEquals(StratifiedSamplingFilter.ROUNDS, actual.size());
+    for (int i = 0; i != StratifiedSamplingFilter.ROUNDS; i++) {
+      assertEquals(this.sample.sizeOfRound(i), actual.get(i).size());
+      for (final MutationDetails each : actual.get(i)) {
+        assertEquals(i, this.sample.roundOf(each.getId()));
+      }
+    }
+  }
+
+  @Test
+  public void shouldOmitEmptyGroups() {
+    final List<MutationDetails> group = make(1);
+    this.sample.filter(group);
+    assertEquals(1,
+        this.testee.prioritise(Collections.singletonList(group)).size());
+  }
+
+  private List<MutationDetails> make(final int count) {
+    final List<MutationDetails> ms = new ArrayList<MutationDetails>();
+    for (int i = 0; i != count; i++) {
+      ms.add(new MutationDetails(aMutationId().withIndex(i).build(), "", "",
+          0, 0));
+    }
+    return ms;
+  }
+
+}
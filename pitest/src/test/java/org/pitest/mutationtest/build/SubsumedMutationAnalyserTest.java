@@ -0,0 +1,71 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class SubsumedMutationAnalyserTest {
+
+  private SubsumedMutationAnalyser testee;
+
+  @Mock
+  private MutationAnalyser         child;
+
+  private final MutationDetails    subsumer = mutation(1);
+  private final MutationDetails    subsumed = mutation(2)
+                                                .withSubsumingMutation(
+                                                    this.subsumer.getId());
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new SubsumedMutationAnalyser(this.child);
+    when(this.child.analyse(Collections.singletonList(this.subsumer)))
+        .thenReturn(
+            Collections.singletonList(new MutationResult(this.subsumer,
+                new MutationStatusTestPair(0, DetectionStatus.NOT_STARTED))));
+  }
+
+  @Test
+  public void shouldGiveSubsumedMutationsStatusOfSubsumed() {
+    final Collection<MutationResult> actual = this.testee.analyse(Arrays
+        .asList(this.subsumer, this.subsumed));
+    assertEquals(Arrays.asList(new MutationResult(this.subsumed,
+        new MutationStatusTestPair(0, DetectionStatus.SUBSUMED)),
+        new MutationResult(this.subsumer, new MutationStatusTestPair(0,
+            DetectionStatus.NOT_STARTED))), actual);
+  }
+
+  @Test
+  public void shouldLeaveOtherMutationsToChild() {
+    this.testee.analyse(Arrays.asList(this.subsumer, this.subsumed));
+    verify(this.child).analyse(Collections.singletonList(this.subsumer));
+  }
+
+  @Test
+  public void shouldAnalyseSubsumedMutationWhenSubsumerNotAmongThoseAnalysed() {
+    this.testee.analyse(Collections.singletonList(this.subsumed));
+    verify(this.child).analyse(Collections.singletonList(this.subsumed));
+  }
+
+  private static MutationDetails mutation(final int index) {
+    return new MutationDetails(aMutationId().withIndex(index).build(), "",
+        "desc", 42, 0);
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.process.LaunchOptionsMother.suspendedUntilDebuggerAttaches;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.SystemTest;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.testapi.Configuration;
+
+@Category(SystemTest.class)
+public class WorkerFactorySystemTest {
+
+  private static final long     MAX_WAIT = 30000;
+
+  private WorkerFactory         testee;
+  private JarCreatingJarFinder  agent;
+
+  @Mock
+  private Configuration         config;
+
+  @Mock
+  private TimeoutLengthStrategy timeout;
+
+  @Mock
+  private MutationEngine        engine;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.agent = new JarCreatingJarFinder();
+    this.testee = new WorkerFactory(null, this.config, new MutationConfig(
+        this.engine, suspendedUntilDebuggerAttaches(this.agent)), this.timeout,
+        false, false, 1, 1, 0, false, new ClassPath().getLocalClassPath());
+  }
+
+  @After
+  public void tearDown() {
+    this.agent.close();
+  }
+
+  @Test(timeout = MAX_WAIT)
+  public void shouldStopWorkerThatHasNotBeenStarted() throws Exception {
+    final MutationTestProcess worker = createWorker();
+    this.testee.stop();
+    worker.start();
+    worker.waitToDie();
+  }
+
+  @Test(timeout = MAX_WAIT)
+  public void shouldStopSlaveThatIsStillBooting() throws Exception {
+    final MutationTestProcess worker = createWorker();
+    worker.start();
+    this.testee.stop();
+    worker.waitToDie();
+  }
+
+  @Test(timeout = MAX_WAIT)
+  public void shouldDestroyWorkersCreatedOnceStopped() throws Exception {
+    this.testee.stop();
+    final MutationTestProcess worker = createWorker();
+    worker.start();
+    worker.waitToDie();
+    assertTrue(this.testee.isStopped());
+  }
+
+  private MutationTestProcess createWorker() {
+    final Collection<MutationDetails> mutations = Collections
+        .singletonList(new MutationDetails(aMutationId().build(), "file",
+            "desc", 1, 0));
+    return this.testee.createWorker(mutations,
+        Collections.singletonList(ClassName.fromString("foo")));
+  }
+
+
+}
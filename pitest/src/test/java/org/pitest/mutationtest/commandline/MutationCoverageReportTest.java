@@ -43,6 +43,7 @@ import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
@@ -62,6 +63,7 @@ import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.mutationtest.tooling.MutationCoverage;
 import org.pitest.mutationtest.tooling.MutationStrategies;
 import org.pitest.mutationtest.verify.BuildVerifier;
+import org.pitest.process.LaunchOptions;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
 import org.pitest.util.Unchecked;
@@ -111,6 +113,10 @@ public class MutationCoverageReportTest {
     this.data = new ReportOptions();
     this.data.setSourceDirs(Collections.<File> emptyList());
     when(this.coverage.calculateCoverage()).thenReturn(this.coverageDb);
+    when(this.coverage.getLaunchOptions()).thenReturn(
+        new LaunchOptions(null));
+    when(this.code.fetchClassBytes(any(ClassName.class))).thenReturn(
+        Option.<byte[]> none());
     when(
         this.listenerFactory.getListener(Matchers.<Properties> any(),
             any(ListenerArguments.class))).thenReturn(this.listener);
@@ -121,8 +127,8 @@ public class MutationCoverageReportTest {
   private void mockMutationEngine() {
     when(
         this.mutationFactory.createEngine(anyBoolean(), any(Predicate.class),
-            anyCollection(), anyCollection(), anyBoolean())).thenReturn(
-        this.engine);
+            anyCollection(), anyCollection(), anyBoolean(), anyBoolean()))
+        .thenReturn(this.engine);
     when(this.engine.createMutator(any(ClassByteArraySource.class)))
         .thenReturn(this.mutater);
   }
@@ -1,8 +1,18 @@
 package org.pitest.mutationtest.engine;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Arrays;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
 
 public class MutationDetailsTest {
 
@@ -11,4 +21,41 @@ public class MutationDetailsTest {
     EqualsVerifier.forClass(MutationDetails.class).verify();
   }
 
+  @Test
+  public void shouldMoveNamedTestToFrontWhenRunFirst() {
+    final TestInfo a = makeTest("a");
+    final TestInfo b = makeTest("b");
+    final TestInfo c = makeTest("c");
+    final MutationDetails testee = aMutationDetail().withTestsInOrder(
+        Arrays.asList(a, b, c)).build();
+    testee.runTestFirst("c");
+    assertEquals(Arrays.asList(c, a, b), testee.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldNotReorderTestsWhenTestToRunFirstDoesNotCoverMutation() {
+    final TestInfo a = makeTest("a");
+    final TestInfo b = makeTest("b");
+    final MutationDetails testee = aMutationDetail().withTestsInOrder(
+        Arrays.asList(a, b)).build();
+    testee.runTestFirst("notCovering");
+    assertEquals(Arrays.asList(a, b), testee.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldRecordSubsumingMutationOnCopyOnly() {
+    final TestInfo a = makeTest("a");
+    final MutationDetails testee = aMutationDetail().withTestsInOrder(
+        Arrays.asList(a)).build();
+    final MutationIdentifier subsumer = aMutationId().withIndex(2).build();
+    final MutationDetails actual = testee.withSubsumingMutation(subsumer);
+    assertEquals(subsumer, actual.getSubsumingMutation().value());
+    assertEquals(Arrays.asList(a), actual.getTestsInOrder());
+    assertTrue(testee.getSubsumingMutation().hasNone());
+  }
+
+  private TestInfo makeTest(final String name) {
+    return new TestInfo("foo", name, 0, Option.<ClassName> none(), 0);
+  }
+
 }
@@ -38,7 +38,7 @@ public class GregorMutationEngineTest {
         Mutator.fromStrings(Arrays.asList("CONDITIONALS_BOUNDARY", "MATH"));
     final DefaultMutationEngineConfiguration config = new DefaultMutationEngineConfiguration(
         True.<MethodInfo> all(), Collections.<String> emptyList(), mutators,
-        new NoInlinedCodeDetection());
+        new NoInlinedCodeDetection(), false);
     this.testee = new GregorMutationEngine(config);
     assertEquals(Arrays.asList(
         ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR.getName(),
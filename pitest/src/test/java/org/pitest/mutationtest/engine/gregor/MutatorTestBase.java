@@ -62,7 +62,8 @@ public abstract class MutatorTestBase {
   protected void createTesteeWith(final Predicate<MethodInfo> filter,
       final MethodMutatorFactory... mutators) {
     this.engine = new GregorMutater(new ClassPathByteArraySource(), filter,
-        Arrays.asList(mutators), filteredClasses(), inlinedCodeFilter());
+        Arrays.asList(mutators), filteredClasses(), inlinedCodeFilter(),
+        detectSubsumedMutations());
   }
 
   private Collection<String> filteredClasses() {
@@ -73,7 +74,7 @@ public abstract class MutatorTestBase {
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
     this.engine = new GregorMutater(source, filter, mutators,
-        filteredClasses(), inlinedCodeFilter());
+        filteredClasses(), inlinedCodeFilter(), detectSubsumedMutations());
   }
 
   protected void createTesteeWith(final Predicate<MethodInfo> filter,
@@ -85,13 +86,18 @@ public abstract class MutatorTestBase {
       final Collection<String> loggingClasses,
       final Collection<MethodMutatorFactory> mutators) {
     this.engine = new GregorMutater(new ClassPathByteArraySource(), filter,
-        mutators, loggingClasses, inlinedCodeFilter());
+        mutators, loggingClasses, inlinedCodeFilter(),
+        detectSubsumedMutations());
   }
 
   private InlinedCodeFilter inlinedCodeFilter() {
     return new NoInlinedCodeDetection();
   }
 
+  protected boolean detectSubsumedMutations() {
+    return false;
+  }
+
   protected void createTesteeWith(
       final Collection<MethodMutatorFactory> mutators) {
     createTesteeWith(True.<MethodInfo> all(), mutators);
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -27,15 +28,25 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
+import org.pitest.functional.Option;
 import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.InvertNegsMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.ReturnValsMutator;
 import org.pitest.util.ResourceFolderByteArraySource;
 
@@ -93,6 +104,26 @@ public class TestGregorMutater extends MutatorTestBase {
 
   }
 
+  public static class HasLessThan {
+    public int foo(final int a, final int b) {
+      if (a < b) {
+        return 1;
+      }
+      return 2;
+    }
+  }
+
+  @Test
+  public void shouldNotMarkSubsumedMutationsUnlessAskedTo() {
+    createTesteeWith(NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR);
+    final Collection<MutationDetails> actualDetails = findMutationsFor(HasLessThan.class);
+    assertEquals(2, actualDetails.size());
+    for (final MutationDetails each : actualDetails) {
+      assertTrue(each.getSubsumingMutation().hasNone());
+    }
+  }
+
   static enum AnEnum {
     Foo, Bar;
   }
@@ -183,6 +214,74 @@ public class TestGregorMutater extends MutatorTestBase {
     assertTrue(actualDetails.isEmpty());
   }
 
+  public static class HasBranchesAndLoops {
+    public int mutable(final int n) {
+      int j = 0;
+      for (int i = 0; i != n; i++) {
+        if ((i > 2) || (j < -1)) {
+          j = j + i;
+        } else {
+          j = -j * 2;
+        }
+      }
+      return j;
+    }
+  }
+
+  @Test
+  public void shouldCreateVerifiableMutantsOfJava7ClassesWithoutRecomputingFrames()
+      throws Exception {
+    createTesteeWith(new Java7ByteArraySource(), True.<MethodInfo> all(),
+        Arrays.<MethodMutatorFactory> asList(MathMutator.MATH_MUTATOR,
+            NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+            ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR,
+            IncrementsMutator.INCREMENTS_MUTATOR,
+            InvertNegsMutator.INVERT_NEGS_MUTATOR));
+    final FunctionalList<MutationDetails> actualDetails = findMutationsFor(HasBranchesAndLoops.class);
+    assertEquals(9, actualDetails.size());
+    for (final Mutant each : getMutants(actualDetails)) {
+      // initialising the class forces the JVM to verify the stack map frames
+      Class.forName(HasBranchesAndLoops.class.getName(), true,
+          new DefiningClassLoader(each.getBytes()));
+    }
+  }
+
+  private static class Java7ByteArraySource implements ClassByteArraySource {
+    private final ClassByteArraySource source = new ClassPathByteArraySource();
+
+    public Option<byte[]> getBytes(final String classname) {
+      final Option<byte[]> bytes = this.source.getBytes(classname);
+      if (bytes.hasNone()) {
+        return bytes;
+      }
+      final ClassWriter w = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+      new ClassReader(bytes.value()).accept(new ClassVisitor(Opcodes.ASM5, w) {
+        @Override
+        public void visit(final int version, final int access,
+            final String name, final String signature, final String superName,
+            final String[] interfaces) {
+          super.visit(Opcodes.V1_7, access, name, signature, superName,
+              interfaces);
+        }
+      }, 0);
+      return Option.some(w.toByteArray());
+    }
+  }
+
+  private static class DefiningClassLoader extends ClassLoader {
+    private final byte[] bytes;
+
+    DefiningClassLoader(final byte[] bytes) {
+      super(null);
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected Class<?> findClass(final String name) {
+      return defineClass(name, this.bytes, 0, this.bytes.length);
+    }
+  }
+
   public static class OneStraightThroughMethod {
     public void straightThrough(int i) {
       i++;
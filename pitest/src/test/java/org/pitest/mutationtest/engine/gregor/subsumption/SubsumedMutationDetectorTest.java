@@ -0,0 +1,118 @@
+package org.pitest.mutationtest.engine.gregor.subsumption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.MutatorTestBase;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator.Choice;
+
+public class SubsumedMutationDetectorTest extends MutatorTestBase {
+
+  public static class HasLessThan {
+    public int foo(final int a, final int b) {
+      if (a < b) {
+        return 1;
+      }
+      return 2;
+    }
+  }
+
+  public static class HasTwoLessThans {
+    public int foo(final int a, final int b) {
+      if (a < b) {
+        return 1;
+      }
+      if (b < a) {
+        return 2;
+      }
+      return 3;
+    }
+  }
+
+  @Override
+  protected boolean detectSubsumedMutations() {
+    return true;
+  }
+
+  @Test
+  public void shouldMarkNegatedConditionalSubsumedByBoundaryMutation() {
+    createTesteeWith(NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR);
+    final Collection<MutationDetails> actual = findMutationsFor(HasLessThan.class);
+    final MutationDetails negated = find(actual, NegateConditionalsMutator.class);
+    final MutationDetails boundary = find(actual,
+        ConditionalsBoundaryMutator.class);
+
+    assertEquals(boundary.getId(), negated.getSubsumingMutation().value());
+    assertTrue(boundary.getSubsumingMutation().hasNone());
+  }
+
+  @Test
+  public void shouldMarkConditionalRemovedToTheBodySubsumedByBoundaryMutation() {
+    createTesteeWith(
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR,
+        new RemoveConditionalMutator(Choice.ORDER, true));
+    final Collection<MutationDetails> actual = findMutationsFor(HasLessThan.class);
+    final MutationDetails removed = find(actual,
+        RemoveConditionalMutator.class);
+    final MutationDetails boundary = find(actual,
+        ConditionalsBoundaryMutator.class);
+
+    assertEquals(boundary.getId(), removed.getSubsumingMutation().value());
+  }
+
+  @Test
+  public void shouldNotMarkMutationsDifferingOnDistinctOutcomes() {
+    createTesteeWith(
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR,
+        new RemoveConditionalMutator(Choice.ORDER, false));
+    final Collection<MutationDetails> actual = findMutationsFor(HasLessThan.class);
+
+    for (final MutationDetails each : actual) {
+      assertTrue(each.getSubsumingMutation().hasNone());
+    }
+  }
+
+  @Test
+  public void shouldNotMarkMutationsOfDifferentConditionals() {
+    createTesteeWith(NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR);
+    final Collection<MutationDetails> actual = findMutationsFor(HasTwoLessThans.class);
+
+    assertEquals(2, actual.size());
+    for (final MutationDetails each : actual) {
+      assertTrue(each.getSubsumingMutation().hasNone());
+    }
+  }
+
+  @Test
+  public void shouldOnlyCompareMutationsOfTheSameConditional() {
+    createTesteeWith(NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR);
+    final Collection<MutationDetails> actual = findMutationsFor(HasTwoLessThans.class);
+
+    for (final MutationDetails each : actual) {
+      if (each.getSubsumingMutation().hasSome()) {
+        assertEquals(each.getFirstIndex(), each.getSubsumingMutation().value()
+            .getFirstIndex());
+      }
+    }
+  }
+
+  private static MutationDetails find(
+      final Collection<MutationDetails> mutations, final Class<?> mutator) {
+    for (final MutationDetails each : mutations) {
+      if (each.getMutator().startsWith(mutator.getName())) {
+        return each;
+      }
+    }
+    throw new AssertionError("No mutation by " + mutator.getName());
+  }
+
+}
@@ -0,0 +1,89 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+
+public class IsolatingClassLoaderFactoryTest {
+
+  private IsolatingClassLoaderFactory testee;
+
+  public static class HasStaticState {
+    public static int count;
+  }
+
+  public static class ReadsStaticState {
+    public int read() {
+      return HasStaticState.count;
+    }
+  }
+
+  public static class ReadsStaticStateIndirectly {
+    public int read() {
+      return new ReadsStaticState().read();
+    }
+  }
+
+  public static class InitialisesOtherClass {
+    static {
+      HasStaticState.count = 42;
+    }
+  }
+
+  public static class Unrelated {
+  }
+
+  @Before
+  public void setUp() {
+    this.testee = new IsolatingClassLoaderFactory(getClass().getClassLoader());
+  }
+
+  @Test
+  public void shouldReloadMutatedClass() throws ClassNotFoundException {
+    assertReloaded(HasStaticState.class, HasStaticState.class);
+  }
+
+  @Test
+  public void shouldReloadClassesDependingOnMutatedClass()
+      throws ClassNotFoundException {
+    assertReloaded(HasStaticState.class, ReadsStaticState.class);
+    assertReloaded(HasStaticState.class, ReadsStaticStateIndirectly.class);
+  }
+
+  @Test
+  public void shouldReloadClassesWhoseStateMutatedClassMayChange()
+      throws ClassNotFoundException {
+    assertReloaded(InitialisesOtherClass.class, HasStaticState.class);
+  }
+
+  @Test
+  public void shouldShareClassesUnrelatedToMutatedClass()
+      throws ClassNotFoundException {
+    assertShared(HasStaticState.class, Unrelated.class);
+  }
+
+  @Test
+  public void shouldShareLibraryClasses() throws ClassNotFoundException {
+    assertShared(HasStaticState.class, Test.class);
+  }
+
+  private void assertReloaded(final Class<?> mutated, final Class<?> clazz)
+      throws ClassNotFoundException {
+    assertNotSame(clazz, loadFor(mutated, clazz));
+  }
+
+  private void assertShared(final Class<?> mutated, final Class<?> clazz)
+      throws ClassNotFoundException {
+    assertSame(clazz, loadFor(mutated, clazz));
+  }
+
+  private Class<?> loadFor(final Class<?> mutated, final Class<?> clazz)
+      throws ClassNotFoundException {
+    return Class.forName(clazz.getName(), false,
+        this.testee.createLoaderFor(new ClassName(mutated)));
+  }
+
+}
@@ -0,0 +1,191 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.inlinedcode.NoInlinedCodeDetection;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+
+public class MetaMutantBuilderTest {
+
+  private MetaMutantBuilder testee;
+  private GregorMutater     mutater;
+
+  public static class HasMathematics {
+
+    public HasMathematics() {
+    }
+
+    public int add(final int a, final int b) {
+      return a + b;
+    }
+
+    public int multiply(final int a, final int b) {
+      return a * b;
+    }
+
+    public int safeDivide(final int a, final int b) {
+      try {
+        return a / b;
+      } catch (final ArithmeticException ex) {
+        return -1;
+      }
+    }
+
+  }
+
+  @Before
+  public void setUp() {
+    final ClassPathByteArraySource source = new ClassPathByteArraySource();
+    this.testee = new MetaMutantBuilder(source);
+    this.mutater = new GregorMutater(source, True.<MethodInfo> all(),
+        Collections.<MethodMutatorFactory> singletonList(MathMutator.MATH_MUTATOR),
+        Collections.<String> emptyList(), new NoInlinedCodeDetection());
+  }
+
+  @After
+  public void tearDown() {
+    ActiveMutant.id = ActiveMutant.NONE;
+    ActiveMutant.group = null;
+  }
+
+  @Test
+  public void shouldRunOriginalCodeWhenNoMutantActive() throws Exception {
+    final Object meta = createMetaMutant();
+    assertEquals(5, call(meta, "add", 3, 2));
+    assertEquals(6, call(meta, "multiply", 3, 2));
+    assertEquals(-1, call(meta, "safeDivide", 3, 0));
+  }
+
+  @Test
+  public void shouldRunMutatedCodeOnlyForActiveMutant() throws Exception {
+    final Object meta = createMetaMutant();
+    ActiveMutant.id = idFor("add");
+    assertEquals(1, call(meta, "add", 3, 2));
+    assertEquals(6, call(meta, "multiply", 3, 2));
+
+    ActiveMutant.id = idFor("multiply");
+    assertEquals(5, call(meta, "add", 3, 2));
+    assertEquals(1, call(meta, "multiply", 3, 2));
+  }
+
+  @Test
+  public void shouldRunMutatedCodeForEachMutantOfAnActiveGroup()
+      throws Exception {
+    final Object meta = createMetaMutant();
+    final int[] group = new int[findMutations().size() + 1];
+    group[idFor("add")] = idFor("add");
+    group[idFor("multiply")] = idFor("multiply");
+    ActiveMutant.group = group;
+    assertEquals(1, call(meta, "add", 3, 2));
+    assertEquals(1, call(meta, "multiply", 3, 2));
+    assertEquals(-1, call(meta, "safeDivide", 3, 0));
+  }
+
+  @Test
+  public void shouldPreserveExceptionHandlersWithinMutatedCode()
+      throws Exception {
+    final Object meta = createMetaMutant();
+    ActiveMutant.id = idFor("safeDivide");
+    assertEquals(0, call(meta, "safeDivide", 3, 0));
+  }
+
+  @Test
+  public void shouldNotIncludeMutantsInConstructors() {
+    assertFalse(MetaMutantBuilder.canInclude(aMutationDetail().withId(
+        aMutationId().withLocation(aLocation().withMethod("<init>"))).build()));
+  }
+
+  @Test
+  public void shouldNotIncludeMutantsThatMayPoisonTheJVM() {
+    assertFalse(MetaMutantBuilder.canInclude(aMutationDetail()
+        .withPoison(true).build()));
+  }
+
+  @Test
+  public void shouldNotIncludeMutantsInStaticInitializers() {
+    assertFalse(MetaMutantBuilder.canInclude(aMutationDetail().withId(
+        aMutationId().withLocation(aLocation().withMethod("<clinit>")))
+        .build()));
+  }
+
+  @Test
+  public void shouldIncludeMutantsInNormalMethods() {
+    assertTrue(MetaMutantBuilder.canInclude(aMutationDetail().build()));
+  }
+
+  private int idFor(final String method) {
+    final List<MutationDetails> mutations = findMutations();
+    for (int i = 0; i != mutations.size(); i++) {
+      if (mutations.get(i).getMethod().name().equals(method)) {
+        return i + 1;
+      }
+    }
+    throw new AssertionError("No mutation in " + method);
+  }
+
+  private List<MutationDetails> findMutations() {
+    return this.mutater.findMutations(ClassName.fromClass(HasMathematics.class));
+  }
+
+  private Object createMetaMutant() throws Exception {
+    final Map<Integer, Mutant> mutants = new HashMap<Integer, Mutant>();
+    int id = 1;
+    for (final MutationDetails each : findMutations()) {
+      mutants.put(id, this.mutater.getMutation(each.getId()));
+      id++;
+    }
+    final byte[] bytes = this.testee.build(
+        ClassName.fromClass(HasMathematics.class), mutants);
+    return new SingleClassLoader(HasMathematics.class.getName(), bytes)
+        .loadClass(HasMathematics.class.getName()).newInstance();
+  }
+
+  private static int call(final Object meta, final String method,
+      final int a, final int b) throws Exception {
+    final Method m = meta.getClass().getMethod(method, int.class, int.class);
+    return (Integer) m.invoke(meta, a, b);
+  }
+
+  private static class SingleClassLoader extends ClassLoader {
+    private final String name;
+    private final byte[] bytes;
+
+    SingleClassLoader(final String name, final byte[] bytes) {
+      super(SingleClassLoader.class.getClassLoader());
+      this.name = name;
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected synchronized Class<?> loadClass(final String name,
+        final boolean resolve) throws ClassNotFoundException {
+      if (this.name.equals(name)) {
+        return defineClass(name, this.bytes, 0, this.bytes.length);
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+
+}
@@ -0,0 +1,121 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.process.LaunchOptionsMother.suspendedUntilDebuggerAttaches;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.SystemTest;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationTestUnit;
+import org.pitest.mutationtest.build.WorkerFactory;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.testapi.Configuration;
+
+@Category(SystemTest.class)
+public class MutationAnalysisExecutorSystemTest {
+
+  private final List<MutationResult> results = new ArrayList<MutationResult>();
+
+  private WorkerFactory              workerFactory;
+  private JarCreatingJarFinder       agent;
+
+  @Mock
+  private Configuration              config;
+
+  @Mock
+  private TimeoutLengthStrategy      timeout;
+
+  @Mock
+  private MutationEngine             engine;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.agent = new JarCreatingJarFinder();
+    this.workerFactory = new WorkerFactory(null, this.config,
+        new MutationConfig(this.engine,
+            suspendedUntilDebuggerAttaches(this.agent)),
+        this.timeout, false, false, 1, 1, 0, false,
+        new ClassPath().getLocalClassPath());
+  }
+
+  @After
+  public void tearDown() {
+    this.workerFactory.shutdown();
+    this.agent.close();
+  }
+
+  @Test(timeout = 30000)
+  public void shouldEndAnalysisWhenDeadlinePassesWhileSlaveIsStarting() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> singletonList(recordResults()),
+        System.currentTimeMillis() + 100, stop());
+
+    final MutationAnalysisUnit unit = new MutationTestUnit(
+        Collections.singletonList(coveredMutation()),
+        Collections.singletonList(ClassName.fromString("foo")),
+        this.workerFactory);
+    testee.run(Collections.singletonList(unit));
+
+    assertEquals(1, this.results.size());
+    assertEquals(DetectionStatus.NOT_STARTED, this.results.get(0).getStatus());
+  }
+
+  private MutationDetails coveredMutation() {
+    final MutationDetails md = new MutationDetails(aMutationId().build(),
+        "file", "desc", 1, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("foo", "atest",
+        1, Option.<ClassName> none(), 0)));
+    return md;
+  }
+
+  private SideEffect stop() {
+    return new SideEffect() {
+      public void apply() {
+        MutationAnalysisExecutorSystemTest.this.workerFactory.stop();
+      }
+    };
+  }
+
+  private MutationResultListener recordResults() {
+    return new MutationResultListener() {
+
+      public void runStart() {
+      }
+
+      public void handleMutationResult(final ClassMutationResults results) {
+        MutationAnalysisExecutorSystemTest.this.results.addAll(results
+            .getMutations());
+      }
+
+      public void runEnd() {
+      }
+
+    };
+  }
+
+
+}
@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+
+public class MutationAnalysisExecutorTest {
+
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  @Test
+  public void shouldStopAnalysisOnceDeadlineHasPassed() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> emptyList(),
+        System.currentTimeMillis(), stop());
+    testee.run(Collections.singletonList(unitRunningUntilStopped()));
+    assertEquals(0, this.stopped.getCount());
+  }
+
+  @Test
+  public void shouldNotStopAnalysisWhenNoDeadlineSet() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> emptyList(),
+        MutationAnalysisExecutor.NO_DEADLINE, stop());
+    testee.run(Collections.<MutationAnalysisUnit> emptyList());
+    assertEquals(1, this.stopped.getCount());
+  }
+
+  private SideEffect stop() {
+    return new SideEffect() {
+      public void apply() {
+        MutationAnalysisExecutorTest.this.stopped.countDown();
+      }
+    };
+  }
+
+  private MutationAnalysisUnit unitRunningUntilStopped() {
+    return new MutationAnalysisUnit() {
+
+      public MutationMetaData call() throws Exception {
+        assertTrue(MutationAnalysisExecutorTest.this.stopped.await(10,
+            TimeUnit.SECONDS));
+        return new MutationMetaData(Collections.<MutationResult> emptyList());
+      }
+
+      public int priority() {
+        return 0;
+      }
+
+      public int numberOfMutations() {
+        return 0;
+      }
+
+    };
+  }
+
+}
@@ -1,16 +1,22 @@
 package org.pitest.mutationtest.execute;
 
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import junit.framework.AssertionFailedError;
 
@@ -19,8 +25,13 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F3;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
@@ -30,6 +41,8 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.MultipleTestGroup;
+import org.pitest.util.ExitCode;
 
 public class MutationTestWorkerTest {
 
@@ -50,11 +63,19 @@ public class MutationTestWorkerTest {
   @Mock
   private Reporter                                 reporter;
 
+  @Mock
+  private MetaMutantBuilder                        metaMutantBuilder;
+
+  @SuppressWarnings("unchecked")
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
     this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
         this.loader);
+    when(
+        this.testSource.decorateTestGroup(any(TestUnit.class), any(List.class)))
+        .then(returnsFirstArg());
+    when(this.testSource.groupTests(any(List.class))).then(groupInOrder());
   }
 
   @Test
@@ -130,6 +151,249 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldInstallMetaMutantOnceForAllMutantsOfAClass()
+      throws IOException {
+    useMetaMutants();
+    final MutationDetails mutantOne = makeCoveredMutant("foo", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("foo", 2);
+    final byte[] meta = new byte[] { 1 };
+    when(this.metaMutantBuilder.build(any(ClassName.class), any(Map.class)))
+        .thenReturn(meta);
+    final List<Integer> activeIds = new ArrayList<Integer>();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeTestRecordingActiveMutant(activeIds)));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.hotswapper, times(1)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.hotswapper).apply(ClassName.fromString("foo"), this.loader,
+        meta);
+    assertEquals(Arrays.asList(1, 2), activeIds);
+    assertEquals(ActiveMutant.NONE, ActiveMutant.id);
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldHotSwapEachMutantWhenMetaMutantNotViable()
+      throws IOException {
+    useMetaMutants();
+    final MutationDetails mutantOne = makeCoveredMutant("foo", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("foo", 2);
+    final byte[] meta = new byte[] { 1 };
+    when(this.metaMutantBuilder.build(any(ClassName.class), any(Map.class)))
+        .thenReturn(meta);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    when(this.hotswapper.apply(ClassName.fromString("foo"), this.loader, meta))
+        .thenReturn(false);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.hotswapper, times(2)).apply(ClassName.fromString("foo"),
+        this.loader, new byte[0]);
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldReportEveryMutantInAPassingGroupAsSurvivedAfterOneRun()
+      throws IOException {
+    useGroupsOf(2);
+    final MutationDetails mutantOne = makeCoveredMutant("foo", "a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("foo", "b", 2);
+    final List<int[]> activeGroups = new ArrayList<int[]>();
+    when(
+        this.testSource.translateTestsForGroup(any(List.class),
+            any(SideEffect.class))).thenReturn(
+        makeTestRecordingActiveGroup(activeGroups));
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    assertEquals(1, activeGroups.size());
+    assertEquals(1, activeGroups.get(0)[1]);
+    assertEquals(2, activeGroups.get(0)[2]);
+    assertEquals(null, ActiveMutant.group);
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(0, DetectionStatus.SURVIVED));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldSplitAFailingGroupToFindTheMutantsKilled()
+      throws IOException {
+    useGroupsOf(2);
+    final MutationDetails mutantOne = makeCoveredMutant("foo", "a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("foo", "b", 2);
+    when(
+        this.testSource.translateTestsForGroup(any(List.class),
+            any(SideEffect.class))).thenReturn(makeFailingTest());
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeTestFailingForActiveMutant(1)));
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED, "atest"));
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldEndSlaveWithWholeGroupUnfinishedWhenGroupTimesOut()
+      throws IOException {
+    useGroupsOf(2);
+    final MutationDetails mutantOne = makeCoveredMutant("foo", "a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("foo", "b", 2);
+    when(
+        this.testSource.translateTestsForGroup(any(List.class),
+            any(SideEffect.class))).then(timeOut());
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.reporter, times(2)).describe(mutantOne.getId());
+    verify(this.reporter).describe(mutantTwo.getId());
+    verify(this.reporter).done(ExitCode.GROUP_TIMEOUT);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldNotGroupMutantsInTheSameMethod() throws IOException {
+    useGroupsOf(2);
+    final MutationDetails mutantOne = makeCoveredMutant("foo", "a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("foo", "a", 2);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.testSource, never()).translateTestsForGroup(any(List.class),
+        any(SideEffect.class));
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void useGroupsOf(final int size) {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, Option.some(this.metaMutantBuilder), size);
+    when(this.metaMutantBuilder.build(any(ClassName.class), any(Map.class)))
+        .thenReturn(new byte[] { 1 });
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+  }
+
+  private void useMetaMutants() {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, Option.some(this.metaMutantBuilder));
+  }
+
+  private MutationDetails makeCoveredMutant(final String clazz,
+      final int index) {
+    final MutationDetails md = makeMutant(clazz, index);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("atest",
+        "atest", 1, Option.<ClassName> none(), 0)));
+    return md;
+  }
+
+  private MutationDetails makeCoveredMutant(final String clazz,
+      final String method, final int index) {
+    final MutationIdentifier id = aMutationId()
+        .withLocation(
+            aLocation().withClass(ClassName.fromString(clazz)).withMethod(
+                method)).withIndex(index).withMutator("mutator").build();
+    final MutationDetails md = new MutationDetails(id, "sourceFile", "desc",
+        42, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("atest",
+        "atest", 1, Option.<ClassName> none(), 0)));
+    when(this.mutater.getMutation(md.getId())).thenReturn(
+        new Mutant(md, new byte[0]));
+    return md;
+  }
+
+  private TestUnit makeTestRecordingActiveGroup(final List<int[]> groups) {
+    return new TestUnit() {
+
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        groups.add(ActiveMutant.group.clone());
+        rc.notifyEnd(getDescription());
+      }
+
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
+  private TestUnit makeTestFailingForActiveMutant(final int id) {
+    return new TestUnit() {
+
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        if (ActiveMutant.id == id) {
+          rc.notifyEnd(getDescription(), new AssertionFailedError());
+        } else {
+          rc.notifyEnd(getDescription());
+        }
+      }
+
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
+  private TestUnit makeTestRecordingActiveMutant(final List<Integer> ids) {
+    return new TestUnit() {
+
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        ids.add(ActiveMutant.id);
+        rc.notifyEnd(getDescription());
+      }
+
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
+  private static Answer<TestUnit> timeOut() {
+    return new Answer<TestUnit>() {
+      public TestUnit answer(final InvocationOnMock invocation) {
+        ((SideEffect) invocation.getArguments()[1]).apply();
+        return new MultipleTestGroup(Collections.<TestUnit> emptyList());
+      }
+    };
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -173,4 +437,14 @@ public class MutationTestWorkerTest {
     return md;
   }
 
+  private static Answer<TestUnit> groupInOrder() {
+    return new Answer<TestUnit>() {
+      @SuppressWarnings("unchecked")
+      public TestUnit answer(final InvocationOnMock invocation) {
+        return new MultipleTestGroup(
+            (List<TestUnit>) invocation.getArguments()[0]);
+      }
+    };
+  }
+
 }
@@ -15,6 +15,8 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -28,6 +30,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
@@ -83,4 +86,49 @@ public class MutationTimeoutDecoratorTest {
         any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldRecordRunTimeWhenChildPassesWithinAllowedTime() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000l);
+    this.testee.execute(null, this.rc);
+    verify(this.timeoutStrategy).recordTestTime(eq(NORMAL_EXECUTION),
+        anyLong());
+  }
+
+  @Test
+  public void shouldNotRecordRunTimeWhenChildFails() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000l);
+
+    doAnswer(new Answer<Void>() {
+      public Void answer(final InvocationOnMock invocation) throws Throwable {
+        final ResultCollector collector = (ResultCollector) invocation
+            .getArguments()[1];
+        collector.notifyEnd(new Description("foo"), new AssertionError());
+        return null;
+      }
+    }).when(this.child).execute(any(ClassLoader.class),
+        any(ResultCollector.class));
+
+    this.testee.execute(null, this.rc);
+    verify(this.timeoutStrategy, never()).recordTestTime(anyLong(), anyLong());
+  }
+
+  @Test
+  public void shouldNotRecordRunTimeWhenChildTimesOut() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+
+    doAnswer(new Answer<Void>() {
+      public Void answer(final InvocationOnMock invocation) throws Throwable {
+        Thread.sleep(100);
+        return null;
+      }
+    }).when(this.child).execute(any(ClassLoader.class),
+        any(ResultCollector.class));
+
+    this.testee.execute(null, this.rc);
+    verify(this.timeoutStrategy, never()).recordTestTime(anyLong(), anyLong());
+  }
+
 }
@@ -0,0 +1,151 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.pitest.functional.Option;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.MappedRingBuffer;
+
+public class SlavePoolTest {
+
+  private final QueuingExecutor       booter    = new QueuingExecutor();
+  private final List<WrappingProcess> processes = new ArrayList<WrappingProcess>();
+
+  @Test
+  public void shouldLaunchSlaveOnDemandWhenNoSpareIsReady() throws Exception {
+    final SlavePool testee = createPool(1);
+    testee.createWorker(null);
+    assertEquals(1, this.processes.size());
+    verify(this.processes.get(0), never()).start();
+  }
+
+  @Test
+  public void shouldHandOutBootedSpare() throws Exception {
+    final SlavePool testee = createPool(1);
+    this.booter.runPending();
+    testee.createWorker(null);
+    assertEquals(1, this.processes.size());
+    verify(this.processes.get(0)).start();
+  }
+
+  @Test
+  public void shouldReplenishSpareOnceTaken() throws Exception {
+    final SlavePool testee = createPool(1);
+    this.booter.runPending();
+    testee.createWorker(null);
+    this.booter.runPending();
+    assertEquals(2, this.processes.size());
+    verify(this.processes.get(1)).start();
+    testee.createWorker(null);
+    assertEquals(2, this.processes.size());
+  }
+
+  @Test
+  public void shouldLaunchFreshSlaveWhenSpareHasDied() throws Exception {
+    final SlavePool testee = createPool(1);
+    this.booter.runPending();
+    final WrappingProcess dead = this.processes.get(0);
+    when(dead.isAlive()).thenReturn(false);
+    testee.createWorker(null);
+    verify(dead).destroy();
+    assertEquals(2, this.processes.size());
+    verify(this.processes.get(1), never()).start();
+  }
+
+  @Test
+  public void shouldDestroySparesOnShutdown() throws Exception {
+    final SlavePool testee = createPool(2);
+    this.booter.runPending();
+    testee.shutdown();
+    verify(this.processes.get(0)).destroy();
+    verify(this.processes.get(1)).destroy();
+  }
+
+  @Test
+  public void shouldDestroySparesThatFinishBootingAfterShutdown()
+      throws Exception {
+    final SlavePool testee = createPool(1);
+    testee.shutdown();
+    this.booter.runPending();
+    verify(this.processes.get(0)).start();
+    verify(this.processes.get(0)).destroy();
+  }
+
+  @Test
+  public void shouldNotBootFurtherSparesAfterShutdown() throws Exception {
+    final SlavePool testee = createPool(1);
+    this.booter.runPending();
+    testee.shutdown();
+    testee.createWorker(null);
+    this.booter.runPending();
+    assertEquals(2, this.processes.size());
+    verify(this.processes.get(1), never()).start();
+  }
+
+  private SlavePool createPool(final int size) {
+    return new SlavePool(ProcessArgs.withClassPath(""), size, this.booter) {
+      @Override
+      WrappingProcess createProcess(final int port) {
+        final WrappingProcess process = mock(WrappingProcess.class);
+        when(process.getResultRing()).thenReturn(
+            Option.<MappedRingBuffer> none());
+        when(process.isAlive()).thenReturn(true);
+        SlavePoolTest.this.processes.add(process);
+        return process;
+      }
+    };
+  }
+
+  private static class QueuingExecutor extends AbstractExecutorService {
+
+    private final List<Runnable> pending = new ArrayList<Runnable>();
+    private boolean              shutdown;
+
+    void runPending() {
+      final List<Runnable> toRun = new ArrayList<Runnable>(this.pending);
+      this.pending.clear();
+      for (final Runnable each : toRun) {
+        each.run();
+      }
+    }
+
+    public void execute(final Runnable command) {
+      this.pending.add(command);
+    }
+
+    public void shutdown() {
+      this.shutdown = true;
+    }
+
+    public List<Runnable> shutdownNow() {
+      // leave queued boots in place, to act as ones already under way
+      this.shutdown = true;
+      return new ArrayList<Runnable>();
+    }
+
+    public boolean isShutdown() {
+      return this.shutdown;
+    }
+
+    public boolean isTerminated() {
+      return this.shutdown;
+    }
+
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+      return true;
+    }
+
+  }
+
+}
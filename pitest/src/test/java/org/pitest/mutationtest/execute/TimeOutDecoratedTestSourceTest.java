@@ -15,7 +15,10 @@
 package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -34,6 +37,8 @@ import org.pitest.mutationtest.execute.TimeOutDecoratedTestSource;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.MultipleTestGroup;
+import org.pitest.testapi.execute.ParallelTestGroup;
 
 public class TimeOutDecoratedTestSourceTest {
 
@@ -45,12 +50,14 @@ public class TimeOutDecoratedTestSourceTest {
   @Mock
   private Reporter                   reporter;
 
+  private final TestUnit             one = makeTestUnit("one");
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
 
-    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
-        Arrays.asList(makeTestUnit("one"), makeTestUnit("two")), this.reporter);
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy, false, 1,
+        Arrays.asList(this.one, makeTestUnit("two")), this.reporter);
   }
 
   @Test
@@ -73,6 +80,68 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldDecorateEachTestWhenNoTimeBudgetPerMutant() {
+    final List<TestUnit> actual = this.testee.translateTests(Arrays
+        .asList(new TestInfo("foo", "one", 42, Option.<ClassName> none(), 0)));
+    assertTrue(actual.get(0) instanceof MutationTimeoutDecorator);
+  }
+
+  @Test
+  public void shouldNotDecorateTestGroupWhenNoTimeBudgetPerMutant() {
+    final TestUnit group = makeTestUnit("group");
+    assertSame(group, this.testee.decorateTestGroup(group,
+        Collections.<TestInfo> emptyList()));
+  }
+
+  @Test
+  public void shouldNotDecorateIndividualTestsWhenTimeBudgetPerMutant() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy, true, 1,
+        Arrays.asList(this.one), this.reporter);
+    final List<TestUnit> actual = this.testee.translateTests(Arrays.asList(
+        new TestInfo("foo", "one", 42, Option.<ClassName> none(), 0),
+        new TestInfo("foo", "bar", 42, Option.<ClassName> none(), 0)));
+    assertEquals(Arrays.asList(this.one), actual);
+  }
+
+  @Test
+  public void shouldAllowTimeForAllTestsWhenTimeBudgetPerMutant() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy, true, 1,
+        Arrays.asList(this.one), this.reporter);
+    when(this.timeoutStrategy.getAllowedTime(50)).thenReturn(1000l);
+    final TestUnit actual = this.testee.decorateTestGroup(
+        makeTestUnit("group"), Arrays.asList(new TestInfo("foo", "one", 42,
+            Option.<ClassName> none(), 0), new TestInfo("foo", "two", 8,
+            Option.<ClassName> none(), 0)));
+    actual.execute(null, null);
+    verify(this.timeoutStrategy).getAllowedTime(50);
+  }
+
+  @Test
+  public void shouldAllowMoreTimeForEachTestWhenSeveralThreadsPerMutant() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy, false,
+        2, Arrays.asList(this.one), this.reporter);
+    when(this.timeoutStrategy.getAllowedTime(84)).thenReturn(1000l);
+    final List<TestUnit> actual = this.testee.translateTests(Arrays
+        .asList(new TestInfo("foo", "one", 42, Option.<ClassName> none(), 0)));
+    actual.get(0).execute(null, null);
+    verify(this.timeoutStrategy).getAllowedTime(84);
+  }
+
+  @Test
+  public void shouldRunTestsInOrderWhenOneThreadPerMutant() {
+    assertTrue(this.testee.groupTests(Arrays.asList(this.one,
+        makeTestUnit("two"))) instanceof MultipleTestGroup);
+  }
+
+  @Test
+  public void shouldRunTestsInParallelWhenSeveralThreadsPerMutant() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy, false,
+        2, Arrays.asList(this.one), this.reporter);
+    assertTrue(this.testee.groupTests(Arrays.asList(this.one,
+        makeTestUnit("two"))) instanceof ParallelTestGroup);
+  }
+
   private TestUnit makeTestUnit(final String name) {
     return new TestUnit() {
       private final Description description = new Description(name);
@@ -41,4 +41,12 @@ public class TimeOutSystemExitSideEffectTest {
 
   }
 
+  @Test
+  public void shouldReportSuppliedExitCode() {
+    final TimeOutSystemExitSideEffect testee = new TimeOutSystemExitSideEffect(
+        this.reporter, ExitCode.GROUP_TIMEOUT);
+    testee.apply();
+    verify(this.reporter).done(ExitCode.GROUP_TIMEOUT);
+  }
+
 }
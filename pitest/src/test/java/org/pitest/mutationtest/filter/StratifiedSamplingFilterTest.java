@@ -0,0 +1,90 @@
+package org.pitest.mutationtest.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class StratifiedSamplingFilterTest {
+
+  private StratifiedSamplingFilter testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new StratifiedSamplingFilter(
+        UnfilteredMutationFilter.INSTANCE, 0);
+  }
+
+  @Test
+  public void shouldNotRemoveMutations() {
+    final List<MutationDetails> mutations = make("mutator", 64);
+    assertEquals(mutations, this.testee.filter(mutations));
+  }
+
+  @Test
+  public void shouldDoubleFractionSampledInEachRound() {
+    this.testee.filter(make("mutator", 64));
+    final int[] expected = { 2, 2, 4, 8, 16, 32 };
+    for (int i = 0; i != expected.length; i++) {
+      assertEquals(expected[i], this.testee.sizeOfRound(i));
+    }
+  }
+
+  @Test
+  public void shouldSampleEachMutatorInProportion() {
+    final List<MutationDetails> mutations = make("a", 32);
+    mutations.addAll(make("b", 32));
+    this.testee.filter(mutations);
+
+    final Set<String> sampled = new HashSet<String>();
+    for (final MutationDetails each : mutations) {
+      if (this.testee.roundOf(each.getId()) == 0) {
+        sampled.add(each.getId().getMutator());
+      }
+    }
+    assertEquals(2, this.testee.sizeOfRound(0));
+    assertEquals(2, sampled.size());
+  }
+
+  @Test
+  public void shouldDrawSameSampleFromSameSeed() {
+    final List<MutationDetails> mutations = make("mutator", 64);
+    final StratifiedSamplingFilter other = new StratifiedSamplingFilter(
+        UnfilteredMutationFilter.INSTANCE, 0);
+    this.testee.filter(mutations);
+    other.filter(mutations);
+    for (final MutationDetails each : mutations) {
+      assertEquals(other.roundOf(each.getId()),
+          this.testee.roundOf(each.getId()));
+    }
+  }
+
+  @Test
+  public void shouldSampleOnlyMutationsLeftByChildFilter() {
+    this.testee = new StratifiedSamplingFilter(
+        new LimitNumberOfMutationPerClassFilter(3), 0);
+    assertEquals(3, this.testee.filter(make("mutator", 64)).size());
+    int sampled = 0;
+    for (int i = 0; i != StratifiedSamplingFilter.ROUNDS; i++) {
+      sampled = sampled + this.testee.sizeOfRound(i);
+    }
+    assertEquals(3, sampled);
+  }
+
+  private List<MutationDetails> make(final String mutator, final int count) {
+    final List<MutationDetails> ms = new ArrayList<MutationDetails>();
+    for (int i = 0; i != count; i++) {
+      ms.add(new MutationDetails(aMutationId().withMutator(mutator)
+          .withIndex(i).build(), "", "", 0, 0));
+    }
+    return ms;
+  }
+
+}
@@ -0,0 +1,198 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+public class CheckpointTest {
+
+  @Rule
+  public TemporaryFolder         testFolder = new TemporaryFolder();
+
+  @Mock
+  private CoverageData           coverage;
+
+  private File                   file;
+
+  private final MutationDetails  mutationA  = mutation(1);
+  private final MutationDetails  mutationB  = mutation(2);
+  private final BlockLocation    block      = new BlockLocation(aLocation()
+                                                .build(), 1);
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    this.file = new File(this.testFolder.newFolder(), "checkpoint");
+  }
+
+  @Test
+  public void shouldDoNothingWhenDisabled() {
+    final Checkpoint testee = Checkpoint.disabled();
+    testee.open("code");
+    testee.recordPlan(plan());
+    testee.recordResult(result(this.mutationA, DetectionStatus.KILLED));
+    assertFalse(testee.restoreCoverage(this.coverage));
+    assertTrue(testee.getCompletedResult(this.mutationA.getId()).hasNone());
+  }
+
+  @Test
+  public void shouldReplayRecordedCoverageWhenResuming() {
+    recordCoverage("code");
+
+    final Checkpoint testee = resume("code");
+    assertTrue(testee.restoreCoverage(this.coverage));
+    verify(this.coverage).registerBlockLines(this.block,
+        Collections.singleton(42));
+    verify(this.coverage).calculateClassCoverage(any(CoverageResult.class));
+  }
+
+  @Test
+  public void shouldNotReplayCoverageWhenNotResuming() {
+    recordCoverage("code");
+
+    final Checkpoint testee = Checkpoint.inFile(this.file, false);
+    testee.open("code");
+    assertFalse(testee.restoreCoverage(this.coverage));
+    verifyZeroInteractions(this.coverage);
+  }
+
+  @Test
+  public void shouldNotResumeFromCheckpointForDifferentCode() {
+    recordCoverage("code");
+    assertFalse(resume("changed code").restoreCoverage(this.coverage));
+  }
+
+  @Test
+  public void shouldNotResumeWhenCoverageWasNotCompleted() {
+    final Checkpoint first = Checkpoint.inFile(this.file, false);
+    first.open("code");
+    first.recordBlockLines(this.block, Collections.singleton(42));
+    first.close();
+
+    assertFalse(resume("code").restoreCoverage(this.coverage));
+  }
+
+  @Test
+  public void shouldProvideResultsRecordedForSamePlan() {
+    recordResults(result(this.mutationA, DetectionStatus.KILLED));
+
+    final Checkpoint testee = resume("code");
+    testee.recordPlan(plan());
+    assertEquals(DetectionStatus.KILLED,
+        testee.getCompletedResult(this.mutationA.getId()).value().getStatus());
+    assertTrue(testee.getCompletedResult(this.mutationB.getId()).hasNone());
+  }
+
+  @Test
+  public void shouldDiscardResultsWhenPlanDiffers() {
+    recordResults(result(this.mutationA, DetectionStatus.KILLED));
+
+    final Checkpoint testee = resume("code");
+    testee.recordPlan(Collections.singletonList(this.mutationA.getId()));
+    assertTrue(testee.getCompletedResult(this.mutationA.getId()).hasNone());
+  }
+
+  @Test
+  public void shouldNotRecordMutationsLeftUnanalysed() {
+    recordResults(result(this.mutationA, DetectionStatus.NOT_STARTED));
+
+    final Checkpoint testee = resume("code");
+    testee.recordPlan(plan());
+    assertTrue(testee.getCompletedResult(this.mutationA.getId()).hasNone());
+  }
+
+  @Test
+  public void shouldSkipEntriesCutShortWhenRunWasKilled() throws IOException {
+    recordResults(result(this.mutationA, DetectionStatus.SURVIVED));
+    final FileOutputStream out = new FileOutputStream(this.file, true);
+    out.write("<result><id>".getBytes("UTF-8"));
+    out.close();
+
+    final Checkpoint resumed = resume("code");
+    resumed.recordPlan(plan());
+    resumed.recordResult(result(this.mutationB, DetectionStatus.KILLED));
+    resumed.close();
+
+    final Checkpoint testee = resume("code");
+    testee.recordPlan(plan());
+    assertTrue(testee.getCompletedResult(this.mutationA.getId()).hasSome());
+    assertTrue(testee.getCompletedResult(this.mutationB.getId()).hasSome());
+  }
+
+  @Test
+  public void shouldRemoveCheckpointWhenDeleted() {
+    recordCoverage("code");
+    final Checkpoint testee = resume("code");
+    testee.delete();
+    assertFalse(this.file.exists());
+  }
+
+  private void recordCoverage(final String fingerprint) {
+    final Checkpoint first = Checkpoint.inFile(this.file, false);
+    first.open(fingerprint);
+    first.recordBlockLines(this.block, Collections.singleton(42));
+    first.recordCoverage(new CoverageResult(new Description("test", "foo"),
+        1, true, Collections.singletonList(this.block)));
+    first.coverageComplete();
+    first.close();
+  }
+
+  private void recordResults(final MutationResult... results) {
+    recordCoverage("code");
+    final Checkpoint first = resume("code");
+    first.recordPlan(plan());
+    for (final MutationResult each : results) {
+      first.recordResult(each);
+    }
+    first.close();
+  }
+
+  private Checkpoint resume(final String fingerprint) {
+    final Checkpoint checkpoint = Checkpoint.inFile(this.file, true);
+    checkpoint.open(fingerprint);
+    return checkpoint;
+  }
+
+  private List<MutationIdentifier> plan() {
+    return Arrays.asList(this.mutationA.getId(), this.mutationB.getId());
+  }
+
+  private static MutationResult result(final MutationDetails mutation,
+      final DetectionStatus status) {
+    return new MutationResult(mutation, new MutationStatusTestPair(1, status));
+  }
+
+  private static MutationDetails mutation(final int index) {
+    return new MutationDetails(aMutationId().withIndex(index).build(), "",
+        "desc", 42, 0);
+  }
+
+}
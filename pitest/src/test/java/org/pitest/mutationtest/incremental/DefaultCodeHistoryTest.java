@@ -4,8 +4,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.math.BigInteger;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,6 +26,7 @@ import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistoryTest {
@@ -109,6 +113,109 @@ public class DefaultCodeHistoryTest {
     assertFalse(this.testee.hasClassChanged(ClassName.fromString("foo")));
   }
 
+  @Test
+  public void shouldTreatMethodsOfNewClassAsChanged() {
+    assertTrue(this.testee.hasMethodChanged(aLocation("notInLastRun").build()));
+  }
+
+  @Test
+  public void shouldTreatMethodWithSameHashInModifiedClassAsUnchanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(2, foo),
+        hashes("method()I", 10, "other()I", 20)));
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(
+        new ClassIdentifier(1, foo), "1", hashes("method()I", 10, "other()I",
+            30))));
+    assertFalse(this.testee.hasMethodChanged(fooMethod()));
+  }
+
+  @Test
+  public void shouldTreatMethodWithDifferentHashAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(2, foo),
+        hashes("method()I", 10)));
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(
+        new ClassIdentifier(1, foo), "1", hashes("method()I", 11))));
+    assertTrue(this.testee.hasMethodChanged(fooMethod()));
+  }
+
+  @Test
+  public void shouldTreatMethodAsChangedWhenStaticInitializerHasChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(2, foo),
+        hashes("method()I", 10, "<clinit>()V", 1)));
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(
+        new ClassIdentifier(1, foo), "1", hashes("method()I", 10,
+            "<clinit>()V", 2))));
+    assertTrue(this.testee.hasMethodChanged(fooMethod()));
+  }
+
+  @Test
+  public void shouldTreatMethodAsChangedWhenNoHistoricHashIsKnown() {
+    final ClassName foo = ClassName.fromString("foo");
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(2, foo),
+        hashes("method()I", 10)));
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(1,
+        foo, "1")));
+    assertTrue(this.testee.hasMethodChanged(fooMethod()));
+  }
+
+  @Test
+  public void shouldTreatMethodAsChangedWhenClassNoLongerFound() {
+    final ClassName foo = ClassName.fromString("foo");
+    when(this.classInfoSource.fetchClass(foo)).thenReturn(
+        Option.<ClassInfo> none());
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(1,
+        foo, "1")));
+    assertTrue(this.testee.hasMethodChanged(fooMethod()));
+  }
+
+  @Test
+  public void shouldTreatMethodCoverageOfNewClassAsChanged() {
+    assertTrue(this.testee.hasCoverageChanged(aLocation("notInLastRun")
+        .build(), BigInteger.ONE));
+  }
+
+  @Test
+  public void shouldTreatMethodCoverageWithSameIdAsUnchanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(
+        1, foo, "1"), "0", Collections.singletonMap("method()I", "a")));
+    assertFalse(this.testee.hasCoverageChanged(fooMethod(),
+        BigInteger.valueOf(10)));
+  }
+
+  @Test
+  public void shouldTreatMethodCoverageWithDifferentIdAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(
+        1, foo, "1"), "0", Collections.singletonMap("method()I", "a")));
+    assertTrue(this.testee.hasCoverageChanged(fooMethod(),
+        BigInteger.valueOf(11)));
+  }
+
+  @Test
+  public void shouldTreatMethodCoverageAsChangedWhenMethodWasNotPreviouslyCovered() {
+    final ClassName foo = ClassName.fromString("foo");
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(1,
+        foo, "1")));
+    assertTrue(this.testee.hasCoverageChanged(fooMethod(), BigInteger.ONE));
+  }
+
+  private Location fooMethod() {
+    return aLocation("foo").withMethod("method").withMethodDescription("()I")
+        .build();
+  }
+
+  private static Map<String, Long> hashes(final Object... methodsAndHashes) {
+    final Map<String, Long> map = new HashMap<String, Long>();
+    for (int i = 0; i != methodsAndHashes.length; i = i + 2) {
+      map.put((String) methodsAndHashes[i],
+          ((Integer) methodsAndHashes[i + 1]).longValue());
+    }
+    return map;
+  }
+
   private void setCurrentClassPath(final HierarchicalClassId currentId) {
     final ClassInfo currentClass = ClassInfoMother.make(currentId.getId());
     when(this.classInfoSource.fetchClass(ClassName.fromString("foo")))
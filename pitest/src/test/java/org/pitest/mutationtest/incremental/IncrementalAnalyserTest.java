@@ -6,6 +6,7 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.*;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -20,6 +21,7 @@ import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
@@ -77,11 +79,47 @@ public class IncrementalAnalyserTest {
     assertEquals(DetectionStatus.SURVIVED, actual.iterator().next().getStatus());
   }
 
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfSurvivedWhenCoverageOfMutatedMethodHasNotChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    final Location location = md.getId().getLocation();
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(true);
+    when(this.coverage.getCoverageIdsForMethods(location.getClassName()))
+        .thenReturn(Collections.singletonMap(location, BigInteger.TEN));
+    when(this.history.hasCoverageChanged(location, BigInteger.TEN))
+        .thenReturn(false);
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(md));
+    assertEquals(DetectionStatus.SURVIVED, actual.iterator().next().getStatus());
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenCoverageOfMutatedMethodHasChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    final Location location = md.getId().getLocation();
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(true);
+    when(this.coverage.getCoverageIdsForMethods(location.getClassName()))
+        .thenReturn(Collections.singletonMap(location, BigInteger.TEN));
+    when(this.history.hasCoverageChanged(location, BigInteger.TEN))
+        .thenReturn(true);
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(md));
+    assertEquals(DetectionStatus.NOT_STARTED, actual.iterator().next()
+        .getStatus());
+  }
+
   @Test
   public void shouldStartPreviousTimedOutMutationsAtAStatusOfNotStartedWhenClassHasChanged() {
     final MutationDetails md = makeMutation("foo");
     setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
     when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(Collections
         .singletonList(md));
 
@@ -101,6 +139,40 @@ public class IncrementalAnalyserTest {
         .getStatus());
   }
 
+  @Test
+  public void shouldStartPreviousTimedOutMutationsAtAStatusOfTimedOutWhenOnlyOtherMethodsHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(md.getId().getLocation())).thenReturn(
+        false);
+    final Collection<MutationResult> actual = this.testee.analyse(Collections
+        .singletonList(md));
+
+    assertEquals(DetectionStatus.TIMED_OUT, actual.iterator().next()
+        .getStatus());
+  }
+
+  @Test
+  public void shouldStartPreviousKilledMutationsAtAStatusOfKilledWhenOnlyOtherMethodsHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    final String killingTest = "fooTest";
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
+
+    final Collection<TestInfo> tests = Collections.singleton(new TestInfo(
+        "TEST_CLASS", killingTest, 0, Option.<ClassName> none(), 0));
+    when(this.coverage.getTestsForClass(any(ClassName.class)))
+        .thenReturn(tests);
+    when(this.history.hasClassChanged(ClassName.fromString("clazz")))
+        .thenReturn(true);
+    when(this.history.hasMethodChanged(md.getId().getLocation())).thenReturn(
+        false);
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.KILLED, actual.getStatus());
+  }
+
   @Test
   public void shouldStartPreviousKilledMutationsAtAStatusOfNotStartedWhenNeitherClassOrTestHasChanged() {
     final MutationDetails md = makeMutation("foo");
@@ -139,6 +211,26 @@ public class IncrementalAnalyserTest {
     assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
   }
 
+  @Test
+  public void shouldRunPreviousKillingTestFirstWhenReanalysingKilledMutation() {
+    final MutationDetails md = makeMutation("foo");
+    final TestInfo otherTest = new TestInfo("TEST_CLASS", "otherTest", 0,
+        Option.<ClassName> none(), 0);
+    final TestInfo killingTest = new TestInfo("TEST_CLASS", "fooTest", 0,
+        Option.<ClassName> none(), 0);
+    md.addTestsInOrder(Arrays.asList(otherTest, killingTest));
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED, "fooTest");
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(true);
+
+    final MutationResult actual = this.testee
+        .analyse(Collections.singletonList(md)).iterator().next();
+
+    assertEquals(DetectionStatus.NOT_STARTED, actual.getStatus());
+    assertEquals(Arrays.asList(killingTest, otherTest), actual.getDetails()
+        .getTestsInOrder());
+  }
+
   private MutationDetails makeMutation(final String method) {
     final MutationIdentifier id =  aMutationId().withLocation(aLocation().withMethod(method)).build();
     return new MutationDetails(id, "file", "desc", 1, 2);
@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class KillHistoryTest {
+
+  private static final ClassName                                  FOO     = ClassName
+                                                                              .fromString("foo");
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> results = new HashMap<MutationIdentifier, MutationStatusTestPair>();
+
+  @Test
+  public void shouldBeEmptyWhenNoMutationsWereKilled() {
+    record("mutator", 1, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED));
+    assertTrue(history().isEmpty());
+  }
+
+  @Test
+  public void shouldGiveNoChanceOfKillingMutationsInClassesWithoutKills() {
+    recordKill("mutator", 1, "test", 1);
+    assertEquals(0, history().probabilityOfKilling("test",
+        ClassName.fromString("bar"), "mutator"), 0.001);
+  }
+
+  @Test
+  public void shouldFavourTestsKillingMutationsOfTheSameMutator() {
+    recordKill("a", 1, "testA", 1);
+    recordKill("a", 2, "testA", 1);
+    recordKill("b", 3, "testB", 1);
+    recordKill("b", 4, "testB", 1);
+
+    final KillHistory testee = history();
+    assertEquals(0.75, testee.probabilityOfKilling("testA", FOO, "a"), 0.001);
+    assertEquals(0.25, testee.probabilityOfKilling("testB", FOO, "a"), 0.001);
+  }
+
+  @Test
+  public void shouldUseKillsForClassWhenMutatorHasNone() {
+    recordKill("a", 1, "testA", 1);
+    recordKill("b", 2, "testB", 1);
+    assertEquals(0.5, history().probabilityOfKilling("testA", FOO, "c"),
+        0.001);
+  }
+
+  @Test
+  public void shouldCalculateTestsRunPerKillFromKillsFoundByRunningTests() {
+    recordKill("a", 1, "testA", 1);
+    recordKill("a", 2, "testA", 4);
+    recordKill("a", 3, "testA", 0);
+    assertEquals(2.5f, history().getTestsRunPerKill().value(), 0.001f);
+  }
+
+  private void recordKill(final String mutator, final int index,
+      final String test, final int testsRun) {
+    record(mutator, index, new MutationStatusTestPair(testsRun,
+        DetectionStatus.KILLED, test));
+  }
+
+  private void record(final String mutator, final int index,
+      final MutationStatusTestPair result) {
+    this.results.put(
+        aMutationId().withLocation(aLocation("foo")).withMutator(mutator)
+            .withIndex(index).build(), result);
+  }
+
+  private KillHistory history() {
+    return KillHistory.fromResults(this.results);
+  }
+
+}
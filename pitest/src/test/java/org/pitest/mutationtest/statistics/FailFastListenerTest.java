@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class FailFastListenerTest {
+
+  private MutationStatisticsListener stats;
+
+  private int                        stops;
+
+  @Before
+  public void setUp() {
+    this.stats = new MutationStatisticsListener();
+  }
+
+  @Test
+  public void shouldStopWhenThresholdCanNoLongerBeMet() {
+    final FailFastListener testee = listener(10, 80);
+    receive(testee, DetectionStatus.SURVIVED, DetectionStatus.SURVIVED);
+    assertEquals(0, this.stops);
+    receive(testee, DetectionStatus.SURVIVED);
+    assertEquals(1, this.stops);
+  }
+
+  @Test
+  public void shouldStopWhenThresholdHasBeenMet() {
+    final FailFastListener testee = listener(10, 40);
+    receive(testee, DetectionStatus.KILLED, DetectionStatus.KILLED,
+        DetectionStatus.SURVIVED, DetectionStatus.KILLED);
+    assertEquals(0, this.stops);
+    receive(testee, DetectionStatus.TIMED_OUT);
+    assertEquals(1, this.stops);
+  }
+
+  @Test
+  public void shouldStopOnlyOnce() {
+    final FailFastListener testee = listener(2, 100);
+    receive(testee, DetectionStatus.SURVIVED);
+    receive(testee, DetectionStatus.NOT_STARTED);
+    assertEquals(1, this.stops);
+  }
+
+  @Test
+  public void shouldNotStopOnceAllMutationsAnalysed() {
+    final FailFastListener testee = listener(1, 50);
+    receive(testee, DetectionStatus.SURVIVED);
+    assertEquals(0, this.stops);
+  }
+
+  @Test
+  public void shouldNotCountSubsumedMutationsTowardsTotal() {
+    final FailFastListener testee = listener(3, 50);
+    receive(testee, DetectionStatus.SUBSUMED, DetectionStatus.KILLED);
+    assertEquals(1, this.stops);
+  }
+
+  @Test
+  public void shouldNotStopWhenNoThresholdSet() {
+    final FailFastListener testee = listener(10, 0);
+    receive(testee, DetectionStatus.KILLED);
+    assertEquals(0, this.stops);
+  }
+
+  private FailFastListener listener(final long total, final int threshold) {
+    return new FailFastListener(this.stats, total, threshold, new SideEffect() {
+      public void apply() {
+        FailFastListenerTest.this.stops++;
+      }
+    });
+  }
+
+  private void receive(final FailFastListener testee,
+      final DetectionStatus... statuses) {
+    for (final DetectionStatus each : statuses) {
+      final ClassMutationResults results = new ClassMutationResults(
+          Arrays.asList(new MutationResult(MutationTestResultMother
+              .createDetails("foo.java"), new MutationStatusTestPair(1, each))));
+      this.stats.handleMutationResult(results);
+      testee.handleMutationResult(results);
+    }
+  }
+
+}
@@ -113,6 +113,78 @@ public class MutationStatisticsTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[1]);
   }
 
+  @Test
+  public void shouldReportTimeSpentOnTimedOutMutations() {
+    this.testee.registerResults(Arrays.asList(
+        makeResultTakingTime(DetectionStatus.TIMED_OUT, 4000),
+        makeResultTakingTime(DetectionStatus.TIMED_OUT, 3000),
+        makeResultTakingTime(DetectionStatus.KILLED, 5000)));
+    assertEquals(7000, this.testee.getTimeSpentOnTimeOuts());
+    final String[] actual = generateReportLines();
+    assertEquals(">> Timed out mutations cost 7 seconds", actual[2]);
+  }
+
+  @Test
+  public void shouldNotReportTimeSpentOnTimedOutMutationsWhenNoneTimedOut() {
+    this.testee.registerResults(Arrays.asList(makeResultTakingTime(
+        DetectionStatus.SURVIVED, 5000)));
+    assertEquals(2, generateReportLines().length);
+  }
+
+  @Test
+  public void shouldReportTestsSavedByRunningMutantsInGroups() {
+    this.testee.registerResults(Arrays.asList(
+        makeResultSavingTests(DetectionStatus.SURVIVED, 5),
+        makeResultSavingTests(DetectionStatus.KILLED, -2)));
+    assertEquals(3, this.testee.getTestsSaved());
+    final String[] actual = generateReportLines();
+    assertEquals(">> Running tests against groups of mutants saved 3 tests",
+        actual[2]);
+  }
+
+  @Test
+  public void shouldNotReportTestsSavedWhenNoMutantsGrouped() {
+    this.testee.registerResults(Arrays.asList(makeResult(DetectionStatus.KILLED)));
+    assertEquals(2, generateReportLines().length);
+  }
+
+  @Test
+  public void shouldReportTestsRunPerKilledMutation() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.KILLED, 1),
+        makeResult(DetectionStatus.KILLED, 4),
+        makeResult(DetectionStatus.SURVIVED, 10)));
+    assertEquals(2.5f, this.testee.getTestsRunPerKill().value(), 0.001f);
+    final String[] actual = generateReportLines();
+    assertEquals(">> Ran 2.5 tests per killed mutation", actual[2]);
+  }
+
+  @Test
+  public void shouldNotCountKillsFromEarlierRunsTowardsTestsRunPerKill() {
+    this.testee.registerResults(Arrays.asList(makeResult(
+        DetectionStatus.KILLED, 0)));
+    assertTrue(this.testee.getTestsRunPerKill().hasNone());
+  }
+
+  @Test
+  public void shouldUseEstimatedPercentageDetectedWhenSampled() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.KILLED),
+        makeResult(DetectionStatus.NOT_STARTED)));
+    this.testee.registerEstimate(ScoreEstimate.fromSample(3, 4, 4));
+    assertEquals(75, this.testee.getPercentageDetected());
+  }
+
+  @Test
+  public void shouldReportEstimatedScore() {
+    this.testee.registerResults(Arrays.asList(makeResult(DetectionStatus.KILLED)));
+    this.testee.registerEstimate(ScoreEstimate.fromSample(3, 4, 4));
+    final String[] actual = generateReportLines();
+    assertEquals(
+        ">> Estimated 75% killed (95% confidence interval 75% to 75%) from a sample of 4 of 4 mutations",
+        actual[1]);
+  }
+
   private F<Score, Boolean> hasResultForMutator(final String mutator) {
     return new F<Score, Boolean>() {
 
@@ -134,6 +206,20 @@ public class MutationStatisticsTest {
     return mr;
   }
 
+  private MutationResult makeResultTakingTime(final DetectionStatus status,
+      final long timeSpent) {
+    return new MutationResult(
+        MutationTestResultMother.createDetails("foo.java"),
+        new MutationStatusTestPair(1, status, null, timeSpent));
+  }
+
+  private MutationResult makeResultSavingTests(final DetectionStatus status,
+      final int testsSaved) {
+    return new MutationResult(
+        MutationTestResultMother.createDetails("foo.java"),
+        new MutationStatusTestPair(1, status, null, 0, testsSaved));
+  }
+
   private String[] generateReportLines() {
     final ByteArrayOutputStream s = new ByteArrayOutputStream();
     final PrintStream out = new PrintStream(s);
@@ -0,0 +1,155 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.process.LaunchOptionsMother.suspendedUntilDebuggerAttaches;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.SystemTest;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.KnownStatusMutationTestUnit;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationTestUnit;
+import org.pitest.mutationtest.build.WorkerFactory;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+import org.pitest.mutationtest.filter.UnfilteredMutationFilter;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.testapi.Configuration;
+
+@Category(SystemTest.class)
+public class SamplingListenerSystemTest {
+
+  private final List<MutationResult> results = new ArrayList<MutationResult>();
+
+  private MutationStatisticsListener stats;
+  private StratifiedSamplingFilter   sample;
+  private List<MutationDetails>      mutations;
+  private WorkerFactory              workerFactory;
+  private JarCreatingJarFinder       agent;
+
+  @Mock
+  private Configuration              config;
+
+  @Mock
+  private TimeoutLengthStrategy      timeout;
+
+  @Mock
+  private MutationEngine             engine;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.stats = new MutationStatisticsListener();
+    this.sample = new StratifiedSamplingFilter(
+        UnfilteredMutationFilter.INSTANCE, 0);
+    this.mutations = new ArrayList<MutationDetails>();
+    for (int i = 0; i != 64; i++) {
+      this.mutations.add(coveredMutation(i));
+    }
+    this.sample.filter(this.mutations);
+
+    this.agent = new JarCreatingJarFinder();
+    this.workerFactory = new WorkerFactory(null, this.config,
+        new MutationConfig(this.engine,
+            suspendedUntilDebuggerAttaches(this.agent)),
+        this.timeout, false, false, 64, 1, 0, false,
+        new ClassPath().getLocalClassPath());
+  }
+
+  @After
+  public void tearDown() {
+    this.workerFactory.shutdown();
+    this.agent.close();
+  }
+
+  @Test(timeout = 30000)
+  public void shouldStopWhileUnitsAreStillRunning() {
+    final List<MutationResult> firstRound = new ArrayList<MutationResult>();
+    final List<MutationDetails> laterRounds = new ArrayList<MutationDetails>();
+    for (final MutationDetails each : this.mutations) {
+      if (this.sample.roundOf(each.getId()) == 0) {
+        firstRound.add(new MutationResult(each, new MutationStatusTestPair(1,
+            DetectionStatus.KILLED)));
+      } else {
+        laterRounds.add(each);
+      }
+    }
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Arrays.<MutationResultListener> asList(this.stats, new SamplingListener(
+            this.stats, this.sample, 70, stop()), recordResults()));
+    final MutationAnalysisUnit known = new KnownStatusMutationTestUnit(
+        firstRound);
+    final MutationAnalysisUnit running = new MutationTestUnit(laterRounds,
+        Collections.singletonList(ClassName.fromString("foo")),
+        this.workerFactory);
+    testee.run(Arrays.asList(known, running));
+
+    assertTrue(this.workerFactory.isStopped());
+    assertEquals(firstRound.size(), this.stats.getStatistics().getEstimate()
+        .value().getSampled());
+    assertEquals(this.mutations.size(), this.results.size());
+    for (final MutationResult each : this.results.subList(firstRound.size(),
+        this.results.size())) {
+      assertEquals(DetectionStatus.NOT_STARTED, each.getStatus());
+    }
+  }
+
+  private static MutationDetails coveredMutation(final int index) {
+    final MutationDetails md = new MutationDetails(aMutationId()
+        .withIndex(index).build(), "file", "desc", 1, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("foo", "atest",
+        1, Option.<ClassName> none(), 0)));
+    return md;
+  }
+
+  private SideEffect stop() {
+    return new SideEffect() {
+      public void apply() {
+        SamplingListenerSystemTest.this.workerFactory.stop();
+      }
+    };
+  }
+
+  private MutationResultListener recordResults() {
+    return new MutationResultListener() {
+
+      public void runStart() {
+      }
+
+      public void handleMutationResult(final ClassMutationResults results) {
+        SamplingListenerSystemTest.this.results.addAll(results.getMutations());
+      }
+
+      public void runEnd() {
+      }
+
+    };
+  }
+
+}
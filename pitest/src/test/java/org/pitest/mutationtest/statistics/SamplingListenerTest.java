@@ -0,0 +1,131 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.filter.StratifiedSamplingFilter;
+import org.pitest.mutationtest.filter.UnfilteredMutationFilter;
+
+public class SamplingListenerTest {
+
+  private MutationStatisticsListener stats;
+
+  private StratifiedSamplingFilter   sample;
+
+  private List<MutationDetails>      mutations;
+
+  private int                        stops;
+
+  @Before
+  public void setUp() {
+    this.stats = new MutationStatisticsListener();
+    this.sample = new StratifiedSamplingFilter(
+        UnfilteredMutationFilter.INSTANCE, 0);
+    this.mutations = new ArrayList<MutationDetails>();
+    for (int i = 0; i != 64; i++) {
+      this.mutations.add(new MutationDetails(aMutationId().withIndex(i)
+          .build(), "", "", 0, 0));
+    }
+    this.sample.filter(this.mutations);
+  }
+
+  @Test
+  public void shouldStopOnceIntervalIsNarrowEnough() {
+    final SamplingListener testee = listener(70);
+    receive(testee, inRound(0), DetectionStatus.KILLED);
+    assertEquals(1, this.stops);
+    assertEquals(2, estimate().getSampled());
+    assertEquals(100, estimate().getPercentageDetected());
+  }
+
+  @Test
+  public void shouldNotEstimateUntilRoundIsComplete() {
+    final SamplingListener testee = listener(100);
+    receive(testee, inRound(0).subList(0, 1), DetectionStatus.KILLED);
+    assertEquals(0, this.stops);
+    assertTrue(this.stats.getStatistics().getEstimate().hasNone());
+  }
+
+  @Test
+  public void shouldHoldResultsForLaterRoundsUntilEarlierRoundsComplete() {
+    final SamplingListener testee = listener(1);
+    receive(testee, inRound(1), DetectionStatus.SURVIVED);
+    assertTrue(this.stats.getStatistics().getEstimate().hasNone());
+    receive(testee, inRound(0), DetectionStatus.KILLED);
+    assertEquals(4, estimate().getSampled());
+    assertEquals(50, estimate().getPercentageDetected());
+  }
+
+  @Test
+  public void shouldNotCompleteRoundWithMutationsLeftUnanalysed() {
+    final SamplingListener testee = listener(100);
+    receive(testee, inRound(0).subList(0, 1), DetectionStatus.KILLED);
+    receive(testee, inRound(0).subList(1, 2), DetectionStatus.NOT_STARTED);
+    assertTrue(this.stats.getStatistics().getEstimate().hasNone());
+  }
+
+  @Test
+  public void shouldLeaveSubsumedMutationsOutOfTheSample() {
+    final SamplingListener testee = listener(100);
+    receive(testee, inRound(0).subList(0, 1), DetectionStatus.SUBSUMED);
+    receive(testee, inRound(0).subList(1, 2), DetectionStatus.KILLED);
+    assertEquals(1, estimate().getSampled());
+    assertEquals(63, estimate().getPopulation());
+  }
+
+  @Test
+  public void shouldNotStopOnceEveryMutationAnalysed() {
+    final SamplingListener testee = listener(0);
+    receive(testee, this.mutations, DetectionStatus.KILLED);
+    assertEquals(0, this.stops);
+    assertEquals(64, estimate().getSampled());
+  }
+
+  private ScoreEstimate estimate() {
+    return this.stats.getStatistics().getEstimate().value();
+  }
+
+  private List<MutationDetails> inRound(final int round) {
+    final List<MutationDetails> inRound = new ArrayList<MutationDetails>();
+    for (final MutationDetails each : this.mutations) {
+      if (this.sample.roundOf(each.getId()) == round) {
+        inRound.add(each);
+      }
+    }
+    return inRound;
+  }
+
+  private SamplingListener listener(final int intervalWidth) {
+    return new SamplingListener(this.stats, this.sample, intervalWidth,
+        new SideEffect() {
+          public void apply() {
+            SamplingListenerTest.this.stops++;
+          }
+        });
+  }
+
+  private void receive(final SamplingListener testee,
+      final List<MutationDetails> details, final DetectionStatus status) {
+    for (final MutationDetails each : details) {
+      final ClassMutationResults results = new ClassMutationResults(
+          Collections.singletonList(new MutationResult(each,
+              new MutationStatusTestPair(1, status))));
+      this.stats.handleMutationResult(results);
+      testee.handleMutationResult(results);
+    }
+  }
+
+}
@@ -0,0 +1,50 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ScoreEstimateTest {
+
+  @Test
+  public void shouldEstimateScoreOfSample() {
+    assertEquals(75, ScoreEstimate.fromSample(30, 40, 1000)
+        .getPercentageDetected());
+  }
+
+  @Test
+  public void shouldGiveWilsonIntervalForLargePopulation() {
+    final ScoreEstimate testee = ScoreEstimate.fromSample(50, 100, 1000000000);
+    assertEquals(19.2, testee.getWidth(), 0.1);
+    assertEquals(40, testee.getLowerPercentage());
+    assertEquals(60, testee.getUpperPercentage());
+  }
+
+  @Test
+  public void shouldNarrowIntervalAsSampleGrows() {
+    assertTrue(ScoreEstimate.fromSample(500, 1000, 10000).getWidth() < ScoreEstimate
+        .fromSample(50, 100, 10000).getWidth());
+  }
+
+  @Test
+  public void shouldNarrowIntervalWhenSampleIsMostOfPopulation() {
+    assertTrue(ScoreEstimate.fromSample(50, 100, 110).getWidth() < ScoreEstimate
+        .fromSample(50, 100, 100000).getWidth());
+  }
+
+  @Test
+  public void shouldGiveIntervalWithinBoundsForPerfectScore() {
+    final ScoreEstimate testee = ScoreEstimate.fromSample(10, 10, 1000);
+    assertEquals(100, testee.getUpperPercentage());
+    assertTrue(testee.getLowerPercentage() < 100);
+  }
+
+  @Test
+  public void shouldGiveExactScoreWhenEveryMutationSampled() {
+    final ScoreEstimate testee = ScoreEstimate.fromSample(30, 40, 40);
+    assertEquals(0, testee.getWidth(), 0);
+    assertEquals(75, testee.getLowerPercentage());
+  }
+
+}
@@ -96,6 +96,14 @@ public class ScoreTest {
     assertEquals(2, this.testee.getTotalMutations());
   }
 
+  @Test
+  public void shouldNotCountSubsumedMutationsInTotal() {
+    this.testee.registerResult(DetectionStatus.KILLED);
+    this.testee.registerResult(DetectionStatus.SUBSUMED);
+    assertEquals(1, this.testee.getTotalMutations());
+    assertEquals(100, this.testee.getPercentageDetected());
+  }
+
   @Test
   public void shouldCalculateTotalNumberOfDetectedMutationsWhenSomeRegistered() {
     this.testee.registerResult(DetectionStatus.KILLED);
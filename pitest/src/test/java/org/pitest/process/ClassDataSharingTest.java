@@ -0,0 +1,124 @@
+package org.pitest.process;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.process.ClassDataSharing.Launch;
+
+public class ClassDataSharingTest {
+
+  private static final String LIST_OPTION  = "-XX:DumpLoadedClassList=";
+  private static final String SHARE_OPTION = "-XX:SharedArchiveFile=";
+
+  @Rule
+  public TemporaryFolder      testFolder   = new TemporaryFolder();
+
+  private ClassDataSharing    testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.testee = ClassDataSharing.inDirectory(this.testFolder.newFolder());
+  }
+
+  @Test
+  public void shouldAddNoOptionsWhenDisabled() {
+    final Launch actual = prepare(ClassDataSharing.disabled(), "cp");
+    assertTrue(actual.getJvmArgs().isEmpty());
+    assertFalse(actual.isRecording());
+  }
+
+  @Test
+  public void shouldRecordClassesLoadedByFirstSlaveLaunched() {
+    final Launch actual = prepare(this.testee, "cp");
+    assertTrue(actual.isRecording());
+    assertFalse(actual.isShared());
+    assertTrue(option(actual, LIST_OPTION) != null);
+  }
+
+  @Test
+  public void shouldNotShareOrRecordWhileAnotherSlaveRecords() {
+    prepare(this.testee, "cp");
+    final Launch actual = prepare(this.testee, "cp");
+    assertTrue(actual.getJvmArgs().isEmpty());
+  }
+
+  @Test
+  public void shouldShareArchiveOnceWritten() throws IOException {
+    final Launch first = prepare(this.testee, "cp");
+    final File archive = new File(option(first, LIST_OPTION).replaceAll(
+        "\\.[0-9]+\\.classlist$", ""));
+    write(archive);
+
+    final Launch actual = prepare(this.testee, "cp");
+    assertTrue(actual.isShared());
+    assertEquals(archive.getAbsolutePath(), option(actual, SHARE_OPTION));
+  }
+
+  @Test
+  public void shouldRemoveClassListOnceSlaveHasExited() throws IOException {
+    final Launch first = cds("/does/not/exist/java", "cp");
+    final File classList = new File(option(first, LIST_OPTION));
+    write(classList);
+    this.testee.exited(first);
+
+    assertFalse(classList.exists());
+    assertFalse(cds("/does/not/exist/java", "cp").isShared());
+  }
+
+  @Test
+  public void shouldKeepSeparateArchivesForDifferentClassPaths() {
+    prepare(this.testee, "cp");
+    assertTrue(prepare(this.testee, "another cp").isRecording());
+  }
+
+  @Test
+  public void shouldReportAverageStartupTimes() {
+    this.testee.recordStartup(prepare(this.testee, "cp"), 100);
+    this.testee.recordStartup(prepare(this.testee, "cp"), 300);
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    this.testee.report(new PrintStream(bos));
+    assertTrue(bos.toString().contains(
+        "> slave startup : 200 ms average over 2 slaves"));
+  }
+
+  private Launch cds(final String javaExecutable, final String classPath) {
+    return this.testee.prepare(javaExecutable, String.class, classPath,
+        Collections.<String> emptyList());
+  }
+
+  private Launch prepare(final ClassDataSharing cds, final String classPath) {
+    return cds.prepare("java", String.class, classPath,
+        Collections.<String> emptyList());
+  }
+
+  private String option(final Launch launch, final String prefix) {
+    final List<String> args = launch.getJvmArgs();
+    for (final String each : args) {
+      if (each.startsWith(prefix)) {
+        return each.substring(prefix.length());
+      }
+    }
+    return null;
+  }
+
+  private void write(final File file) throws IOException {
+    final FileOutputStream fos = new FileOutputStream(file);
+    fos.write(1);
+    fos.close();
+    assertEquals(1, file.length());
+  }
+
+}
@@ -0,0 +1,37 @@
+package org.pitest.process;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Collections;
+
+import org.pitest.util.Unchecked;
+
+public class LaunchOptionsMother {
+
+  /**
+   * Options for slaves that are held before their main method runs, waiting
+   * for a debugger that never attaches, so that they are still booting
+   * whenever they are stopped
+   */
+  public static LaunchOptions suspendedUntilDebuggerAttaches(
+      final JavaAgent agent) {
+    return new LaunchOptions(agent, new DefaultJavaExecutableLocator(),
+        Collections
+            .singletonList("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address="
+                + freePort()));
+  }
+
+  private static int freePort() {
+    try {
+      final ServerSocket socket = new ServerSocket(0);
+      try {
+        return socket.getLocalPort();
+      } finally {
+        socket.close();
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -0,0 +1,134 @@
+package org.pitest.testapi.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+import org.junit.Test;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestResult;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.containers.ConcreteResultCollector;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.PitError;
+
+public class ParallelTestGroupTest {
+
+  private final List<TestResult> results = new ArrayList<TestResult>();
+
+  private final ResultCollector  rc      = new ExitingResultCollector(
+                                             new ConcreteResultCollector(
+                                                 this.results));
+
+  @Test
+  public void shouldExecuteAllChildren() {
+    final ParallelTestGroup testee = new ParallelTestGroup(Arrays.asList(
+        passing("one"), passing("two"), passing("three")), 2);
+    testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    assertEquals(3, this.results.size());
+  }
+
+  @Test
+  public void shouldRunChildrenAtTheSameTime() {
+    final CountDownLatch started = new CountDownLatch(2);
+    final ParallelTestGroup testee = new ParallelTestGroup(Arrays.asList(
+        waitingFor("one", started), waitingFor("two", started)), 2);
+    testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    assertEquals(2, this.results.size());
+    for (final TestResult each : this.results) {
+      assertEquals(null, each.getThrowable());
+    }
+  }
+
+  @Test
+  public void shouldStartNoFurtherChildrenOnceResultCollectorRequestsStop() {
+    final ParallelTestGroup testee = new ParallelTestGroup(Arrays.asList(
+        failing("one"), passing("two"), passing("three")), 1);
+    testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+    assertEquals(1, this.results.size());
+  }
+
+  @Test
+  public void shouldRethrowErrorsFromChildren() {
+    final ParallelTestGroup testee = new ParallelTestGroup(Arrays.asList(
+        throwing("one"), passing("two")), 2);
+    try {
+      testee.execute(IsolationUtils.getContextClassLoader(), this.rc);
+      fail();
+    } catch (final PitError ex) {
+      // pass
+    }
+  }
+
+  @Test
+  public void shouldObeyHashcodeEqualsContract() {
+    EqualsVerifier.forClass(ParallelTestGroup.class).verify();
+  }
+
+  private static TestUnit passing(final String name) {
+    return new TestStub(name) {
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        rc.notifyEnd(getDescription());
+      }
+    };
+  }
+
+  private static TestUnit failing(final String name) {
+    return new TestStub(name) {
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        rc.notifyEnd(getDescription(), new AssertionError());
+      }
+    };
+  }
+
+  private static TestUnit throwing(final String name) {
+    return new TestStub(name) {
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        throw new IllegalStateException();
+      }
+    };
+  }
+
+  private static TestUnit waitingFor(final String name,
+      final CountDownLatch started) {
+    return new TestStub(name) {
+      @Override
+      public void execute(final ClassLoader loader, final ResultCollector rc) {
+        started.countDown();
+        try {
+          if (started.await(10, TimeUnit.SECONDS)) {
+            rc.notifyEnd(getDescription());
+          } else {
+            rc.notifyEnd(getDescription(), new AssertionError("ran alone"));
+          }
+        } catch (final InterruptedException e) {
+          rc.notifyEnd(getDescription(), e);
+        }
+      }
+    };
+  }
+
+  private static abstract class TestStub implements TestUnit {
+    private final Description description;
+
+    TestStub(final String name) {
+      this.description = new Description(name);
+    }
+
+    public Description getDescription() {
+      return this.description;
+    }
+  }
+
+}
@@ -0,0 +1,216 @@
+package org.pitest.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+
+public class CommunicationHubTest {
+
+  private final CommunicationHub testee   = CommunicationHub.shared();
+
+  private final List<String>     received = new CopyOnWriteArrayList<String>();
+
+  private ServerSocket           socket;
+  private Socket                 slave;
+
+  @Before
+  public void setUp() {
+    this.socket = new SocketFinder().getNextAvailableServerSocket();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    if (this.slave != null) {
+      this.slave.close();
+    }
+    this.socket.close();
+  }
+
+  @Test
+  public void shouldReportTheExitCodeSentByTheSlave() throws Exception {
+    final Future<ExitCode> actual = listen(sendNothing());
+    connect();
+    send(done(ExitCode.TIMEOUT));
+    assertEquals(ExitCode.TIMEOUT, actual.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldSendInitialDataToSlave() throws Exception {
+    listen(new SideEffect1<SafeDataOutputStream>() {
+      public void apply(final SafeDataOutputStream dos) {
+        dos.writeString("hello");
+        dos.flush();
+      }
+    });
+    connect();
+    assertEquals("hello",
+        new SafeDataInputStream(this.slave.getInputStream()).readString());
+  }
+
+  @Test
+  public void shouldPassMessagesSplitAcrossReadsToReceiverWhole()
+      throws Exception {
+    final Future<ExitCode> actual = listen(sendNothing());
+    connect();
+
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(bos);
+    dos.writeByte(Id.DESCRIBE);
+    dos.writeString("a message");
+    final byte[] message = bos.toByteArray();
+
+    final OutputStream os = this.slave.getOutputStream();
+    os.write(message, 0, 3);
+    os.flush();
+    Thread.sleep(50);
+    os.write(message, 3, message.length - 3);
+    send(done(ExitCode.OK));
+
+    assertEquals(ExitCode.OK, actual.get(10, TimeUnit.SECONDS));
+    assertEquals(1, this.received.size());
+    assertEquals("a message", this.received.get(0));
+  }
+
+  @Test
+  public void shouldFailWhenSlaveDisconnectsBeforeReportingExitCode()
+      throws Exception {
+    final Future<ExitCode> actual = listen(sendNothing());
+    connect();
+    this.slave.close();
+    try {
+      actual.get(10, TimeUnit.SECONDS);
+      fail();
+    } catch (final ExecutionException ex) {
+      assertTrue(ex.getCause() instanceof PitError);
+    }
+  }
+
+  @Test
+  public void shouldPassStreamOutputToHandler() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final Monitor m = this.testee.drain(
+        new ByteArrayInputStream("output".getBytes()),
+        new SideEffect1<String>() {
+          public void apply(final String a) {
+            CommunicationHubTest.this.received.add(a);
+            latch.countDown();
+          }
+        });
+    m.requestStart();
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    m.requestStop();
+    assertEquals("output", this.received.get(0));
+  }
+
+  private Future<ExitCode> listen(
+      final SideEffect1<SafeDataOutputStream> sendInitialData) {
+    return this.testee.listen(this.socket, sendInitialData, receiver());
+  }
+
+  private ReceiveStrategy receiver() {
+    return new ReceiveStrategy() {
+      public void apply(final byte control, final SafeDataInputStream is) {
+        CommunicationHubTest.this.received.add(is.readString());
+      }
+    };
+  }
+
+  @Test
+  public void shouldReadMessagesFromRingBufferWhenSupplied() throws Exception {
+    final File file = File.createTempFile("pit", ".ring");
+    try {
+      final MappedRingBuffer ring = MappedRingBuffer.create(file, 1024);
+      final Future<ExitCode> actual = this.testee.listen(this.socket,
+          sendNothing(), receiver(), Option.some(ring));
+      connect();
+
+      final OutputStream os = MappedRingBuffer.open(file).outputStream();
+      final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      final SafeDataOutputStream dos = new SafeDataOutputStream(bos);
+      dos.writeByte(Id.DESCRIBE);
+      dos.writeString("from ring");
+      os.write(bos.toByteArray());
+      os.write(done(ExitCode.OK));
+      this.slave.close();
+
+      assertEquals(ExitCode.OK, actual.get(10, TimeUnit.SECONDS));
+      assertEquals("from ring", this.received.get(0));
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void shouldFailConversationWhenRingDataCannotBeDecoded()
+      throws Exception {
+    final File file = File.createTempFile("pit", ".ring");
+    try {
+      final MappedRingBuffer ring = MappedRingBuffer.create(file, 1024);
+      final Future<ExitCode> actual = this.testee.listen(this.socket,
+          sendNothing(), new ReceiveStrategy() {
+            public void apply(final byte control, final SafeDataInputStream is) {
+              throw new PitError("cannot decode");
+            }
+          }, Option.some(ring));
+      connect();
+
+      final OutputStream os = MappedRingBuffer.open(file).outputStream();
+      os.write(new byte[] { Id.DESCRIBE });
+      try {
+        actual.get(10, TimeUnit.SECONDS);
+        fail();
+      } catch (final ExecutionException ex) {
+        assertTrue(ex.getCause() instanceof PitError);
+      }
+      this.slave.setSoTimeout(10000);
+      assertEquals(-1, this.slave.getInputStream().read());
+    } finally {
+      file.delete();
+    }
+  }
+
+  private void connect() throws IOException {
+    this.slave = new Socket("localhost", this.socket.getLocalPort());
+  }
+
+  private void send(final byte[] bytes) throws IOException {
+    this.slave.getOutputStream().write(bytes);
+    this.slave.getOutputStream().flush();
+  }
+
+  private static byte[] done(final ExitCode code) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(bos);
+    dos.writeByte(Id.DONE);
+    dos.writeInt(code.getCode());
+    return bos.toByteArray();
+  }
+
+  private static SideEffect1<SafeDataOutputStream> sendNothing() {
+    return new SideEffect1<SafeDataOutputStream>() {
+      public void apply(final SafeDataOutputStream a) {
+      }
+    };
+  }
+
+}
@@ -0,0 +1,90 @@
+package org.pitest.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedRingBufferTest {
+
+  private File             file;
+  private MappedRingBuffer testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.file = File.createTempFile("pit", ".ring");
+    this.testee = MappedRingBuffer.create(this.file, 8);
+  }
+
+  @After
+  public void tearDown() {
+    this.file.delete();
+  }
+
+  @Test
+  public void shouldReadNothingWhenNothingWritten() {
+    assertEquals(0, this.testee.read(new byte[8]));
+  }
+
+  @Test
+  public void shouldReadBytesWrittenThroughSeparateMapping()
+      throws IOException {
+    final OutputStream os = MappedRingBuffer.open(this.file).outputStream();
+    os.write(new byte[] { 1, 2, 3 });
+    final byte[] actual = new byte[8];
+    assertEquals(3, this.testee.read(actual));
+    assertArrayEquals(new byte[] { 1, 2, 3 }, copyOf(actual, 3));
+  }
+
+  @Test
+  public void shouldWrapAroundEndOfBuffer() throws IOException {
+    final OutputStream os = this.testee.outputStream();
+    final byte[] actual = new byte[8];
+    os.write(new byte[] { 1, 2, 3, 4, 5, 6 });
+    this.testee.read(actual);
+    os.write(new byte[] { 7, 8, 9, 10, 11 });
+    assertEquals(5, this.testee.read(actual));
+    assertArrayEquals(new byte[] { 7, 8, 9, 10, 11 }, copyOf(actual, 5));
+  }
+
+  @Test
+  public void shouldWaitForSpaceWhenFull() throws Exception {
+    final byte[] data = new byte[100];
+    for (int i = 0; i != data.length; i++) {
+      data[i] = (byte) i;
+    }
+    final Thread writer = new Thread() {
+      @Override
+      public void run() {
+        try {
+          MappedRingBufferTest.this.testee.outputStream().write(data);
+        } catch (final IOException e) {
+          throw Unchecked.translateCheckedException(e);
+        }
+      }
+    };
+    writer.start();
+
+    final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    final byte[] buf = new byte[3];
+    while (actual.size() != data.length) {
+      actual.write(buf, 0, this.testee.read(buf));
+    }
+    writer.join();
+    assertArrayEquals(data, actual.toByteArray());
+  }
+
+  private static byte[] copyOf(final byte[] bytes, final int length) {
+    final byte[] copy = new byte[length];
+    System.arraycopy(bytes, 0, copy, 0, length);
+    return copy;
+  }
+
+}
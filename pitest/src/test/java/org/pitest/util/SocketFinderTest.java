@@ -14,6 +14,7 @@
  */
 package org.pitest.util;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -38,4 +39,13 @@ public class SocketFinderTest {
     socket.close();
   }
 
+  @Test
+  public void shouldProvideSocketsOnDistinctPorts() throws IOException {
+    final ServerSocket first = this.testee.getNextAvailableServerSocket();
+    final ServerSocket second = this.testee.getNextAvailableServerSocket();
+    assertFalse(first.getLocalPort() == second.getLocalPort());
+    first.close();
+    second.close();
+  }
+
 }